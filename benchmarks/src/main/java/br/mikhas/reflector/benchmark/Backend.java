@@ -0,0 +1,92 @@
+package br.mikhas.reflector.benchmark;
+
+import br.mikhas.reflector.config.AdaptiveReflectionFactory;
+import br.mikhas.reflector.config.InvokerLayout;
+import br.mikhas.reflector.config.JavassistReflectionFactory;
+import br.mikhas.reflector.config.JdkReflectionFactory;
+import br.mikhas.reflector.config.LambdaReflectionFactory;
+import br.mikhas.reflector.config.MethodHandleReflectionFactory;
+import br.mikhas.reflector.config.ReflectionFactory;
+import br.mikhas.reflector.config.UnsafeReflectionFactory;
+import br.mikhas.reflector.config.VarHandleReflectionFactory;
+
+/**
+ * The {@link ReflectionFactory} implementations compared by the benchmarks.
+ * <p>
+ * Benchmarks take the backend as a JMH <code>@Param</code>, so every
+ * measurement is reported once per backend.
+ */
+public enum Backend {
+
+	JDK {
+		@Override
+		public ReflectionFactory factory() {
+			return new JdkReflectionFactory();
+		}
+	},
+
+	UNSAFE {
+		@Override
+		public ReflectionFactory factory() {
+			return new UnsafeReflectionFactory();
+		}
+	},
+
+	JAVASSIST {
+		@Override
+		public ReflectionFactory factory() {
+			return new JavassistReflectionFactory();
+		}
+	},
+
+	JAVASSIST_DISPATCHER {
+		@Override
+		public ReflectionFactory factory() {
+			return new JavassistReflectionFactory(InvokerLayout.PER_CLASS);
+		}
+	},
+
+	METHOD_HANDLE {
+		@Override
+		public ReflectionFactory factory() {
+			return new MethodHandleReflectionFactory();
+		}
+	},
+
+	LAMBDA {
+		@Override
+		public ReflectionFactory factory() {
+			return new LambdaReflectionFactory();
+		}
+	},
+
+	VAR_HANDLE {
+		@Override
+		public ReflectionFactory factory() {
+			return new VarHandleReflectionFactory();
+		}
+	},
+
+	ADAPTIVE {
+		@Override
+		public ReflectionFactory factory() {
+			return new AdaptiveReflectionFactory();
+		}
+	},
+
+	BACKGROUND {
+		@Override
+		public ReflectionFactory factory() {
+			return new AdaptiveReflectionFactory(
+					new JavassistReflectionFactory(), 0,
+					AdaptiveReflectionFactory.getBackgroundExecutor());
+		}
+	};
+
+	/**
+	 * Creates a new factory for this backend
+	 * 
+	 * @return a fresh {@link ReflectionFactory}
+	 */
+	public abstract ReflectionFactory factory();
+}
@@ -0,0 +1,104 @@
+package br.mikhas.reflector.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The reference points for the backend benchmarks: plain Java code and the
+ * raw reflection API, without any Reflector code in between.
+ */
+@State(Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BaselineBenchmark {
+
+	private BenchmarkBean bean;
+
+	private Field counterField;
+
+	private Method getterMethod;
+
+	private Method setterMethod;
+
+	private Constructor<BenchmarkBean> nameConstructor;
+
+	private final Long counterValue = Long.valueOf(42L);
+
+	private final String nameValue = "benchmark";
+
+	@Setup
+	public void setup() throws Exception {
+		bean = new BenchmarkBean("benchmark");
+
+		counterField = BenchmarkBean.class.getDeclaredField("counter");
+		getterMethod = BenchmarkBean.class.getMethod("getCounter");
+		setterMethod = BenchmarkBean.class.getMethod("setCounter", long.class);
+		nameConstructor = BenchmarkBean.class.getConstructor(String.class);
+	}
+
+	@Benchmark
+	public long directGetField() {
+		return bean.counter;
+	}
+
+	@Benchmark
+	public void directSetField() {
+		bean.counter = counterValue;
+	}
+
+	@Benchmark
+	public long directInvokeNoArgs() {
+		return bean.getCounter();
+	}
+
+	@Benchmark
+	public void directInvokeOneArg() {
+		bean.setCounter(counterValue);
+	}
+
+	@Benchmark
+	public BenchmarkBean directConstructor() {
+		return new BenchmarkBean(nameValue);
+	}
+
+	@Benchmark
+	public Object reflectionGetField() throws Exception {
+		return counterField.get(bean);
+	}
+
+	@Benchmark
+	public void reflectionSetField() throws Exception {
+		counterField.set(bean, counterValue);
+	}
+
+	@Benchmark
+	public Object reflectionInvokeNoArgs() throws Exception {
+		return getterMethod.invoke(bean);
+	}
+
+	@Benchmark
+	public Object reflectionInvokeOneArg() throws Exception {
+		return setterMethod.invoke(bean, counterValue);
+	}
+
+	@Benchmark
+	public BenchmarkBean reflectionConstructor() throws Exception {
+		return nameConstructor.newInstance(nameValue);
+	}
+}
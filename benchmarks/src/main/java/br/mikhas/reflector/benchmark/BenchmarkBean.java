@@ -0,0 +1,36 @@
+package br.mikhas.reflector.benchmark;
+
+/**
+ * The bean which fields, methods and constructors are accessed by the
+ * benchmarks.
+ */
+public class BenchmarkBean {
+
+	public long counter;
+
+	public String name;
+
+	public BenchmarkBean() {
+
+	}
+
+	public BenchmarkBean(String name) {
+		this.name = name;
+	}
+
+	public long getCounter() {
+		return counter;
+	}
+
+	public void setCounter(long counter) {
+		this.counter = counter;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,26 @@
+package br.mikhas.reflector.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Accepts the regular JMH command line and always attaches the GC profiler,
+ * so every run reports the allocation rate per operation
+ * (<code>gc.alloc.rate.norm</code>) next to the throughput and average time.
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+
+		Options options = new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class).build();
+
+		new Runner(options).run();
+	}
+}
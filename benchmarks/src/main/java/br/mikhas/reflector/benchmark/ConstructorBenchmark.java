@@ -0,0 +1,67 @@
+package br.mikhas.reflector.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.mikhas.reflector.ClassProxy;
+import br.mikhas.reflector.ConstructorProxy;
+import br.mikhas.reflector.Reflector;
+
+/**
+ * Measures object creation through {@link ClassProxy#newInstance()} and
+ * {@link ConstructorProxy#invoke(Object...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructorBenchmark {
+
+	@Param
+	public Backend backend;
+
+	private ClassProxy<BenchmarkBean> classProxy;
+
+	private ConstructorProxy<BenchmarkBean> noArgConstructor;
+
+	private ConstructorProxy<BenchmarkBean> nameConstructor;
+
+	private final String nameValue = "benchmark";
+
+	@Setup
+	public void setup() {
+		Reflector reflector = new Reflector(backend.factory());
+
+		classProxy = reflector.on(BenchmarkBean.class);
+		noArgConstructor = classProxy.constructor();
+		nameConstructor = classProxy.constructor(String.class);
+	}
+
+	@Benchmark
+	public BenchmarkBean classProxyNewInstance() {
+		return classProxy.newInstance();
+	}
+
+	@Benchmark
+	public BenchmarkBean constructorNoArgs() {
+		return noArgConstructor.invoke();
+	}
+
+	@Benchmark
+	public BenchmarkBean constructorOneArg() {
+		return nameConstructor.invoke(nameValue);
+	}
+}
@@ -0,0 +1,128 @@
+package br.mikhas.reflector.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.mikhas.reflector.Reflector;
+import br.mikhas.reflector.config.FieldAccessor;
+import br.mikhas.reflector.config.ReflectionFactory;
+import br.mikhas.reflector.field.FieldProxy;
+
+/**
+ * Measures field reads and writes through the {@link FieldAccessor} of each
+ * backend and through the {@link FieldProxy} built on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldAccessBenchmark {
+
+	@Param
+	public Backend backend;
+
+	private BenchmarkBean bean;
+
+	private FieldAccessor counterAccessor;
+
+	private FieldAccessor nameAccessor;
+
+	private FieldProxy counterProxy;
+
+	private FieldProxy nameProxy;
+
+	private final Long counterValue = Long.valueOf(42L);
+
+	private final String nameValue = "benchmark";
+
+	@Setup
+	public void setup() throws Exception {
+		ReflectionFactory factory = backend.factory();
+		Reflector reflector = new Reflector(factory);
+
+		bean = new BenchmarkBean("benchmark");
+
+		Field counter = BenchmarkBean.class.getDeclaredField("counter");
+		Field name = BenchmarkBean.class.getDeclaredField("name");
+
+		counterAccessor = factory.getFieldAcessor(counter);
+		nameAccessor = factory.getFieldAcessor(name);
+
+		counterProxy = reflector.on(bean).field("counter");
+		nameProxy = reflector.on(bean).field("name");
+	}
+
+	@Benchmark
+	public Object accessorGetLong() {
+		return counterAccessor.get(bean);
+	}
+
+	@Benchmark
+	public void accessorSetLong() {
+		counterAccessor.set(bean, counterValue);
+	}
+
+	@Benchmark
+	public long accessorGetLongPrimitive() {
+		return counterAccessor.getLong(bean);
+	}
+
+	@Benchmark
+	public void accessorSetLongPrimitive() {
+		counterAccessor.setLong(bean, 42L);
+	}
+
+	@Benchmark
+	public Object accessorGetObject() {
+		return nameAccessor.get(bean);
+	}
+
+	@Benchmark
+	public void accessorSetObject() {
+		nameAccessor.set(bean, nameValue);
+	}
+
+	@Benchmark
+	public Object proxyGetLong() {
+		return counterProxy.get();
+	}
+
+	@Benchmark
+	public void proxySetLong() {
+		counterProxy.set(counterValue);
+	}
+
+	@Benchmark
+	public long proxyGetLongPrimitive() {
+		return counterProxy.getLong();
+	}
+
+	@Benchmark
+	public void proxySetLongPrimitive() {
+		counterProxy.setLong(42L);
+	}
+
+	@Benchmark
+	public Object proxyGetObject() {
+		return nameProxy.get();
+	}
+
+	@Benchmark
+	public void proxySetObject() {
+		nameProxy.set(nameValue);
+	}
+}
@@ -0,0 +1,75 @@
+package br.mikhas.reflector.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.mikhas.reflector.ClassProxy;
+import br.mikhas.reflector.Reflector;
+import br.mikhas.reflector.field.FieldProxy;
+import br.mikhas.reflector.method.MethodProxy;
+
+/**
+ * Measures how long it takes to get hold of a proxy: the class proxy cache of
+ * the {@link Reflector} and the field and method lookups of a
+ * {@link ClassProxy}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LookupBenchmark {
+
+	@Param
+	public Backend backend;
+
+	private Reflector reflector;
+
+	private ClassProxy<BenchmarkBean> classProxy;
+
+	private BenchmarkBean bean;
+
+	@Setup
+	public void setup() {
+		reflector = new Reflector(backend.factory());
+		classProxy = reflector.on(BenchmarkBean.class);
+		bean = new BenchmarkBean("benchmark");
+	}
+
+	@Benchmark
+	public ClassProxy<BenchmarkBean> classProxy() {
+		return reflector.on(BenchmarkBean.class);
+	}
+
+	@Benchmark
+	public FieldProxy classField() {
+		return classProxy.field("counter");
+	}
+
+	@Benchmark
+	public MethodProxy classMethod() {
+		return classProxy.method("setCounter", long.class);
+	}
+
+	@Benchmark
+	public FieldProxy objectField() {
+		return reflector.on(bean).field("counter");
+	}
+
+	@Benchmark
+	public MethodProxy objectMethod() {
+		return reflector.on(bean).method("getCounter").withoutArgs();
+	}
+}
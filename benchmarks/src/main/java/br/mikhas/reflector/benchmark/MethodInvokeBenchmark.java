@@ -0,0 +1,116 @@
+package br.mikhas.reflector.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.mikhas.reflector.Reflector;
+import br.mikhas.reflector.config.MethodInvoker;
+import br.mikhas.reflector.config.ReflectionFactory;
+import br.mikhas.reflector.method.MethodProxy;
+
+/**
+ * Measures method calls through the {@link MethodInvoker} of each backend and
+ * through the {@link MethodProxy} built on top of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MethodInvokeBenchmark {
+
+	@Param
+	public Backend backend;
+
+	private BenchmarkBean bean;
+
+	private MethodInvoker getterInvoker;
+
+	private MethodInvoker setterInvoker;
+
+	private MethodProxy getterProxy;
+
+	private MethodProxy setterProxy;
+
+	private final Long counterValue = Long.valueOf(42L);
+
+	@Setup
+	public void setup() throws Exception {
+		ReflectionFactory factory = backend.factory();
+		Reflector reflector = new Reflector(factory);
+
+		bean = new BenchmarkBean("benchmark");
+
+		Method getter = BenchmarkBean.class.getMethod("getCounter");
+		Method setter = BenchmarkBean.class.getMethod("setCounter", long.class);
+
+		getterInvoker = factory.getMethodInvoker(getter);
+		setterInvoker = factory.getMethodInvoker(setter);
+
+		getterProxy = reflector.on(bean).method("getCounter").withoutArgs();
+		setterProxy = reflector.on(bean).method("setCounter", long.class);
+	}
+
+	@Benchmark
+	public Object invokerNoArgs() {
+		return getterInvoker.invoke(bean);
+	}
+
+	@Benchmark
+	public Object invokerOneArg() {
+		return setterInvoker.invoke(bean, counterValue);
+	}
+
+	@Benchmark
+	public Object proxyNoArgs() {
+		return getterProxy.invoke();
+	}
+
+	@Benchmark
+	public Object proxyOneArg() {
+		return setterProxy.invoke(counterValue);
+	}
+
+	@Benchmark
+	public Object invoker0() {
+		return getterInvoker.invoke0(bean);
+	}
+
+	@Benchmark
+	public Object invoker1() {
+		return setterInvoker.invoke1(bean, counterValue);
+	}
+
+	@Benchmark
+	public Object proxy0() {
+		return getterProxy.invoke0();
+	}
+
+	@Benchmark
+	public Object proxy1() {
+		return setterProxy.invoke1(counterValue);
+	}
+
+	@Benchmark
+	public long invokerLong() {
+		return getterInvoker.invokeLong(bean);
+	}
+
+	@Benchmark
+	public long proxyLong() {
+		return getterProxy.invokeLong();
+	}
+}
@@ -0,0 +1,434 @@
+package br.mikhas.reflector.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the field accessors and method invokers of the classes marked
+ * with <code>br.mikhas.reflector.annotation.Precompile</code>.
+ * <p>
+ * For each marked class a <code>PrecompiledAccessors</code> implementation is
+ * generated in the package of the class, which reads and writes the fields
+ * and calls the methods directly, and it is registered as a service so the
+ * <code>PrecompiledReflectionFactory</code> finds it at runtime.
+ * <p>
+ * The generated code lives in the package of the class, so it reaches every
+ * member but the private ones. Private members, final fields and
+ * constructors are left to the runtime backend.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+@SupportedAnnotationTypes(PrecompileProcessor.PRECOMPILE)
+public class PrecompileProcessor extends AbstractProcessor {
+
+	static final String PRECOMPILE = "br.mikhas.reflector.annotation.Precompile";
+
+	private static final String SERVICE = "META-INF/services/br.mikhas.reflector.config.PrecompiledAccessors";
+
+	private static final String SUFFIX = "$$Accessors";
+
+	/**
+	 * The primitive types, in the order the typed methods are generated
+	 */
+	private static final TypeKind[] PRIMITIVES = { TypeKind.BOOLEAN,
+			TypeKind.BYTE, TypeKind.CHAR, TypeKind.SHORT, TypeKind.INT,
+			TypeKind.LONG, TypeKind.FLOAT, TypeKind.DOUBLE };
+
+	/**
+	 * The names of the generated classes, registered on the last round
+	 */
+	private final Set<String> generated = new TreeSet<String>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations,
+			RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv
+					.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind().isClass())
+					generate((TypeElement) element);
+			}
+		}
+
+		if (roundEnv.processingOver() && !generated.isEmpty())
+			register();
+
+		return true;
+	}
+
+	private void generate(TypeElement type) {
+		if (!isReachable(type)) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"@Precompile classes must be reachable from their package",
+					type);
+			return;
+		}
+
+		String packageName = packageOf(type).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils()
+				.getBinaryName(type).toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName
+				.substring(packageName.length() + 1))
+				+ SUFFIX;
+		String className = packageName.isEmpty() ? simpleName : packageName
+				+ '.' + simpleName;
+
+		try {
+			Writer writer = processingEnv.getFiler().createSourceFile(
+					className, type).openWriter();
+			try {
+				writer.write(source(type, packageName, simpleName));
+			} finally {
+				writer.close();
+			}
+			generated.add(className);
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Could not generate " + className + ": " + e, type);
+		}
+	}
+
+	private void register() {
+		try {
+			FileObject file = processingEnv.getFiler().createResource(
+					StandardLocation.CLASS_OUTPUT, "", SERVICE);
+			Writer writer = file.openWriter();
+			try {
+				for (String className : generated)
+					writer.write(className + "\n");
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Could not register the generated accessors: " + e);
+		}
+	}
+
+	/**
+	 * Writes the source of the accessors of a class
+	 */
+	private String source(TypeElement type, String packageName,
+			String simpleName) {
+		String typeName = type.getQualifiedName().toString();
+		List<VariableElement> fields = new ArrayList<VariableElement>();
+		List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+
+		for (Element member : type.getEnclosedElements()) {
+			Set<Modifier> modifiers = member.getModifiers();
+
+			if (modifiers.contains(Modifier.PRIVATE))
+				continue;
+
+			if (member.getKind() == ElementKind.FIELD
+					&& !modifiers.contains(Modifier.FINAL))
+				fields.add((VariableElement) member);
+			else if (member.getKind() == ElementKind.METHOD
+					&& !modifiers.contains(Modifier.ABSTRACT))
+				methods.add((ExecutableElement) member);
+		}
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+
+		source.append("import java.lang.reflect.Field;\n\n");
+		source.append("import br.mikhas.reflector.config.FieldAccessor;\n");
+		source.append("import br.mikhas.reflector.config.MethodInvoker;\n");
+		source.append("import br.mikhas.reflector.config.NativeFieldAccessor;\n");
+		source.append("import br.mikhas.reflector.config.PrecompiledAccessors;\n");
+		source.append("import br.mikhas.reflector.method.MethodInvocationException;\n\n");
+		source.append("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+		source.append("public final class ").append(simpleName).append(
+				" implements PrecompiledAccessors {\n\n");
+
+		source.append("\t@Override\n\tpublic Class<?> type() {\n");
+		source.append("\t\treturn ").append(typeName).append(".class;\n\t}\n\n");
+
+		source.append("\t@Override\n\tpublic FieldAccessor getFieldAcessor(Field field) {\n");
+		source.append("\t\tswitch (field.getName()) {\n");
+		for (VariableElement field : fields) {
+			String name = field.getSimpleName().toString();
+			source.append("\t\tcase \"").append(name).append(
+					"\":\n\t\t\treturn new Field_").append(name).append(
+					"(field);\n");
+		}
+		source.append("\t\tdefault:\n\t\t\treturn null;\n\t\t}\n\t}\n\n");
+
+		source.append("\t@Override\n\tpublic MethodInvoker getMethodInvoker(String signature) {\n");
+		source.append("\t\tswitch (signature) {\n");
+		for (int i = 0; i < methods.size(); i++) {
+			source.append("\t\tcase \"").append(signature(methods.get(i)))
+					.append("\":\n\t\t\treturn new Method_").append(i).append(
+							"();\n");
+		}
+		source.append("\t\tdefault:\n\t\t\treturn null;\n\t\t}\n\t}\n");
+
+		for (VariableElement field : fields)
+			appendFieldAccessor(source, typeName, field);
+
+		for (int i = 0; i < methods.size(); i++)
+			appendMethodInvoker(source, typeName, methods.get(i), i);
+
+		return source.append("}\n").toString();
+	}
+
+	private void appendFieldAccessor(StringBuilder source, String typeName,
+			VariableElement field) {
+		String name = field.getSimpleName().toString();
+		TypeMirror type = erasure(field.asType());
+		String fieldType = typeName(type);
+		String reference = field.getModifiers().contains(Modifier.STATIC) ? typeName
+				+ '.' + name
+				: "((" + typeName + ") target)." + name;
+
+		source.append("\n\tstatic final class Field_").append(name).append(
+				" extends NativeFieldAccessor {\n\n");
+		source.append("\t\tField_").append(name).append(
+				"(Field field) {\n\t\t\tsuper(field);\n\t\t}\n");
+
+		appendMethod(source, "Object get(Object target)", "return "
+				+ reference + ';', "illegalAccess");
+
+		String value = type.getKind().isPrimitive() ? "("
+				+ processingEnv.getTypeUtils().boxedClass(
+						(PrimitiveType) type)
+						.getQualifiedName() + ") value" : "(" + fieldType
+				+ ") value";
+		appendMethod(source, "void set(Object target, Object value)",
+				reference + " = " + value + ';', "illegalValue");
+
+		if (type.getKind().isPrimitive())
+			appendTypedMethods(source, type.getKind(), reference);
+
+		source.append("\t}\n");
+	}
+
+	/**
+	 * Appends the typed <code>get</code> and <code>set</code> methods which
+	 * the type of a primitive field can be widened to or from
+	 */
+	private void appendTypedMethods(StringBuilder source, TypeKind type,
+			String reference) {
+		for (TypeKind primitive : PRIMITIVES) {
+			String primitiveName = primitive.name().toLowerCase();
+			String capitalized = Character.toUpperCase(primitiveName
+					.charAt(0))
+					+ primitiveName.substring(1);
+
+			if (primitive == type || widens(type, primitive))
+				appendMethod(source, primitiveName + " get" + capitalized
+						+ "(Object target)", "return " + reference + ';',
+						"illegalAccess");
+
+			if (primitive == type || widens(primitive, type))
+				appendMethod(source, "void set" + capitalized
+						+ "(Object target, " + primitiveName + " value)",
+						reference + " = value;", "illegalValue");
+		}
+	}
+
+	/**
+	 * Appends an accessor method whose runtime failures, such as a null or
+	 * foreign target, are reported by the given NativeFieldAccessor method
+	 */
+	private void appendMethod(StringBuilder source, String declaration,
+			String statement, String failure) {
+		source.append("\n\t\t@Override\n\t\tpublic ").append(declaration)
+				.append(" {\n");
+		source.append("\t\t\ttry {\n\t\t\t\t").append(statement).append('\n');
+		source.append("\t\t\t} catch (RuntimeException e) {\n");
+		source.append("\t\t\t\tthrow ").append(failure).append("(e);\n");
+		source.append("\t\t\t}\n\t\t}\n");
+	}
+
+	private void appendMethodInvoker(StringBuilder source, String typeName,
+			ExecutableElement method, int index) {
+		List<? extends VariableElement> parameters = method.getParameters();
+		int arity = parameters.size();
+		boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+
+		StringBuilder arguments = new StringBuilder();
+		StringBuilder declarations = new StringBuilder();
+		StringBuilder spread = new StringBuilder();
+
+		for (int i = 0; i < arity; i++) {
+			TypeMirror type = erasure(parameters.get(i).asType());
+			String cast = type.getKind().isPrimitive() ? processingEnv
+					.getTypeUtils().boxedClass(
+							(PrimitiveType) type)
+					.getQualifiedName().toString() : typeName(type);
+
+			if (i > 0)
+				arguments.append(", ");
+			arguments.append('(').append(cast).append(") arg").append(i);
+			declarations.append(", Object arg").append(i);
+			spread.append(", args[").append(i).append(']');
+		}
+
+		String call = (method.getModifiers().contains(Modifier.STATIC) ? typeName
+				: "((" + typeName + ") target)")
+				+ '.' + method.getSimpleName() + '(' + arguments + ')';
+
+		source.append("\n\tstatic final class Method_").append(index).append(
+				" implements MethodInvoker {\n");
+
+		source.append("\n\t\t@Override\n\t\tpublic Object invoke(Object target, Object... args) {\n");
+		source.append("\t\t\tif ((args == null ? 0 : args.length) != ").append(
+				arity).append(")\n");
+		source.append("\t\t\t\tthrow new IllegalArgumentException(\"wrong number of arguments\");\n");
+		source.append("\t\t\treturn call(target").append(spread).append(
+				");\n\t\t}\n");
+
+		if (arity <= 4) {
+			source.append("\n\t\t@Override\n\t\tpublic Object invoke").append(
+					arity).append("(Object target").append(declarations)
+					.append(") {\n");
+			source.append("\t\t\treturn call(target").append(
+					declarations.toString().replace("Object ", "")).append(
+					");\n\t\t}\n");
+		}
+
+		source.append("\n\t\tprivate static Object call(Object target")
+				.append(declarations).append(") {\n");
+		source.append("\t\t\ttry {\n");
+		if (isVoid)
+			source.append("\t\t\t\t").append(call).append(
+					";\n\t\t\t\treturn null;\n");
+		else
+			source.append("\t\t\t\treturn ").append(call).append(";\n");
+		source.append("\t\t\t} catch (Throwable t) {\n");
+		source.append("\t\t\t\tthrow new MethodInvocationException(")
+				.append("\"Error while calling method: ").append(typeName)
+				.append('.').append(signature(method)).append("\", t);\n");
+		source.append("\t\t\t}\n\t\t}\n\t}\n");
+	}
+
+	/**
+	 * The signature which identifies a method at runtime, matching
+	 * <code>PrecompiledReflectionFactory.signature(Method)</code>
+	 */
+	private String signature(ExecutableElement method) {
+		StringBuilder builder = new StringBuilder(method.getSimpleName())
+				.append('(');
+		List<? extends VariableElement> parameters = method.getParameters();
+
+		for (int i = 0; i < parameters.size(); i++) {
+			if (i > 0)
+				builder.append(',');
+			builder.append(typeName(erasure(parameters.get(i).asType())));
+		}
+
+		return builder.append(')').toString();
+	}
+
+	private TypeMirror erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type);
+	}
+
+	/**
+	 * The canonical name of an erased type, free of the type annotations
+	 * which its <code>toString</code> may carry
+	 */
+	private static String typeName(TypeMirror type) {
+		if (type.getKind().isPrimitive())
+			return type.getKind().name().toLowerCase();
+		if (type.getKind() == TypeKind.ARRAY)
+			return typeName(((ArrayType) type).getComponentType()) + "[]";
+		if (type.getKind() == TypeKind.DECLARED)
+			return ((TypeElement) ((DeclaredType) type).asElement())
+					.getQualifiedName().toString();
+		return type.toString();
+	}
+
+	/**
+	 * Checks if a value of the primitive type <code>from</code> can be widened
+	 * to the primitive type <code>to</code>
+	 */
+	private static boolean widens(TypeKind from, TypeKind to) {
+		if (from == TypeKind.BOOLEAN || to == TypeKind.BOOLEAN || from == to)
+			return false;
+		if (to == TypeKind.CHAR || to == TypeKind.BYTE)
+			return false;
+		if (to == TypeKind.SHORT)
+			return from == TypeKind.BYTE;
+		return rank(from) < rank(to);
+	}
+
+	private static int rank(TypeKind type) {
+		switch (type) {
+		case BYTE:
+		case CHAR:
+			return 0;
+		case SHORT:
+			return 1;
+		case INT:
+			return 2;
+		case LONG:
+			return 3;
+		case FLOAT:
+			return 4;
+		default:
+			return 5;
+		}
+	}
+
+	/**
+	 * Checks if the class, and every class enclosing it, can be reached from
+	 * its package
+	 */
+	private static boolean isReachable(TypeElement type) {
+		Element element = type;
+
+		while (element instanceof TypeElement) {
+			TypeElement current = (TypeElement) element;
+
+			if (current.getModifiers().contains(Modifier.PRIVATE)
+					|| current.getNestingKind() == NestingKind.LOCAL
+					|| current.getNestingKind() == NestingKind.ANONYMOUS)
+				return false;
+
+			element = current.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private static PackageElement packageOf(Element element) {
+		while (!(element instanceof PackageElement))
+			element = element.getEnclosingElement();
+		return (PackageElement) element;
+	}
+}
@@ -0,0 +1,138 @@
+package br.mikhas.reflector.processor;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.mikhas.reflector.config.FieldAccessor;
+import br.mikhas.reflector.config.JdkReflectionFactory;
+import br.mikhas.reflector.config.MethodInvoker;
+import br.mikhas.reflector.config.PrecompiledReflectionFactory;
+import br.mikhas.reflector.config.ReflectionFactory;
+
+public class PrecompileProcessorTest {
+
+	private static final String SOURCE = "package sample;\n"
+			+ "@br.mikhas.reflector.annotation.Precompile\n"
+			+ "public class Bean {\n"
+			+ "	int count;\n"
+			+ "	public static String name = \"bean\";\n"
+			+ "	private long hidden;\n"
+			+ "	public int add(int a, int b) { return a + b; }\n"
+			+ "	void inc() { count++; }\n"
+			+ "	public String join(String[] parts, java.util.List<String> more) { return parts.length + \":\" + more.size(); }\n"
+			+ "	public void fail() throws Exception { throw new Exception(\"failed\"); }\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testGeneratedAccessors() throws Exception {
+		ClassLoader loader = compile();
+		Class<?> bean = loader.loadClass("sample.Bean");
+		ReflectionFactory factory = new PrecompiledReflectionFactory(
+				new JdkReflectionFactory(), loader);
+		Object target = bean.getDeclaredConstructor().newInstance();
+
+		FieldAccessor count = factory.getFieldAcessor(bean
+				.getDeclaredField("count"));
+		Assert.assertTrue(count.getClass().getName().startsWith(
+				"sample.Bean$$Accessors$"));
+		count.setInt(target, 41);
+		count.setShort(target, (short) 1);
+		Assert.assertEquals(1, count.get(target));
+		Assert.assertEquals(1L, count.getLong(target));
+
+		FieldAccessor name = factory.getFieldAcessor(bean
+				.getDeclaredField("name"));
+		Assert.assertEquals("bean", name.get(null));
+
+		FieldAccessor hidden = factory.getFieldAcessor(bean
+				.getDeclaredField("hidden"));
+		Assert.assertFalse(hidden.getClass().getName().startsWith("sample."));
+
+		Method addMethod = bean.getMethod("add", int.class, int.class);
+		MethodInvoker add = factory.getMethodInvoker(addMethod);
+		Assert.assertTrue(add.getClass().getName().startsWith(
+				"sample.Bean$$Accessors$"));
+		Assert.assertEquals(5, add.invoke(target, 2, 3));
+		Assert.assertEquals(5, add.invoke2(target, 2, 3));
+
+		MethodInvoker inc = factory.getMethodInvoker(bean
+				.getDeclaredMethod("inc"));
+		Assert.assertNull(inc.invoke0(target));
+		Assert.assertEquals(2, count.getInt(target));
+
+		MethodInvoker join = factory.getMethodInvoker(bean.getMethod("join",
+				String[].class, java.util.List.class));
+		Assert.assertTrue(join.getClass().getName().startsWith(
+				"sample.Bean$$Accessors$"));
+		Assert.assertEquals("2:0", join.invoke(target, new String[2],
+				Collections.emptyList()));
+
+		MethodInvoker fail = factory.getMethodInvoker(bean.getMethod("fail"));
+		try {
+			fail.invoke(target);
+			Assert.fail();
+		} catch (RuntimeException e) {
+			Assert.assertEquals("failed", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void testSignature() throws Exception {
+		Method method = PrecompileProcessorTest.class.getDeclaredMethod(
+				"compile");
+		Assert.assertEquals("compile()", PrecompiledReflectionFactory
+				.signature(method));
+
+		method = Arrays.class.getMethod("fill", int[].class, int.class);
+		Assert.assertEquals("fill(int[],int)", PrecompiledReflectionFactory
+				.signature(method));
+	}
+
+	/**
+	 * Compiles the sample with the processor and loads it
+	 */
+	private ClassLoader compile() throws Exception {
+		File sources = folder.newFolder("sources");
+		File classes = folder.newFolder("classes");
+		File source = new File(sources, "Bean.java");
+		Files.write(source.toPath(), SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(
+				null, null, null);
+		try {
+			Iterable<? extends JavaFileObject> units = fileManager
+					.getJavaFileObjects(source);
+			JavaCompiler.CompilationTask task = compiler.getTask(null,
+					fileManager, null, Arrays.asList("-classpath", System
+							.getProperty("java.class.path"), "-d", classes
+							.getPath()), null, units);
+			task.setProcessors(Collections.singleton(new PrecompileProcessor()));
+			Assert.assertTrue(task.call());
+		} finally {
+			fileManager.close();
+		}
+
+		return new URLClassLoader(new URL[] { classes.toURI().toURL() },
+				getClass().getClassLoader());
+	}
+}
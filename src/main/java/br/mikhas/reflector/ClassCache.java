@@ -0,0 +1,224 @@
+package br.mikhas.reflector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A bounded cache of values computed for classes.
+ * <p>
+ * Values are stored on the classes themselves through a {@link ClassValue},
+ * so reads take no lock, and a cached value never keeps the class, or its
+ * class loader, from being unloaded. A value must only reference its own
+ * class, or classes which live at least as long as it, to keep it that way.
+ * <p>
+ * A value must not strongly reference the cache either: the classes would
+ * then keep the cache, and everything its values reference, reachable for as
+ * long as they are loaded, which is forever for the classes of the JDK.
+ * <p>
+ * Classes are evicted in least recently used order once the cache holds more
+ * than its maximum size. Time is counted in insertions, so a read only writes
+ * to its entry the first time it is read after a new class was cached, and
+ * eviction removes a batch of classes at once to spread its cost over the
+ * following insertions.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @param <V>
+ *            The type of the cached values
+ */
+abstract class ClassCache<V> {
+
+	/**
+	 * The default maximum amount of classes held by a cache
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private final int maximumSize;
+
+	/**
+	 * The amount of classes evicted when the cache overflows
+	 */
+	private final int evictionBatch;
+
+	/**
+	 * The logical time, advanced by two on every insertion. Reads stamp their
+	 * entry with the odd time in between, which ranks them after the last
+	 * insertion without writing to the clock.
+	 */
+	private volatile long clock;
+
+	/**
+	 * Access stamps of the cached classes, which is the only place where the
+	 * cache enumerates them. Stamps do not reference the classes, so the weak
+	 * keys can be collected.
+	 */
+	private final Map<Class<?>, Stamp> stamps = new WeakHashMap<Class<?>, Stamp>();
+
+	private final ClassValue<Entry<V>> values = new ClassValue<Entry<V>>() {
+		@Override
+		protected Entry<V> computeValue(Class<?> type) {
+			return new Entry<V>(create(type), register(type));
+		}
+	};
+
+	/**
+	 * Creates a new cache
+	 * 
+	 * @param maximumSize
+	 *            The maximum amount of classes held by the cache
+	 */
+	ClassCache(int maximumSize) {
+		if (maximumSize < 1)
+			throw new IllegalArgumentException(
+					"The maximum size must be positive: " + maximumSize);
+		this.maximumSize = maximumSize;
+		this.evictionBatch = Math.max(1, maximumSize / 8);
+	}
+
+	/**
+	 * Computes the value of a class on its first request, or after it was
+	 * evicted
+	 * 
+	 * @param type
+	 *            The class requested from the cache
+	 * @return The value to be cached
+	 */
+	protected abstract V create(Class<?> type);
+
+	/**
+	 * Called after classes were evicted to make room for a new one
+	 * 
+	 * @param amount
+	 *            The amount of evicted classes
+	 */
+	protected void evicted(int amount) {
+
+	}
+
+	/**
+	 * Gets the value of a class, creating it if it is not cached
+	 * 
+	 * @param type
+	 *            The class
+	 * @return The cached value
+	 */
+	V get(Class<?> type) {
+		Entry<V> entry = values.get(type);
+		long now = clock;
+
+		if (entry.stamp.time < now)
+			entry.stamp.time = now + 1;
+
+		return entry.value;
+	}
+
+	/**
+	 * Removes the value of a class from the cache
+	 * 
+	 * @param type
+	 *            The class
+	 */
+	void remove(Class<?> type) {
+		synchronized (stamps) {
+			stamps.remove(type);
+		}
+		values.remove(type);
+	}
+
+	/**
+	 * @return the amount of cached classes
+	 */
+	int size() {
+		synchronized (stamps) {
+			return stamps.size();
+		}
+	}
+
+	/**
+	 * Registers a new class, evicting the least recently used ones if the
+	 * cache is full
+	 */
+	private Stamp register(Class<?> type) {
+		List<Class<?>> victims = null;
+		Stamp stamp;
+
+		synchronized (stamps) {
+			long now = clock += 2;
+
+			// computeValue may run more than once for a class
+			stamp = stamps.get(type);
+			if (stamp == null) {
+				stamp = new Stamp();
+				stamps.put(type, stamp);
+			}
+			stamp.time = now;
+
+			if (stamps.size() > maximumSize)
+				victims = leastRecentlyUsed(stamps.size() - maximumSize
+						+ evictionBatch - 1, type);
+		}
+
+		if (victims != null) {
+			for (Class<?> cls : victims)
+				values.remove(cls);
+			evicted(victims.size());
+		}
+
+		return stamp;
+	}
+
+	/**
+	 * Unregisters the least recently used classes, but the one being
+	 * inserted
+	 */
+	private List<Class<?>> leastRecentlyUsed(int amount, Class<?> inserted) {
+		List<Map.Entry<Class<?>, Stamp>> entries = new ArrayList<Map.Entry<Class<?>, Stamp>>(
+				stamps.entrySet());
+
+		Collections.sort(entries, new Comparator<Map.Entry<Class<?>, Stamp>>() {
+			@Override
+			public int compare(Map.Entry<Class<?>, Stamp> a,
+					Map.Entry<Class<?>, Stamp> b) {
+				return Long.compare(a.getValue().time, b.getValue().time);
+			}
+		});
+
+		List<Class<?>> evicted = new ArrayList<Class<?>>(amount);
+
+		for (Map.Entry<Class<?>, Stamp> entry : entries) {
+			if (evicted.size() >= amount)
+				break;
+			Class<?> type = entry.getKey();
+			if (type != null && type != inserted)
+				evicted.add(type);
+		}
+
+		for (Class<?> type : evicted)
+			stamps.remove(type);
+
+		return evicted;
+	}
+
+	/**
+	 * The last time a class was read from the cache
+	 */
+	private static final class Stamp {
+		volatile long time;
+	}
+
+	private static final class Entry<V> {
+
+		final V value;
+
+		final Stamp stamp;
+
+		Entry(V value, Stamp stamp) {
+			this.value = value;
+			this.stamp = stamp;
+		}
+	}
+}
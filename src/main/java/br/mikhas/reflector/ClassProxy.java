@@ -54,6 +54,23 @@ public interface ClassProxy<T> extends AnnotatedElement {
 	 */
 	public FieldProxy[] fields();
 
+	/**
+	 * Gets the slot of a field, which it can be accessed by through
+	 * {@link #fieldSlots()} without looking its name up again
+	 * 
+	 * @param name
+	 *            The name of the field
+	 * @return the slot of the field
+	 */
+	public int fieldIndex(String name);
+
+	/**
+	 * Gets the fields of the class addressed by slot
+	 * 
+	 * @return the slots of all fields on the class
+	 */
+	public FieldSlots fieldSlots();
+
 	/**
 	 * Gets a method that the arguments are not defined or known
 	 * 
@@ -91,6 +108,17 @@ public interface ClassProxy<T> extends AnnotatedElement {
 	 */
 	public MethodProxy[] methods();
 
+	/**
+	 * Gets all the methods of the class with a name, which are the overloads
+	 * of the method
+	 * 
+	 * @param name
+	 *            The name of the methods
+	 * @return method handlers for the methods with the name, or an empty
+	 *         array if there are none
+	 */
+	public MethodProxy[] methods(String name);
+
 	/**
 	 * Checks if the class is an implementation of an interface
 	 * 
@@ -4,23 +4,20 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Set;
 
 import br.mikhas.reflector.annotation.AnnotationProxy;
-import br.mikhas.reflector.annotation.CoreAnnotationProxy;
+import br.mikhas.reflector.config.ConstructorInvoker;
 import br.mikhas.reflector.config.ReflectionFactory;
-import br.mikhas.reflector.field.ClassFieldProxy;
 import br.mikhas.reflector.field.FieldProxy;
 import br.mikhas.reflector.field.FieldReflectionException;
 import br.mikhas.reflector.method.AmbiguousMethodProxy;
 import br.mikhas.reflector.method.AmbiguousMethodProxyImpl;
-import br.mikhas.reflector.method.CoreMethodProxy;
 import br.mikhas.reflector.method.MethodProxy;
 import br.mikhas.reflector.method.Parameter;
 
@@ -40,26 +37,27 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	protected final Class<T> clazz;
 
 	/**
-	 * Caches the reflected fields of this class
+	 * Caches the implemented interfaces of this class
 	 */
-	protected static Map<Field, FieldProxy> fieldsCache;
+	private final Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
 
 	/**
-	 * Caches the reflected annotation of this class
+	 * Caches the reflected members of the classes of the {@link Reflector}
 	 */
-	protected static Map<Annotation, AnnotationProxy> annotationsCache;
+	protected final MemberRegistry registry;
+
+	protected final ReflectionFactory reflectionFactory;
 
 	/**
-	 * Caches the reflected methods of this class
+	 * The proxies of the declared constructors, listed on the first call to
+	 * {@link #constructors()}
 	 */
-	protected static Map<Method, MethodProxy> methodsCache;
+	private volatile ConstructorProxy<T>[] constructors;
 
 	/**
-	 * Caches the implemented interfaces of this class
+	 * Invokes the no-argument constructor on {@link #newInstance()}
 	 */
-	private final Set<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
-
-	protected final ReflectionFactory reflectionFactory;
+	private ConstructorInvoker instantiator;
 
 	/**
 	 * <p>
@@ -67,11 +65,14 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	 * <p>
 	 * Accessible only from inside the framework package
 	 * 
+	 * @param registry
+	 *            The member registry of the {@link Reflector}
 	 * @param clazz
 	 *            The class to be wrapped by the proxy
 	 */
-	CoreClassProxy(ReflectionFactory reflectionFactory, Class<T> clazz) {
-		this.reflectionFactory = reflectionFactory;
+	CoreClassProxy(MemberRegistry registry, Class<T> clazz) {
+		this.registry = registry;
+		this.reflectionFactory = registry;
 		this.clazz = clazz;
 		Collection<Class<?>> i = Arrays.asList(this.clazz.getInterfaces());
 		this.interfaces.addAll(i);
@@ -80,21 +81,31 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	/**
 	 * Creates and return an instance of the wrapped class
 	 */
+	@SuppressWarnings("unchecked")
 	public T newInstance() {
+		if (instantiator == null)
+			instantiator = createInstantiator();
+
+		return (T) instantiator.newInstance();
+	}
+
+	private ConstructorInvoker createInstantiator() {
+		if (this.clazz.isInterface() || this.clazz.isPrimitive()) {
+			throw new ReflectionException(
+					"Illegal to instantiate an interface or primitive.");
+		}
+		if (Modifier.isAbstract(this.clazz.getModifiers())) {
+			throw new ReflectionException(
+					"Illegal to instantiate an abstract class: " + this.name());
+		}
+
 		try {
-			if (this.clazz.isInterface() || this.clazz.isPrimitive()) {
-				throw new ReflectionException(
-						"Illegal to instantiate an interface or primitive.");
-			}
-			return this.clazz.newInstance();
-		} catch (InstantiationException e) {
+			Constructor<T> constructor = this.clazz.getDeclaredConstructor();
+			return reflectionFactory.getConstructorInvoker(constructor);
+		} catch (NoSuchMethodException e) {
 			throw new ReflectionException(
-					"An exception was throwed while instantiating the class: "
+					"The class has no constructor without arguments: "
 							+ this.name(), e);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionException(
-					"Access denied to access this constructor: " + this.name(),
-					e);
 		}
 	}
 
@@ -113,7 +124,7 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 								+ ReflectionUtils.typeNames(args));
 			}
 
-			return new CoreConstructorProxy<T>(constructor);
+			return registry.constructorProxy(constructor);
 		} catch (SecurityException e) {
 			throw new ReflectionException(e);
 		}
@@ -141,17 +152,36 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	 * Wrapps the named field into an
 	 */
 	public FieldProxy field(String name) {
-		try {
-			Field field = this.clazz.getDeclaredField(name);
+		FieldProxy proxy;
 
-			return this.getFieldProxy(field);
+		try {
+			proxy = registry.fieldProxy(this.clazz, name);
 		} catch (SecurityException e) {
 			throw new FieldReflectionException("No access to the attribute: "
 					+ name, e);
-		} catch (NoSuchFieldException e) {
+		}
+
+		if (proxy == null) {
 			throw new FieldReflectionException(
-					"The attribute does not exists: " + name, e);
+					"The attribute does not exists: " + name);
 		}
+
+		return proxy;
+	}
+
+	public int fieldIndex(String name) {
+		int slot = fieldSlots().index(name);
+
+		if (slot < 0) {
+			throw new FieldReflectionException(
+					"The attribute does not exists: " + name);
+		}
+
+		return slot;
+	}
+
+	public FieldSlots fieldSlots() {
+		return registry.fieldSlots(this.clazz);
 	}
 
 	/**
@@ -176,49 +206,20 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	 * @return The wrapped field
 	 */
 	private FieldProxy getFieldProxy(Field field) {
-		if (fieldsCache == null) {
-			fieldsCache = new HashMap<Field, FieldProxy>();
-		}
-
-		FieldProxy proxy = fieldsCache.get(field);
-		if (proxy == null) {
-
-			proxy = new ClassFieldProxy(reflectionFactory, this.clazz, field);
-
-			fieldsCache.put(field, proxy);
-		}
-		return proxy;
+		return registry.fieldProxy(field);
 	}
 
 	private MethodProxy getMethodProxy(Method method) {
-		if (methodsCache == null) {
-			methodsCache = new HashMap<Method, MethodProxy>();
-		}
-
-		MethodProxy proxy = methodsCache.get(method);
-		if (proxy == null) {
-			proxy = new CoreMethodProxy(reflectionFactory, this.clazz, method,
-					this.clazz);
-			methodsCache.put(method, proxy);
-		}
-		return proxy;
+		return registry.methodProxy(method);
 	}
 
 	private AnnotationProxy getAnnotationProxy(Annotation annotation) {
-		if (annotationsCache == null) {
-			annotationsCache = new HashMap<Annotation, AnnotationProxy>();
-		}
-
-		AnnotationProxy proxy = annotationsCache.get(annotation);
-		if (proxy == null) {
-			proxy = new CoreAnnotationProxy(annotation);
-			annotationsCache.put(annotation, proxy);
-		}
-		return proxy;
+		return registry.annotationProxy(this.clazz, annotation);
 	}
 
 	public AmbiguousMethodProxy method(String name) {
-		return new AmbiguousMethodProxyImpl(reflectionFactory, this.clazz, name);
+		return new AmbiguousMethodProxyImpl(registry.overloads(this.clazz,
+				name), null);
 	}
 
 	public MethodProxy method(String name, Class<?>... types) {
@@ -253,11 +254,16 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 
 	private Method noArgMethod(String name) {
 		try {
-			return this.clazz.getDeclaredMethod(name);
+			Method method = registry.noArgMethod(this.clazz, name);
+
+			if (method == null) {
+				throw new ReflectionException("Method not found: " + name
+						+ "()");
+			}
+
+			return method;
 		} catch (SecurityException e) {
 			throw new ReflectionException(e);
-		} catch (NoSuchMethodException e) {
-			throw new ReflectionException(e);
 		}
 	}
 
@@ -272,6 +278,21 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 		return proxies;
 	}
 
+	public MethodProxy[] methods(String name) {
+		Method[] methods = registry.methods(this.clazz, name);
+
+		if (methods == null)
+			return new MethodProxy[0];
+
+		MethodProxy[] proxies = new MethodProxy[methods.length];
+
+		for (int i = 0; i < methods.length; i++) {
+			proxies[i] = this.getMethodProxy(methods[i]);
+		}
+
+		return proxies;
+	}
+
 	public AnnotationProxy annotation(Class<? extends Annotation> annotation) {
 		if (this.clazz.isAnnotationPresent(annotation)) {
 			Annotation annotation2 = this.clazz.getAnnotation(annotation);
@@ -319,15 +340,26 @@ class CoreClassProxy<T> implements ClassProxy<T> {
 	/**
 	 * List all possible constructors for <b>T</b>
 	 */
-	@SuppressWarnings("unchecked")
 	public ConstructorProxy<T>[] constructors() {
+		ConstructorProxy<T>[] proxies = this.constructors;
+
+		if (proxies == null) {
+			proxies = createConstructorProxies();
+			this.constructors = proxies;
+		}
+
+		return proxies.clone();
+	}
+
+	@SuppressWarnings("unchecked")
+	private ConstructorProxy<T>[] createConstructorProxies() {
 		Constructor<T>[] nativeConstructors = (Constructor<T>[]) this.clazz
 				.getDeclaredConstructors();
 
 		ConstructorProxy<T>[] proxies = (ConstructorProxy<T>[]) new ConstructorProxy[nativeConstructors.length];
 
 		for (int i = 0; i < proxies.length; i++) {
-			proxies[i] = new CoreConstructorProxy<T>(nativeConstructors[i]);
+			proxies[i] = registry.constructorProxy(nativeConstructors[i]);
 		}
 
 		return proxies;
@@ -2,17 +2,19 @@ package br.mikhas.reflector;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import br.mikhas.reflector.annotation.AnnotationProxy;
 import br.mikhas.reflector.annotation.CoreAnnotationProxy;
+import br.mikhas.reflector.config.ConstructorInvoker;
+import br.mikhas.reflector.config.ReflectionFactory;
 import br.mikhas.reflector.method.Parameter;
 
 /**
- * Implements {@link ConstructorProxy} using standard Reflection API.
+ * Implements {@link ConstructorProxy} using the {@link ConstructorInvoker}
+ * created by the {@link ReflectionFactory}.
  * 
  * @author Mikhail Domanoski
  * 
@@ -27,40 +29,38 @@ class CoreConstructorProxy<T> implements ConstructorProxy<T> {
 	private final Constructor<?> constructor;
 
 	/**
-	 * Cache the constructor annotations
+	 * Cache the constructor annotations. The proxy is shared between the
+	 * threads using the {@link Reflector}, so the cache must be concurrent.
 	 */
-	private Map<Annotation, AnnotationProxy> annotationProxyCache = new HashMap<Annotation, AnnotationProxy>();
+	private final ConcurrentMap<Annotation, AnnotationProxy> annotationProxyCache = new ConcurrentHashMap<Annotation, AnnotationProxy>();
 
 	private int modifiers;
 
+	private ConstructorInvoker invoker;
+
+	private final ReflectionFactory reflectionFactory;
+
 	/**
 	 * Creates a new instance of the constructor proxy
 	 * 
+	 * @param reflectionFactory
+	 *            The factory of the constructor invoker
 	 * @param constructor
 	 *            The constructor to be reflected
 	 */
-	CoreConstructorProxy(Constructor<T> constructor) {
+	CoreConstructorProxy(ReflectionFactory reflectionFactory,
+			Constructor<T> constructor) {
+		this.reflectionFactory = reflectionFactory;
 		this.modifiers = constructor.getModifiers();
 		this.constructor = constructor;
 	}
 
 	@SuppressWarnings("unchecked")
 	public T invoke(Object... args) {
-		try {
-			return (T) this.constructor.newInstance(args);
-		} catch (IllegalArgumentException e) {
-			throw new ReflectionException(
-					"The constructor arguments are incorrenct.", e);
-		} catch (InstantiationException e) {
-			throw new ReflectionException(
-					"An error occured while creating object.", e);
-		} catch (IllegalAccessException e) {
-			throw new ReflectionException("Access denied to this constructor.",
-					e);
-		} catch (InvocationTargetException e) {
-			throw new ReflectionException(
-					"The constructor does not belongs to the target object.", e);
-		}
+		if (invoker == null)
+			this.invoker = reflectionFactory.getConstructorInvoker(constructor);
+
+		return (T) invoker.newInstance(args);
 	}
 
 	@Override
@@ -99,7 +99,10 @@ class CoreConstructorProxy<T> implements ConstructorProxy<T> {
 
 		if (annotationProxy == null) {
 			annotationProxy = new CoreAnnotationProxy(annotation);
-			annotationProxyCache.put(annotation, annotationProxy);
+			AnnotationProxy registered = annotationProxyCache.putIfAbsent(
+					annotation, annotationProxy);
+			if (registered != null)
+				annotationProxy = registered;
 		}
 
 		return annotationProxy;
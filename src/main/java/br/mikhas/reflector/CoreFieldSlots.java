@@ -0,0 +1,170 @@
+package br.mikhas.reflector;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import br.mikhas.reflector.config.FieldAccessor;
+import br.mikhas.reflector.config.ReflectionFactory;
+
+/**
+ * Implements {@link FieldSlots} over a dense array of field accessors, each
+ * created through the {@link ReflectionFactory} on the first access to its
+ * slot.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class CoreFieldSlots implements FieldSlots {
+
+	private final ReflectionFactory reflectionFactory;
+
+	private final Field[] fields;
+
+	private final NameTable<Integer> indexes;
+
+	private final AtomicReferenceArray<FieldAccessor> accessors;
+
+	/**
+	 * Creates the slots of a list of fields
+	 * 
+	 * @param reflectionFactory
+	 *            The factory which the accessors are created through
+	 * @param fields
+	 *            The fields, in the order of their slots
+	 */
+	CoreFieldSlots(ReflectionFactory reflectionFactory, Field[] fields) {
+		this.reflectionFactory = reflectionFactory;
+		this.fields = fields;
+		this.accessors = new AtomicReferenceArray<FieldAccessor>(fields.length);
+
+		String[] names = new String[fields.length];
+		Integer[] slots = new Integer[fields.length];
+
+		for (int i = 0; i < fields.length; i++) {
+			names[i] = fields[i].getName();
+			slots[i] = i;
+		}
+
+		this.indexes = new NameTable<Integer>(names, slots);
+	}
+
+	@Override
+	public int size() {
+		return fields.length;
+	}
+
+	@Override
+	public int index(String name) {
+		Integer slot = indexes.get(name);
+		return slot == null ? -1 : slot;
+	}
+
+	@Override
+	public String name(int slot) {
+		return fields[slot].getName();
+	}
+
+	@Override
+	public FieldAccessor accessor(int slot) {
+		FieldAccessor accessor = accessors.get(slot);
+
+		if (accessor == null) {
+			// The factory hands out one shared accessor per field, so racing
+			// threads store the same one
+			accessor = reflectionFactory.getFieldAcessor(fields[slot]);
+			accessors.set(slot, accessor);
+		}
+
+		return accessor;
+	}
+
+	@Override
+	public Object get(Object target, int slot) {
+		return accessor(slot).get(target);
+	}
+
+	@Override
+	public void set(Object target, int slot, Object value) {
+		accessor(slot).set(target, value);
+	}
+
+	@Override
+	public boolean getBoolean(Object target, int slot) {
+		return accessor(slot).getBoolean(target);
+	}
+
+	@Override
+	public void setBoolean(Object target, int slot, boolean value) {
+		accessor(slot).setBoolean(target, value);
+	}
+
+	@Override
+	public byte getByte(Object target, int slot) {
+		return accessor(slot).getByte(target);
+	}
+
+	@Override
+	public void setByte(Object target, int slot, byte value) {
+		accessor(slot).setByte(target, value);
+	}
+
+	@Override
+	public char getChar(Object target, int slot) {
+		return accessor(slot).getChar(target);
+	}
+
+	@Override
+	public void setChar(Object target, int slot, char value) {
+		accessor(slot).setChar(target, value);
+	}
+
+	@Override
+	public short getShort(Object target, int slot) {
+		return accessor(slot).getShort(target);
+	}
+
+	@Override
+	public void setShort(Object target, int slot, short value) {
+		accessor(slot).setShort(target, value);
+	}
+
+	@Override
+	public int getInt(Object target, int slot) {
+		return accessor(slot).getInt(target);
+	}
+
+	@Override
+	public void setInt(Object target, int slot, int value) {
+		accessor(slot).setInt(target, value);
+	}
+
+	@Override
+	public long getLong(Object target, int slot) {
+		return accessor(slot).getLong(target);
+	}
+
+	@Override
+	public void setLong(Object target, int slot, long value) {
+		accessor(slot).setLong(target, value);
+	}
+
+	@Override
+	public float getFloat(Object target, int slot) {
+		return accessor(slot).getFloat(target);
+	}
+
+	@Override
+	public void setFloat(Object target, int slot, float value) {
+		accessor(slot).setFloat(target, value);
+	}
+
+	@Override
+	public double getDouble(Object target, int slot) {
+		return accessor(slot).getDouble(target);
+	}
+
+	@Override
+	public void setDouble(Object target, int slot, double value) {
+		accessor(slot).setDouble(target, value);
+	}
+}
@@ -5,7 +5,6 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
-import br.mikhas.reflector.config.ReflectionFactory;
 import br.mikhas.reflector.field.FieldProxy;
 import br.mikhas.reflector.field.ObjectFieldProxy;
 import br.mikhas.reflector.method.AmbiguousMethodProxy;
@@ -41,15 +40,14 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 	/**
 	 * Creates a new instance of the proxy using an object
 	 * 
-	 * @param reflectionFactory
-	 * 
-	 * @param reflectionFactory
-	 * 
+	 * @param registry
+	 *            The member registry of the {@link Reflector}
 	 * @param object
+	 *            The object to be reflected
 	 */
 	@SuppressWarnings("unchecked")
-	CoreObjectProxy(ReflectionFactory reflectionFactory, T object) {
-		super(reflectionFactory, (Class<T>) object.getClass());
+	CoreObjectProxy(MemberRegistry registry, T object) {
+		super(registry, (Class<T>) object.getClass());
 
 		this.object = object;
 	}
@@ -60,14 +58,18 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 
 	@Override
 	public FieldProxy field(String name) {
+		Field field;
+
 		try {
-			Field field = this.clazz.getDeclaredField(name);
-			return this.getFieldProxy(field);
+			field = registry.field(this.clazz, name);
 		} catch (SecurityException e) {
 			throw new ReflectionException("No access to such field: " + name);
-		} catch (NoSuchFieldException e) {
-			throw new ReflectionException("No such field: " + name);
 		}
+
+		if (field == null)
+			throw new ReflectionException("No such field: " + name);
+
+		return this.getFieldProxy(field);
 	}
 
 	@Override
@@ -84,8 +86,8 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 
 	@Override
 	public AmbiguousMethodProxy method(String name) {
-		return new AmbiguousMethodProxyImpl(reflectionFactory, this.clazz,
-				name, this.object);
+		return new AmbiguousMethodProxyImpl(registry.overloads(this.clazz,
+				name), this.object);
 	}
 
 	@Override
@@ -102,14 +104,17 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 				}
 
 			} else {
-				method = this.clazz.getDeclaredMethod(name);
+				method = registry.noArgMethod(this.clazz, name);
+
+				if (method == null) {
+					throw new ReflectionException("Method not found: " + name
+							+ "()");
+				}
 			}
 
 			return this.getMethodProxy(method);
 		} catch (SecurityException e) {
 			throw new ReflectionException(e);
-		} catch (NoSuchMethodException e) {
-			throw new ReflectionException(e);
 		}
 	}
 
@@ -125,6 +130,22 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 		return proxies;
 	}
 
+	@Override
+	public MethodProxy[] methods(String name) {
+		Method[] methods = registry.methods(this.clazz, name);
+
+		if (methods == null)
+			return new MethodProxy[0];
+
+		MethodProxy[] proxies = new MethodProxy[methods.length];
+
+		for (int i = 0; i < methods.length; i++) {
+			proxies[i] = this.getMethodProxy(methods[i]);
+		}
+
+		return proxies;
+	}
+
 	private FieldProxy getFieldProxy(Field field) {
 		if (fieldsCache == null) {
 			fieldsCache = new HashMap<Field, FieldProxy>();
@@ -153,6 +174,17 @@ class CoreObjectProxy<T> extends CoreClassProxy<T> implements ObjectProxy<T> {
 		return proxy;
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public <V> V get(int slot) {
+		return (V) fieldSlots().get(this.object, slot);
+	}
+
+	@Override
+	public void set(int slot, Object value) {
+		fieldSlots().set(this.object, slot, value);
+	}
+
 	public <C> C cast(Class<C> clazz) {
 		return clazz.cast(this.object);
 	}
@@ -0,0 +1,190 @@
+package br.mikhas.reflector;
+
+import br.mikhas.reflector.config.FieldAccessor;
+
+/**
+ * The declared fields of a class, addressed by their position.
+ * <p>
+ * A field name is resolved to its slot once, through {@link #index(String)}
+ * or {@link ClassProxy#fieldIndex(String)}, and every access after that
+ * goes straight to the accessor of the slot, with no hashing or string
+ * comparison. Slots follow the order of {@link Class#getDeclaredFields()}
+ * and are stable for the life of the class.
+ * <p>
+ * Static fields ignore the target. An invalid slot throws an
+ * {@link IndexOutOfBoundsException}.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public interface FieldSlots {
+
+	/**
+	 * @return the amount of declared fields, which the slots range over
+	 */
+	public int size();
+
+	/**
+	 * Gets the slot of a field
+	 * 
+	 * @param name
+	 *            The name of the field
+	 * @return the slot of the field, or <code>-1</code> if the class declares
+	 *         no such field
+	 */
+	public int index(String name);
+
+	/**
+	 * Gets the name of the field on a slot
+	 * 
+	 * @param slot
+	 *            The slot
+	 * @return the name of the field
+	 */
+	public String name(int slot);
+
+	/**
+	 * Gets the accessor of the field on a slot, creating it on the first
+	 * request
+	 * 
+	 * @param slot
+	 *            The slot
+	 * @return the shared accessor of the field
+	 */
+	public FieldAccessor accessor(int slot);
+
+	/**
+	 * Gets the value of a field
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param slot
+	 *            The slot of the field
+	 * @return the value of the field, boxed if it is primitive
+	 */
+	public Object get(Object target, int slot);
+
+	/**
+	 * Sets the value of a field
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param slot
+	 *            The slot of the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void set(Object target, int slot, Object value);
+
+	/**
+	 * Gets the value of a field as a <code>boolean</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getBoolean(Object)
+	 */
+	public boolean getBoolean(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>boolean</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setBoolean(Object, boolean)
+	 */
+	public void setBoolean(Object target, int slot, boolean value);
+
+	/**
+	 * Gets the value of a field as a <code>byte</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getByte(Object)
+	 */
+	public byte getByte(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>byte</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setByte(Object, byte)
+	 */
+	public void setByte(Object target, int slot, byte value);
+
+	/**
+	 * Gets the value of a field as a <code>char</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getChar(Object)
+	 */
+	public char getChar(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>char</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setChar(Object, char)
+	 */
+	public void setChar(Object target, int slot, char value);
+
+	/**
+	 * Gets the value of a field as a <code>short</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getShort(Object)
+	 */
+	public short getShort(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>short</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setShort(Object, short)
+	 */
+	public void setShort(Object target, int slot, short value);
+
+	/**
+	 * Gets the value of a field as an <code>int</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getInt(Object)
+	 */
+	public int getInt(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from an <code>int</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setInt(Object, int)
+	 */
+	public void setInt(Object target, int slot, int value);
+
+	/**
+	 * Gets the value of a field as a <code>long</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getLong(Object)
+	 */
+	public long getLong(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>long</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setLong(Object, long)
+	 */
+	public void setLong(Object target, int slot, long value);
+
+	/**
+	 * Gets the value of a field as a <code>float</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getFloat(Object)
+	 */
+	public float getFloat(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>float</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setFloat(Object, float)
+	 */
+	public void setFloat(Object target, int slot, float value);
+
+	/**
+	 * Gets the value of a field as a <code>double</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#getDouble(Object)
+	 */
+	public double getDouble(Object target, int slot);
+
+	/**
+	 * Sets the value of a field from a <code>double</code>, without boxing it
+	 * 
+	 * @see FieldAccessor#setDouble(Object, double)
+	 */
+	public void setDouble(Object target, int slot, double value);
+}
@@ -0,0 +1,334 @@
+package br.mikhas.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The declared methods and constructors of a class, grouped by name and
+ * arity, which {@link ReflectionUtils#lookupMethod(Class, String, Class[])}
+ * and {@link ReflectionUtils#lookupConstructor(Class, Class[])} search
+ * instead of scanning the whole class.
+ * <p>
+ * The parameter types of every candidate are boxed once, when the index is
+ * built, and the result of each lookup, including a failed one, is memoized
+ * for up to {@value #MAXIMUM_MEMOIZED} argument lists per class, so repeated
+ * lookups cost one hash probe and never throw.
+ * <p>
+ * Indexes are stored on the classes themselves through a {@link ClassValue}
+ * and only reference members of their own class, so they do not keep the
+ * class from being unloaded. Lookups with an argument type loaded by a class
+ * loader other than the one of the class or its ancestors are not memoized,
+ * so the index does not keep that loader from being unloaded either.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class MemberIndex {
+
+	/**
+	 * The maximum amount of lookup results memoized per class
+	 */
+	static final int MAXIMUM_MEMOIZED = 256;
+
+	private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+	private static final Candidate[] NO_CANDIDATES = new Candidate[0];
+
+	/**
+	 * The memoized result of a lookup which found nothing
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	/**
+	 * The name which constructor lookups are memoized with, which no method
+	 * can have
+	 */
+	private static final String CONSTRUCTOR = "<init>";
+
+	private static final ClassValue<MemberIndex> INDEXES = new ClassValue<MemberIndex>() {
+		@Override
+		protected MemberIndex computeValue(Class<?> type) {
+			return new MemberIndex(type);
+		}
+	};
+
+	/**
+	 * The methods of each name, by arity
+	 */
+	private final Map<String, Candidate[][]> methodsByName = new HashMap<String, Candidate[][]>();
+
+	/**
+	 * All methods, by arity
+	 */
+	private final Candidate[][] methods;
+
+	/**
+	 * All constructors, by arity
+	 */
+	private final Candidate[][] constructors;
+
+	private final ConcurrentMap<Key, Object> resolved = new ConcurrentHashMap<Key, Object>();
+
+	/**
+	 * The class loader of the class
+	 */
+	private final ClassLoader classLoader;
+
+	private MemberIndex(Class<?> type) {
+		this.classLoader = type.getClassLoader();
+		Method[] declaredMethods = type.getDeclaredMethods();
+		Map<String, List<Method>> named = new HashMap<String, List<Method>>();
+
+		for (Method method : declaredMethods) {
+			List<Method> sameName = named.get(method.getName());
+			if (sameName == null) {
+				sameName = new ArrayList<Method>();
+				named.put(method.getName(), sameName);
+			}
+			sameName.add(method);
+		}
+
+		for (Map.Entry<String, List<Method>> entry : named.entrySet())
+			methodsByName.put(entry.getKey(), byArity(entry.getValue()
+					.toArray(new Executable[0])));
+
+		this.methods = byArity(declaredMethods);
+		this.constructors = byArity(type.getDeclaredConstructors());
+	}
+
+	/**
+	 * Gets the index of a class, building it on the first request
+	 * 
+	 * @param type
+	 *            The class
+	 * @return the index of the class
+	 */
+	static MemberIndex of(Class<?> type) {
+		return INDEXES.get(type);
+	}
+
+	/**
+	 * Looks for a method that accepts a list of argument types, with the
+	 * same rules as
+	 * {@link ReflectionUtils#lookupMethod(Class, String, Class[])}
+	 * 
+	 * @param name
+	 *            The name of the method, or <code>null</code> for any name
+	 * @param types
+	 *            The argument types, where <code>null</code> stands for a
+	 *            <code>null</code> argument
+	 * @return the method, or <code>null</code> if none accepts the arguments
+	 */
+	Method lookupMethod(String name, Class<?>[] types) {
+		if (types == null)
+			types = NO_TYPES;
+
+		Key key = new Key(name, types);
+		Object found = resolved.get(key);
+
+		if (found == null) {
+			found = resolveMethod(name, types);
+			memoize(key, found);
+		}
+
+		return found == NOT_FOUND ? null : (Method) found;
+	}
+
+	/**
+	 * Looks for a constructor that accepts a list of argument types, with
+	 * the same rules as
+	 * {@link ReflectionUtils#lookupConstructor(Class, Class[])}
+	 * 
+	 * @param types
+	 *            The argument types, where <code>null</code> stands for a
+	 *            <code>null</code> argument
+	 * @return the constructor, or <code>null</code> if none accepts the
+	 *         arguments
+	 */
+	Constructor<?> lookupConstructor(Class<?>[] types) {
+		if (types == null)
+			types = NO_TYPES;
+
+		Key key = new Key(CONSTRUCTOR, types);
+		Object found = resolved.get(key);
+
+		if (found == null) {
+			found = resolveConstructor(types);
+			memoize(key, found);
+		}
+
+		return found == NOT_FOUND ? null : (Constructor<?>) found;
+	}
+
+	private Object resolveMethod(String name, Class<?>[] types) {
+		Candidate[] candidates;
+
+		if (name == null) {
+			candidates = bucket(methods, types.length);
+		} else {
+			candidates = bucket(methodsByName.get(name), types.length);
+
+			// The exact match getDeclaredMethod would return: among methods
+			// with the same parameters, the one with the most specific
+			// return type, which is not a bridge
+			Method exact = null;
+			for (Candidate candidate : candidates) {
+				Method method = (Method) candidate.executable;
+				if (Arrays.equals(candidate.parameters, types)
+						&& (exact == null || exact.getReturnType()
+								.isAssignableFrom(method.getReturnType())))
+					exact = method;
+			}
+			if (exact != null)
+				return exact;
+		}
+
+		Object found = firstAssignable(candidates, types);
+
+		if (found == NOT_FOUND) {
+			// Try swapping primitives to wrappers
+			Class<?>[] wrappers = new Class<?>[types.length];
+			for (int i = 0; i < types.length; i++)
+				wrappers[i] = ReflectionUtils.getWrapper(types[i]);
+
+			for (Candidate candidate : candidates) {
+				if (ReflectionUtils.assignable(candidate.wrappers, wrappers))
+					return candidate.executable;
+			}
+		}
+
+		return found;
+	}
+
+	private Object resolveConstructor(Class<?>[] types) {
+		Candidate[] candidates = bucket(constructors, types.length);
+
+		for (Candidate candidate : candidates) {
+			if (Arrays.equals(candidate.parameters, types))
+				return candidate.executable;
+		}
+
+		return firstAssignable(candidates, types);
+	}
+
+	/**
+	 * Gets the first candidate whose parameters accept the types
+	 */
+	private static Object firstAssignable(Candidate[] candidates,
+			Class<?>[] types) {
+		for (Candidate candidate : candidates) {
+			if (ReflectionUtils.assignable(candidate.parameters, types))
+				return candidate.executable;
+		}
+
+		return NOT_FOUND;
+	}
+
+	private void memoize(Key key, Object found) {
+		if (resolved.size() < MAXIMUM_MEMOIZED && ReflectionUtils.isLoadedBy(
+				classLoader, key.types))
+			resolved.putIfAbsent(key.copy(), found);
+	}
+
+	private static Candidate[] bucket(Candidate[][] byArity, int arity) {
+		if (byArity == null || arity >= byArity.length)
+			return NO_CANDIDATES;
+		return byArity[arity];
+	}
+
+	/**
+	 * Groups members by arity, keeping their declaration order
+	 */
+	private static Candidate[][] byArity(Executable[] executables) {
+		int maximumArity = -1;
+		for (Executable executable : executables)
+			maximumArity = Math.max(maximumArity, executable
+					.getParameterCount());
+
+		List<List<Candidate>> grouped = new ArrayList<List<Candidate>>();
+		for (int i = 0; i <= maximumArity; i++)
+			grouped.add(new ArrayList<Candidate>());
+
+		for (Executable executable : executables)
+			grouped.get(executable.getParameterCount()).add(
+					new Candidate(executable));
+
+		Candidate[][] byArity = new Candidate[maximumArity + 1][];
+		for (int i = 0; i <= maximumArity; i++)
+			byArity[i] = grouped.get(i).toArray(NO_CANDIDATES);
+
+		return byArity;
+	}
+
+	/**
+	 * A method or constructor with its parameter types, as declared and boxed
+	 */
+	private static final class Candidate {
+
+		final Executable executable;
+
+		final Class<?>[] parameters;
+
+		final Class<?>[] wrappers;
+
+		Candidate(Executable executable) {
+			this.executable = executable;
+			this.parameters = executable.getParameterTypes();
+			this.wrappers = new Class<?>[parameters.length];
+
+			for (int i = 0; i < parameters.length; i++)
+				wrappers[i] = ReflectionUtils.getWrapper(parameters[i]);
+		}
+	}
+
+	/**
+	 * A lookup, memoized by name and argument types
+	 */
+	private static final class Key {
+
+		final String name;
+
+		final Class<?>[] types;
+
+		final int hash;
+
+		Key(String name, Class<?>[] types) {
+			this.name = name;
+			this.types = types;
+			this.hash = (name == null ? 0 : name.hashCode()) * 31
+					+ Arrays.hashCode(types);
+		}
+
+		/**
+		 * Copies the key, so it does not share the array of the caller
+		 */
+		Key copy() {
+			return new Key(name, types.clone());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+
+			Key other = (Key) obj;
+			return hash == other.hash
+					&& (name == null ? other.name == null : name
+							.equals(other.name))
+					&& Arrays.equals(types, other.types);
+		}
+	}
+}
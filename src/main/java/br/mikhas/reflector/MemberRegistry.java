@@ -0,0 +1,550 @@
+package br.mikhas.reflector;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import br.mikhas.reflector.ReflectorStats.Cache;
+import br.mikhas.reflector.annotation.AnnotationProxy;
+import br.mikhas.reflector.annotation.CoreAnnotationProxy;
+import br.mikhas.reflector.config.ConstructorInvoker;
+import br.mikhas.reflector.config.FieldAccessor;
+import br.mikhas.reflector.config.MethodInvoker;
+import br.mikhas.reflector.config.ReflectionFactory;
+import br.mikhas.reflector.field.ClassFieldProxy;
+import br.mikhas.reflector.field.FieldProxy;
+import br.mikhas.reflector.method.CoreMethodProxy;
+import br.mikhas.reflector.method.MethodProxy;
+import br.mikhas.reflector.method.OverloadCache;
+
+/**
+ * Holds the class proxies, member proxies, field accessors and invokers
+ * created by one {@link Reflector}.
+ * <p>
+ * Each {@link Reflector} owns its registry, so members reflected through
+ * different {@link ReflectionFactory} backends never share their accessors
+ * or invokers. The registry is itself the {@link ReflectionFactory} handed to
+ * the proxies: it creates each accessor or invoker once through the backend
+ * and shares it with every proxy of the same member, including the proxies
+ * bound to objects.
+ * <p>
+ * All lookups are safe to run concurrently and never lock on reads. Two
+ * threads may race to create the same entry, in which case both get the one
+ * which was registered first.
+ * <p>
+ * Everything created for a class is kept in a {@link ClassCache} entry of
+ * that class, so it is unloaded along with its class loader and evicted
+ * together once the registry holds more classes than its maximum size.
+ * <p>
+ * The cached proxies reference the registry, so the registry only holds its
+ * cache weakly and the {@link Reflector} keeps it alive. Otherwise every
+ * class would keep the cache, and the whole registry, reachable after the
+ * {@link Reflector} is dropped. Proxies which outlive their
+ * {@link Reflector} keep working, but their members are no longer cached.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class MemberRegistry implements ReflectionFactory {
+
+	/**
+	 * The backend which creates the accessors and invokers
+	 */
+	private final ReflectionFactory reflectionFactory;
+
+	private WeakReference<ClassCache<ClassMembers>> classes = new WeakReference<ClassCache<ClassMembers>>(
+			null);
+
+	private final ReflectorStats stats;
+
+	/**
+	 * Creates a new registry, which caches nothing until
+	 * {@link #createCache(int)} is called
+	 * 
+	 * @param reflectionFactory
+	 *            The backend which creates the accessors and invokers
+	 * @param stats
+	 *            The statistics which the cache usage is counted on
+	 */
+	MemberRegistry(ReflectionFactory reflectionFactory, ReflectorStats stats) {
+		this.reflectionFactory = reflectionFactory;
+		this.stats = stats;
+	}
+
+	/**
+	 * Creates the cache of the registry, which is only referenced weakly by
+	 * the registry
+	 * 
+	 * @param maximumSize
+	 *            The maximum amount of classes whose members are kept
+	 * @return the cache, which the caller must keep reachable for as long as
+	 *         the registry should cache anything
+	 */
+	Object createCache(int maximumSize) {
+		ClassCache<ClassMembers> cache = new ClassCache<ClassMembers>(
+				maximumSize) {
+			@Override
+			protected ClassMembers create(Class<?> type) {
+				stats.miss(Cache.CLASSES);
+				return new ClassMembers(MemberRegistry.this, type);
+			}
+
+			@Override
+			protected void evicted(int amount) {
+				stats.evicted(amount);
+			}
+		};
+
+		this.classes = new WeakReference<ClassCache<ClassMembers>>(cache);
+		return cache;
+	}
+
+	/**
+	 * Gets the shared proxy of a class
+	 * 
+	 * @param clazz
+	 *            The class to be wrapped into a proxy
+	 * @return The shared proxy of the class
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ClassProxy<T> classProxy(Class<T> clazz) {
+		return (ClassProxy<T>) members(clazz).classProxy;
+	}
+
+	/**
+	 * @return the amount of classes whose members are kept
+	 */
+	int size() {
+		ClassCache<ClassMembers> cache = classes.get();
+		return cache == null ? 0 : cache.size();
+	}
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		ConcurrentMap<Field, FieldAccessor> fieldAccessors = members(field).fieldAccessors;
+		stats.request(Cache.FIELD_ACCESSORS);
+		FieldAccessor accessor = fieldAccessors.get(field);
+
+		if (accessor == null) {
+			stats.miss(Cache.FIELD_ACCESSORS);
+			accessor = reflectionFactory.getFieldAcessor(field);
+			FieldAccessor registered = fieldAccessors.putIfAbsent(field,
+					accessor);
+			if (registered != null)
+				accessor = registered;
+		}
+
+		return accessor;
+	}
+
+	@Override
+	public MethodInvoker getMethodInvoker(Method method) {
+		ConcurrentMap<Method, MethodInvoker> methodInvokers = members(method).methodInvokers;
+		stats.request(Cache.METHOD_INVOKERS);
+		MethodInvoker invoker = methodInvokers.get(method);
+
+		if (invoker == null) {
+			stats.miss(Cache.METHOD_INVOKERS);
+			invoker = reflectionFactory.getMethodInvoker(method);
+			MethodInvoker registered = methodInvokers.putIfAbsent(method,
+					invoker);
+			if (registered != null)
+				invoker = registered;
+		}
+
+		return invoker;
+	}
+
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		ConcurrentMap<Constructor<?>, ConstructorInvoker> constructorInvokers = members(constructor).constructorInvokers;
+		stats.request(Cache.CONSTRUCTOR_INVOKERS);
+		ConstructorInvoker invoker = constructorInvokers.get(constructor);
+
+		if (invoker == null) {
+			stats.miss(Cache.CONSTRUCTOR_INVOKERS);
+			invoker = reflectionFactory.getConstructorInvoker(constructor);
+			ConstructorInvoker registered = constructorInvokers.putIfAbsent(
+					constructor, invoker);
+			if (registered != null)
+				invoker = registered;
+		}
+
+		return invoker;
+	}
+
+	/**
+	 * Gets the proxy of a field which is not bound to any object
+	 * 
+	 * @param field
+	 *            The field to be wrapped into a proxy
+	 * @return The shared proxy of the field
+	 */
+	FieldProxy fieldProxy(Field field) {
+		FieldEntry entry = fields(members(field)).get(field.getName());
+		return fieldProxy(entry);
+	}
+
+	/**
+	 * Gets the proxy of a field by its name, which is not bound to any object
+	 * 
+	 * @param clazz
+	 *            The class which declares the field
+	 * @param name
+	 *            The name of the field
+	 * @return The shared proxy of the field, or <code>null</code> if the
+	 *         class declares no such field
+	 */
+	FieldProxy fieldProxy(Class<?> clazz, String name) {
+		FieldEntry entry = fields(members(clazz)).get(name);
+		return entry == null ? null : fieldProxy(entry);
+	}
+
+	/**
+	 * Gets a field by its name, without creating its proxy
+	 * 
+	 * @param clazz
+	 *            The class which declares the field
+	 * @param name
+	 *            The name of the field
+	 * @return The field, or <code>null</code> if the class declares no such
+	 *         field
+	 */
+	Field field(Class<?> clazz, String name) {
+		FieldEntry entry = fields(members(clazz)).get(name);
+		return entry == null ? null : entry.field;
+	}
+
+	private FieldProxy fieldProxy(FieldEntry entry) {
+		stats.request(Cache.FIELD_PROXIES);
+		FieldProxy proxy = entry.proxy;
+
+		if (proxy == null) {
+			synchronized (entry) {
+				proxy = entry.proxy;
+				if (proxy == null) {
+					stats.miss(Cache.FIELD_PROXIES);
+					Field field = entry.field;
+					proxy = new ClassFieldProxy(this, field.getDeclaringClass(),
+							field);
+					entry.proxy = proxy;
+				}
+			}
+		}
+
+		return proxy;
+	}
+
+	/**
+	 * Gets the methods a class declares with a name
+	 * 
+	 * @param clazz
+	 *            The class which declares the methods
+	 * @param name
+	 *            The name of the methods
+	 * @return The methods, in declaration order, or <code>null</code> if the
+	 *         class declares no such method. The array is shared and must not
+	 *         be modified.
+	 */
+	Method[] methods(Class<?> clazz, String name) {
+		return methods(members(clazz)).get(name);
+	}
+
+	/**
+	 * Gets the proxy of a method which is not bound to any object
+	 * 
+	 * @param method
+	 *            The method to be wrapped into a proxy
+	 * @return The shared proxy of the method
+	 */
+	MethodProxy methodProxy(Method method) {
+		ConcurrentMap<Method, MethodProxy> methodProxies = members(method).methodProxies;
+		stats.request(Cache.METHOD_PROXIES);
+		MethodProxy proxy = methodProxies.get(method);
+
+		if (proxy == null) {
+			stats.miss(Cache.METHOD_PROXIES);
+			Class<?> clazz = method.getDeclaringClass();
+			proxy = new CoreMethodProxy(this, clazz, method, clazz);
+			MethodProxy registered = methodProxies.putIfAbsent(method, proxy);
+			if (registered != null)
+				proxy = registered;
+		}
+
+		return proxy;
+	}
+
+	/**
+	 * Gets the proxy of a constructor
+	 * 
+	 * @param constructor
+	 *            The constructor to be wrapped into a proxy
+	 * @return The shared proxy of the constructor
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ConstructorProxy<T> constructorProxy(Constructor<T> constructor) {
+		ConcurrentMap<Constructor<?>, ConstructorProxy<?>> constructorProxies = members(constructor).constructorProxies;
+		stats.request(Cache.CONSTRUCTOR_PROXIES);
+		ConstructorProxy<?> proxy = constructorProxies.get(constructor);
+
+		if (proxy == null) {
+			stats.miss(Cache.CONSTRUCTOR_PROXIES);
+			proxy = new CoreConstructorProxy<T>(this, constructor);
+			ConstructorProxy<?> registered = constructorProxies.putIfAbsent(
+					constructor, proxy);
+			if (registered != null)
+				proxy = registered;
+		}
+
+		return (ConstructorProxy<T>) proxy;
+	}
+
+	/**
+	 * Gets the proxy of an annotation
+	 * 
+	 * @param annotated
+	 *            The class which declares the annotated element
+	 * @param annotation
+	 *            The annotation to be wrapped into a proxy
+	 * @return The shared proxy of the annotation
+	 */
+	AnnotationProxy annotationProxy(Class<?> annotated, Annotation annotation) {
+		ConcurrentMap<Annotation, AnnotationProxy> annotationProxies = members(annotated).annotationProxies;
+		stats.request(Cache.ANNOTATION_PROXIES);
+		AnnotationProxy proxy = annotationProxies.get(annotation);
+
+		if (proxy == null) {
+			stats.miss(Cache.ANNOTATION_PROXIES);
+			proxy = new CoreAnnotationProxy(annotation);
+			AnnotationProxy registered = annotationProxies.putIfAbsent(
+					annotation, proxy);
+			if (registered != null)
+				proxy = registered;
+		}
+
+		return proxy;
+	}
+
+	/**
+	 * Gets the cache of the overloads picked for the dynamic calls of a method
+	 * 
+	 * @param clazz
+	 *            The class which declares the method
+	 * @param name
+	 *            The name of the method
+	 * @return The shared cache of the overloads of the method
+	 */
+	OverloadCache overloads(Class<?> clazz, String name) {
+		ConcurrentMap<String, OverloadCache> overloads = members(clazz).overloads;
+		OverloadCache cache = overloads.get(name);
+
+		if (cache == null) {
+			cache = new OverloadCache(this, clazz, name);
+			OverloadCache registered = overloads.putIfAbsent(name, cache);
+			if (registered != null)
+				cache = registered;
+		}
+
+		return cache;
+	}
+
+	/**
+	 * Gets the declared fields of a class addressed by slot
+	 * 
+	 * @param clazz
+	 *            The class which declares the fields
+	 * @return The shared slots of the fields of the class
+	 */
+	FieldSlots fieldSlots(Class<?> clazz) {
+		ClassMembers members = members(clazz);
+		FieldSlots slots = members.fieldSlots;
+
+		if (slots == null) {
+			synchronized (members) {
+				slots = members.fieldSlots;
+				if (slots == null) {
+					slots = new CoreFieldSlots(this, clazz.getDeclaredFields());
+					members.fieldSlots = slots;
+				}
+			}
+		}
+
+		return slots;
+	}
+
+	/**
+	 * Gets the method a class declares with a name and no parameters
+	 * 
+	 * @param clazz
+	 *            The class which declares the method
+	 * @param name
+	 *            The name of the method
+	 * @return The method, or <code>null</code> if the class declares no such
+	 *         method
+	 */
+	Method noArgMethod(Class<?> clazz, String name) {
+		Method[] methods = methods(clazz, name);
+		Method found = null;
+
+		if (methods != null) {
+			// Among bridges, pick the most specific return type, as
+			// getDeclaredMethod does
+			for (Method method : methods) {
+				if (method.getParameterCount() == 0
+						&& (found == null || found.getReturnType()
+								.isAssignableFrom(method.getReturnType())))
+					found = method;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Gets the table of the declared fields of a class, building it on the
+	 * first request
+	 */
+	private NameTable<FieldEntry> fields(ClassMembers members) {
+		NameTable<FieldEntry> table = members.fields;
+
+		if (table == null) {
+			synchronized (members) {
+				table = members.fields;
+				if (table == null) {
+					Field[] fields = members.type.getDeclaredFields();
+					String[] names = new String[fields.length];
+					FieldEntry[] entries = new FieldEntry[fields.length];
+
+					for (int i = 0; i < fields.length; i++) {
+						names[i] = fields[i].getName();
+						entries[i] = new FieldEntry(fields[i]);
+					}
+
+					table = new NameTable<FieldEntry>(names, entries);
+					members.fields = table;
+				}
+			}
+		}
+
+		return table;
+	}
+
+	/**
+	 * Gets the table of the declared methods of a class, by name, building
+	 * it on the first request
+	 */
+	private NameTable<Method[]> methods(ClassMembers members) {
+		NameTable<Method[]> table = members.methods;
+
+		if (table == null) {
+			Map<String, List<Method>> named = new LinkedHashMap<String, List<Method>>();
+
+			for (Method method : members.type.getDeclaredMethods()) {
+				List<Method> sameName = named.get(method.getName());
+				if (sameName == null) {
+					sameName = new ArrayList<Method>(1);
+					named.put(method.getName(), sameName);
+				}
+				sameName.add(method);
+			}
+
+			String[] names = new String[named.size()];
+			Method[][] methods = new Method[named.size()][];
+			int i = 0;
+
+			for (Map.Entry<String, List<Method>> entry : named.entrySet()) {
+				names[i] = entry.getKey();
+				methods[i++] = entry.getValue().toArray(new Method[0]);
+			}
+
+			// The table holds no state, so a racing thread may build its own
+			table = new NameTable<Method[]>(names, methods);
+			members.methods = table;
+		}
+
+		return table;
+	}
+
+	private ClassMembers members(Member member) {
+		return members(member.getDeclaringClass());
+	}
+
+	private ClassMembers members(Class<?> type) {
+		ClassCache<ClassMembers> cache = classes.get();
+
+		// The Reflector was dropped, but some of its proxies are still used
+		if (cache == null)
+			return new ClassMembers(this, type);
+
+		stats.request(Cache.CLASSES);
+		return cache.get(type);
+	}
+
+	/**
+	 * Everything the registry created for one class
+	 */
+	private static final class ClassMembers {
+
+		final ClassProxy<?> classProxy;
+
+		final ConcurrentMap<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<Field, FieldAccessor>();
+
+		final ConcurrentMap<Method, MethodInvoker> methodInvokers = new ConcurrentHashMap<Method, MethodInvoker>();
+
+		final ConcurrentMap<Constructor<?>, ConstructorInvoker> constructorInvokers = new ConcurrentHashMap<Constructor<?>, ConstructorInvoker>();
+
+		final ConcurrentMap<Method, MethodProxy> methodProxies = new ConcurrentHashMap<Method, MethodProxy>();
+
+		final ConcurrentMap<Constructor<?>, ConstructorProxy<?>> constructorProxies = new ConcurrentHashMap<Constructor<?>, ConstructorProxy<?>>();
+
+		final ConcurrentMap<Annotation, AnnotationProxy> annotationProxies = new ConcurrentHashMap<Annotation, AnnotationProxy>();
+
+		final ConcurrentMap<String, OverloadCache> overloads = new ConcurrentHashMap<String, OverloadCache>();
+
+		/**
+		 * The declared fields, by name
+		 */
+		volatile NameTable<FieldEntry> fields;
+
+		/**
+		 * The declared methods, by name
+		 */
+		volatile NameTable<Method[]> methods;
+
+		/**
+		 * The declared fields, by slot
+		 */
+		volatile FieldSlots fieldSlots;
+
+		final Class<?> type;
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		ClassMembers(MemberRegistry registry, Class<?> type) {
+			this.type = type;
+			this.classProxy = new CoreClassProxy(registry, type);
+		}
+	}
+
+	/**
+	 * A declared field and its proxy, created on the first request
+	 */
+	private static final class FieldEntry {
+
+		final Field field;
+
+		volatile FieldProxy proxy;
+
+		FieldEntry(Field field) {
+			this.field = field;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package br.mikhas.reflector;
+
+/**
+ * An immutable table of values by name, which the members of a class are
+ * looked up through.
+ * <p>
+ * The table is open addressed with linear probing and kept at most half
+ * full, so a lookup is usually a single probe: one hash and one string
+ * comparison, which is skipped when the name is the interned instance the
+ * table was built with, as member names and string literals are.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @param <V>
+ *            The type of the values
+ */
+final class NameTable<V> {
+
+	private final String[] names;
+
+	private final int[] hashes;
+
+	private final Object[] values;
+
+	private final int mask;
+
+	private final int size;
+
+	/**
+	 * Creates a table
+	 * 
+	 * @param names
+	 *            The distinct names
+	 * @param values
+	 *            The value of each name, on the same position
+	 */
+	NameTable(String[] names, V[] values) {
+		int capacity = Integer
+				.highestOneBit(Math.max(2, names.length * 2 - 1)) << 1;
+
+		this.names = new String[capacity];
+		this.hashes = new int[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+		this.size = names.length;
+
+		for (int i = 0; i < names.length; i++) {
+			int hash = hash(names[i]);
+			int slot = hash & mask;
+
+			while (this.names[slot] != null)
+				slot = (slot + 1) & mask;
+
+			this.names[slot] = names[i];
+			this.hashes[slot] = hash;
+			this.values[slot] = values[i];
+		}
+	}
+
+	/**
+	 * Gets the value of a name
+	 * 
+	 * @param name
+	 *            The name
+	 * @return the value of the name, or <code>null</code> if the table does
+	 *         not hold it
+	 */
+	@SuppressWarnings("unchecked")
+	V get(String name) {
+		int hash = hash(name);
+		int slot = hash & mask;
+		String candidate;
+
+		while ((candidate = names[slot]) != null) {
+			if (candidate == name
+					|| (hashes[slot] == hash && candidate.equals(name)))
+				return (V) values[slot];
+			slot = (slot + 1) & mask;
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the amount of names on the table
+	 */
+	int size() {
+		return size;
+	}
+
+	private static int hash(String name) {
+		int hash = name.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+}
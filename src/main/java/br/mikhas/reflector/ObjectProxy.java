@@ -17,6 +17,29 @@ public interface ObjectProxy<T> extends ClassProxy<T> {
 	 */
 	public T object();
 
+	/**
+	 * Gets the value of a field of the object by its slot
+	 * 
+	 * @param <V>
+	 *            The type of the field
+	 * @param slot
+	 *            The slot of the field
+	 * @return the value of the field
+	 * @see ClassProxy#fieldIndex(String)
+	 */
+	public <V> V get(int slot);
+
+	/**
+	 * Sets the value of a field of the object by its slot
+	 * 
+	 * @param slot
+	 *            The slot of the field
+	 * @param value
+	 *            The new value of the field
+	 * @see ClassProxy#fieldIndex(String)
+	 */
+	public void set(int slot, Object value);
+
 	/**
 	 * Casts the objectto a type
 	 * 
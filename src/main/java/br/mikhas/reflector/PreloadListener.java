@@ -0,0 +1,28 @@
+package br.mikhas.reflector;
+
+/**
+ * Follows the progress of a {@link Reflector#preload(java.util.Collection)
+ * preload}.
+ * <p>
+ * Classes are preloaded in parallel, so the listener is called concurrently
+ * from the threads of the preloading pool and must be thread safe.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public interface PreloadListener {
+
+	/**
+	 * Called once a class was preloaded, even if some of its members failed
+	 * 
+	 * @param type
+	 *            The preloaded class
+	 * @param completed
+	 *            The amount of classes preloaded so far, including this one
+	 * @param total
+	 *            The amount of classes being preloaded
+	 * @param nanos
+	 *            The time taken to preload the class, in nanoseconds
+	 */
+	public void preloaded(Class<?> type, int completed, int total, long nanos);
+}
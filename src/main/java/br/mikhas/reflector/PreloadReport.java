@@ -0,0 +1,106 @@
+package br.mikhas.reflector;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a {@link Reflector#preload(java.util.Collection) preload}:
+ * how much was built, how long it took and what failed.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public final class PreloadReport {
+
+	private final int classes;
+
+	private final long fieldAccessors;
+
+	private final long methodInvokers;
+
+	private final long constructorInvokers;
+
+	private final long elapsedNanos;
+
+	private final Map<Class<?>, Long> times;
+
+	private final Map<String, Throwable> failures;
+
+	PreloadReport(int classes, long fieldAccessors, long methodInvokers,
+			long constructorInvokers, long elapsedNanos,
+			Map<Class<?>, Long> times, Map<String, Throwable> failures) {
+		this.classes = classes;
+		this.fieldAccessors = fieldAccessors;
+		this.methodInvokers = methodInvokers;
+		this.constructorInvokers = constructorInvokers;
+		this.elapsedNanos = elapsedNanos;
+		this.times = Collections.unmodifiableMap(times);
+		this.failures = Collections.unmodifiableMap(failures);
+	}
+
+	/**
+	 * @return the amount of preloaded classes
+	 */
+	public int classes() {
+		return classes;
+	}
+
+	/**
+	 * @return the amount of field accessors built
+	 */
+	public long fieldAccessors() {
+		return fieldAccessors;
+	}
+
+	/**
+	 * @return the amount of method invokers built
+	 */
+	public long methodInvokers() {
+		return methodInvokers;
+	}
+
+	/**
+	 * @return the amount of constructor invokers built
+	 */
+	public long constructorInvokers() {
+		return constructorInvokers;
+	}
+
+	/**
+	 * @return the wall clock time of the whole preload, in nanoseconds
+	 */
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the time each class took to preload. The times are measured on
+	 * the threads of the pool, so their sum exceeds the
+	 * {@link #elapsedNanos() elapsed time} when classes run in parallel.
+	 * 
+	 * @return the preload time of each class, in nanoseconds
+	 */
+	public Map<Class<?>, Long> times() {
+		return times;
+	}
+
+	/**
+	 * Gets what failed during the preload, by class name. A class which could
+	 * not be loaded is not preloaded at all, while a class with a failing
+	 * member still has the rest of its members preloaded and only its first
+	 * failure reported.
+	 * 
+	 * @return the failures, by class name
+	 */
+	public Map<String, Throwable> failures() {
+		return failures;
+	}
+
+	@Override
+	public String toString() {
+		return "Preloaded " + classes + " classes in " + elapsedNanos
+				/ 1000000 + " ms: " + fieldAccessors + " field accessors, "
+				+ methodInvokers + " method invokers, " + constructorInvokers
+				+ " constructor invokers, " + failures.size() + " failures";
+	}
+}
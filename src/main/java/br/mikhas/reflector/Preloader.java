@@ -0,0 +1,330 @@
+package br.mikhas.reflector;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Builds, ahead of their first use, the class proxies, member proxies, field
+ * accessors and invokers of a set of classes through a
+ * {@link MemberRegistry}.
+ * <p>
+ * Classes are split between the threads of a {@link ForkJoinPool}. A
+ * failing member is reported and skipped, so one member the backend can not
+ * handle does not leave the rest of its class cold.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class Preloader {
+
+	private final MemberRegistry registry;
+
+	private final ForkJoinPool pool;
+
+	private final PreloadListener listener;
+
+	private final AtomicInteger completed = new AtomicInteger();
+
+	private final LongAdder fieldAccessors = new LongAdder();
+
+	private final LongAdder methodInvokers = new LongAdder();
+
+	private final LongAdder constructorInvokers = new LongAdder();
+
+	private final Map<Class<?>, Long> times = new ConcurrentHashMap<Class<?>, Long>();
+
+	private final Map<String, Throwable> failures = new ConcurrentHashMap<String, Throwable>();
+
+	private List<Class<?>> classes;
+
+	/**
+	 * Creates a preloader
+	 * 
+	 * @param registry
+	 *            The registry whose entries are built
+	 * @param pool
+	 *            The pool which the classes are preloaded on
+	 * @param listener
+	 *            The listener notified as classes are preloaded, or
+	 *            <code>null</code>
+	 */
+	Preloader(MemberRegistry registry, ForkJoinPool pool,
+			PreloadListener listener) {
+		if (pool == null)
+			throw new NullPointerException("ForkJoinPool must not be null");
+		this.registry = registry;
+		this.pool = pool;
+		this.listener = listener;
+	}
+
+	/**
+	 * Preloads a set of classes
+	 * 
+	 * @param classes
+	 *            The classes
+	 * @return the report of the preload
+	 */
+	PreloadReport preload(Collection<? extends Class<?>> classes) {
+		long start = System.nanoTime();
+		this.classes = new ArrayList<Class<?>>(
+				new LinkedHashSet<Class<?>>(classes));
+
+		if (!this.classes.isEmpty())
+			pool.invoke(new PreloadTask(0, this.classes.size()));
+
+		return new PreloadReport(this.classes.size(), fieldAccessors.sum(),
+				methodInvokers.sum(), constructorInvokers.sum(), System
+						.nanoTime()
+						- start, times, failures);
+	}
+
+	/**
+	 * Preloads the classes of a package and its subpackages which are found on
+	 * the directories and jars of a class loader. Classes are loaded without
+	 * being initialized.
+	 * 
+	 * @param packageName
+	 *            The name of the package
+	 * @param classLoader
+	 *            The class loader which the classes are found and loaded
+	 *            through
+	 * @return the report of the preload
+	 */
+	PreloadReport preload(String packageName, ClassLoader classLoader) {
+		List<Class<?>> found = new ArrayList<Class<?>>();
+
+		for (String className : classNames(packageName, classLoader)) {
+			try {
+				found.add(Class.forName(className, false, classLoader));
+			} catch (ClassNotFoundException e) {
+				failures.put(className, e);
+			} catch (LinkageError e) {
+				failures.put(className, e);
+			}
+		}
+
+		return preload(found);
+	}
+
+	/**
+	 * Builds everything a class is reflected through
+	 */
+	private void preload(Class<?> type) {
+		long start = System.nanoTime();
+
+		try {
+			ClassProxy<?> proxy = registry.classProxy(type);
+			proxy.fields();
+			proxy.methods();
+			proxy.constructors();
+			proxy.annotations();
+		} catch (RuntimeException e) {
+			failed(type, e);
+		} catch (LinkageError e) {
+			failed(type, e);
+		}
+
+		for (Field field : declaredFields(type)) {
+			if (field.isSynthetic())
+				continue;
+			try {
+				registry.getFieldAcessor(field);
+				fieldAccessors.increment();
+			} catch (RuntimeException e) {
+				failed(type, e);
+			}
+		}
+
+		for (Method method : declaredMethods(type)) {
+			if (method.isSynthetic())
+				continue;
+			try {
+				registry.getMethodInvoker(method);
+				methodInvokers.increment();
+			} catch (RuntimeException e) {
+				failed(type, e);
+			}
+		}
+
+		if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+			for (Constructor<?> constructor : declaredConstructors(type)) {
+				if (constructor.isSynthetic())
+					continue;
+				try {
+					registry.getConstructorInvoker(constructor);
+					constructorInvokers.increment();
+				} catch (RuntimeException e) {
+					failed(type, e);
+				}
+			}
+		}
+
+		long nanos = System.nanoTime() - start;
+		times.put(type, nanos);
+		int done = completed.incrementAndGet();
+
+		if (listener != null)
+			listener.preloaded(type, done, classes.size(), nanos);
+	}
+
+	private Field[] declaredFields(Class<?> type) {
+		try {
+			return type.getDeclaredFields();
+		} catch (LinkageError e) {
+			failed(type, e);
+			return new Field[0];
+		}
+	}
+
+	private Method[] declaredMethods(Class<?> type) {
+		try {
+			return type.getDeclaredMethods();
+		} catch (LinkageError e) {
+			failed(type, e);
+			return new Method[0];
+		}
+	}
+
+	private Constructor<?>[] declaredConstructors(Class<?> type) {
+		try {
+			return type.getDeclaredConstructors();
+		} catch (LinkageError e) {
+			failed(type, e);
+			return new Constructor<?>[0];
+		}
+	}
+
+	/**
+	 * Keeps the first failure of a class
+	 */
+	private void failed(Class<?> type, Throwable cause) {
+		failures.putIfAbsent(type.getName(), cause);
+	}
+
+	/**
+	 * Finds the names of the classes of a package and its subpackages
+	 */
+	private static Set<String> classNames(String packageName,
+			ClassLoader classLoader) {
+		String path = packageName.replace('.', '/');
+		Set<String> classNames = new LinkedHashSet<String>();
+
+		try {
+			Enumeration<URL> resources = classLoader.getResources(path);
+
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+
+				if ("file".equals(resource.getProtocol()))
+					scanDirectory(new File(resource.toURI()), packageName,
+							classNames);
+				else if ("jar".equals(resource.getProtocol()))
+					scanJar(resource, path, classNames);
+			}
+		} catch (IOException e) {
+			throw new ReflectionException("Could not scan package: "
+					+ packageName, e);
+		} catch (URISyntaxException e) {
+			throw new ReflectionException("Could not scan package: "
+					+ packageName, e);
+		}
+
+		return classNames;
+	}
+
+	private static void scanDirectory(File directory, String packageName,
+			Set<String> classNames) {
+		File[] files = directory.listFiles();
+
+		if (files == null)
+			return;
+
+		for (File file : files) {
+			String name = file.getName();
+
+			if (file.isDirectory())
+				scanDirectory(file, packageName + '.' + name, classNames);
+			else if (isClassFile(name))
+				classNames.add(packageName + '.'
+						+ name.substring(0, name.length() - 6));
+		}
+	}
+
+	private static void scanJar(URL resource, String path,
+			Set<String> classNames) throws IOException {
+		JarURLConnection connection = (JarURLConnection) resource
+				.openConnection();
+		connection.setUseCaches(false);
+		JarFile jar = connection.getJarFile();
+
+		try {
+			Enumeration<JarEntry> entries = jar.entries();
+
+			while (entries.hasMoreElements()) {
+				String name = entries.nextElement().getName();
+
+				if (name.startsWith(path + '/') && isClassFile(name))
+					classNames.add(name.substring(0, name.length() - 6)
+							.replace('/', '.'));
+			}
+		} finally {
+			jar.close();
+		}
+	}
+
+	private static boolean isClassFile(String name) {
+		return name.endsWith(".class") && !name.endsWith("module-info.class")
+				&& !name.endsWith("package-info.class");
+	}
+
+	/**
+	 * Preloads a range of the classes, splitting it in halves until each task
+	 * holds a single class
+	 */
+	private final class PreloadTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+
+		private final int to;
+
+		PreloadTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				preload(classes.get(from));
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new PreloadTask(from, middle), new PreloadTask(middle,
+					to));
+		}
+	}
+}
@@ -118,6 +118,39 @@ public class ReflectionUtils {
 		return types;
 	}
 
+	/**
+	 * Checks if every type is loaded by a class loader or one of its
+	 * ancestors, so a cache of the loader may refer to them without keeping
+	 * another loader from being unloaded
+	 * 
+	 * @param loader
+	 *            The class loader, or <code>null</code> for the bootstrap loader
+	 * @param types
+	 *            The types, where <code>null</code> elements are ignored
+	 * @return <code>true</code> if every type is visible to the loader through
+	 *         its ancestors
+	 */
+	public static boolean isLoadedBy(ClassLoader loader, Class<?>... types) {
+		for (Class<?> type : types) {
+			if (type == null)
+				continue;
+
+			ClassLoader typeLoader = type.getClassLoader();
+
+			if (typeLoader == null)
+				continue;
+
+			ClassLoader ancestor = loader;
+			while (ancestor != null && ancestor != typeLoader)
+				ancestor = ancestor.getParent();
+
+			if (ancestor == null)
+				return false;
+		}
+
+		return true;
+	}
+
 	/**
 	 * Gets the names of the classes on the array
 	 * 
@@ -189,59 +222,7 @@ public class ReflectionUtils {
 	 */
 	public static Method lookupMethod(Class<?> cls, String name,
 			Class<?>[] types) {
-		Method m;
-
-		try {
-			return cls.getDeclaredMethod(name, types);
-		} catch (Throwable t) {
-
-		}
-
-		Method[] methods = cls.getDeclaredMethods();
-
-		for (int i = 0; i < methods.length; i++) {
-			m = methods[i];
-
-			if (name != null && !m.getName().equals(name)) {
-				continue;
-			}
-
-			Class<?>[] params = m.getParameterTypes();
-
-			if (params.length != types.length)
-				continue;
-
-			if (assignable(params, types)) {
-				return m;
-			}
-		}
-
-		// Try swapping primitives to wrappers
-
-		Class<?>[] wrappers = new Class<?>[types.length];
-		for (int j = 0; j < types.length; j++)
-			wrappers[j] = getWrapper(types[j]);
-
-		for (int i = 0; i < methods.length; i++) {
-			m = methods[i];
-
-			if (name != null && !m.getName().equals(name))
-				continue;
-
-			Class<?>[] params = m.getParameterTypes();
-
-			if (params.length != wrappers.length)
-				continue;
-
-			for (int k = 0; k < params.length; k++)
-				params[k] = getWrapper(params[k]);
-
-			if (assignable(params, wrappers)) {
-				return m;
-			}
-		}
-
-		return null;
+		return MemberIndex.of(cls).lookupMethod(name, types);
 	}
 
 	/**
@@ -258,30 +239,7 @@ public class ReflectionUtils {
 	@SuppressWarnings("unchecked")
 	public static <T> Constructor<T> lookupConstructor(Class<T> cls,
 			Class<?>[] types) {
-		Constructor<?> con;
-
-		try {
-			return cls.getDeclaredConstructor(types);
-		} catch (Throwable t) {
-
-		}
-
-		Constructor<?>[] cons = cls.getDeclaredConstructors();
-
-		for (int i = 0; i < cons.length; i++) {
-			con = cons[i];
-
-			Class<?>[] params = con.getParameterTypes();
-
-			if (params.length != types.length)
-				continue;
-
-			if (assignable(params, types)) {
-				return (Constructor<T>) con;
-			}
-		}
-
-		return null;
+		return (Constructor<T>) MemberIndex.of(cls).lookupConstructor(types);
 	}
 
 	/**
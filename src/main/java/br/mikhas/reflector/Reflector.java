@@ -2,8 +2,8 @@ package br.mikhas.reflector;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import br.mikhas.reflector.config.JdkReflectionFactory;
 import br.mikhas.reflector.config.ReflectionFactory;
@@ -22,34 +22,151 @@ import br.mikhas.reflector.method.MethodProxy;
 public class Reflector {
 
 	/**
-	 * Caches the already created proxies
+	 * The classes and members reflected through this Reflector.
+	 * <p>
+	 * The proxies are stored on the classes themselves, so reads take no lock
+	 * and do not contend between threads, and they go away with their classes.
 	 */
-	private final Map<Class<?>, ClassProxy<?>> classProxyCache;
+	private final MemberRegistry registry;
 
-	private final Map<Class<?>, Integer> classProxyGetCount;
-
-	private final static int PROXY_GET_THRESHOLD = 20;
+	/**
+	 * The cache of the registry, which the registry only references weakly
+	 * and this Reflector keeps reachable
+	 */
+	private final Object classes;
 
-	private final ReflectionFactory reflectionFactory;
+	private final ReflectorStats stats = new ReflectorStats();
 
-	{
-		classProxyCache = new ConcurrentHashMap<Class<?>, ClassProxy<?>>(50);
-		classProxyGetCount = new ConcurrentHashMap<Class<?>, Integer>(100);
+	/**
+	 * Creates a new Reflector which keeps the members of up to
+	 * {@value ClassCache#DEFAULT_MAXIMUM_SIZE} classes
+	 * 
+	 * @param reflectionFactory
+	 *            The backend used to access fields and invoke methods
+	 */
+	public Reflector(ReflectionFactory reflectionFactory) {
+		this(reflectionFactory, ClassCache.DEFAULT_MAXIMUM_SIZE);
 	}
 
 	/**
-	 * Using a private constructor to keep it an untility class
+	 * Creates a new Reflector with a bounded cache.
+	 * <p>
+	 * Once more classes are reflected, the proxies, accessors and invokers of
+	 * the least recently used classes are dropped and created again on their
+	 * next use.
+	 * <p>
+	 * Classes marked with {@link br.mikhas.reflector.annotation.Precompile}
+	 * are served by their build time generated accessors when the backend is
+	 * a {@link br.mikhas.reflector.config.PrecompiledReflectionFactory}.
+	 * 
+	 * @param reflectionFactory
+	 *            The backend used to access fields and invoke methods
+	 * @param maximumCachedClasses
+	 *            The maximum amount of classes whose members are kept
 	 */
-	public Reflector(ReflectionFactory reflectionFactory) {
+	public Reflector(ReflectionFactory reflectionFactory,
+			int maximumCachedClasses) {
 		if (reflectionFactory == null)
 			throw new NullPointerException("ReflectionFactory must not be null");
-		this.reflectionFactory = reflectionFactory;
+		this.registry = new MemberRegistry(reflectionFactory, stats);
+		this.classes = registry.createCache(maximumCachedClasses);
+	}
+
+	/**
+	 * Gets the usage statistics of the caches of this Reflector
+	 * 
+	 * @return the statistics, which are updated as the Reflector is used
+	 */
+	public ReflectorStats stats() {
+		return stats;
 	}
 
 	public Reflector() {
 		this(new JdkReflectionFactory());
 	}
 
+	/**
+	 * Builds the class proxies, member proxies, field accessors and invokers of
+	 * a set of classes ahead of their first use, in parallel on the common
+	 * {@link ForkJoinPool}
+	 * 
+	 * @param classes
+	 *            The classes to be preloaded
+	 * @return the report of what was built and what failed
+	 * @see #preload(Collection, ForkJoinPool, PreloadListener)
+	 */
+	public PreloadReport preload(Collection<? extends Class<?>> classes) {
+		return preload(classes, ForkJoinPool.commonPool(), null);
+	}
+
+	/**
+	 * Builds the class proxies, member proxies, field accessors and invokers of
+	 * a set of classes ahead of their first use.
+	 * <p>
+	 * The classes are preloaded in parallel on the given pool and the call
+	 * returns once all of them are done. Members which the backend fails on
+	 * are reported and left to be built on their first use. Preloading more
+	 * classes than the maximum cached by this Reflector evicts the ones
+	 * preloaded first.
+	 * 
+	 * @param classes
+	 *            The classes to be preloaded
+	 * @param pool
+	 *            The pool which the classes are preloaded on
+	 * @param listener
+	 *            The listener notified as each class is done, or
+	 *            <code>null</code>
+	 * @return the report of what was built and what failed
+	 */
+	public PreloadReport preload(Collection<? extends Class<?>> classes,
+			ForkJoinPool pool, PreloadListener listener) {
+		return new Preloader(registry, pool, listener).preload(classes);
+	}
+
+	/**
+	 * Preloads the classes of a package and its subpackages, found on the
+	 * directories and jars of the context class loader
+	 * 
+	 * @param packageName
+	 *            The name of the package, such as <code>com.acme.model</code>
+	 * @return the report of what was built and what failed
+	 * @see #preload(String, ClassLoader, ForkJoinPool, PreloadListener)
+	 */
+	public PreloadReport preload(String packageName) {
+		ClassLoader classLoader = Thread.currentThread()
+				.getContextClassLoader();
+		return preload(packageName, classLoader != null ? classLoader
+				: Reflector.class.getClassLoader(), ForkJoinPool.commonPool(),
+				null);
+	}
+
+	/**
+	 * Preloads the classes of a package and its subpackages.
+	 * <p>
+	 * The classes are found on the directories and jars of the class loader
+	 * and loaded without being initialized. Classes which fail to load are
+	 * reported and skipped.
+	 * 
+	 * @param packageName
+	 *            The name of the package, such as <code>com.acme.model</code>
+	 * @param classLoader
+	 *            The class loader which the classes are found and loaded
+	 *            through
+	 * @param pool
+	 *            The pool which the classes are preloaded on
+	 * @param listener
+	 *            The listener notified as each class is done, or
+	 *            <code>null</code>
+	 * @return the report of what was built and what failed
+	 * @see #preload(Collection, ForkJoinPool, PreloadListener)
+	 */
+	public PreloadReport preload(String packageName, ClassLoader classLoader,
+			ForkJoinPool pool, PreloadListener listener) {
+		assert packageName != null && !packageName.isEmpty();
+		return new Preloader(registry, pool, listener).preload(packageName,
+				classLoader);
+	}
+
 	/**
 	 * Applies Reflector features to an instance of the Class
 	 * 
@@ -82,7 +199,7 @@ public class Reflector {
 	 * @return A proxy that facilitates the use of reflection over the Object
 	 */
 	public <T> ObjectProxy<T> on(T object) {
-		return new CoreObjectProxy<T>(reflectionFactory, object);
+		return new CoreObjectProxy<T>(registry, object);
 	}
 
 	/**
@@ -98,56 +215,16 @@ public class Reflector {
 	}
 
 	/**
-	 * Gets {@link ClassProxy} from cache if it exists.
+	 * Gets {@link ClassProxy} from cache, creating it on the first request.
 	 * 
 	 * @param <T>
 	 *            The class wrapped by the classproxy
 	 * @param clazz
 	 *            The clazz to be wrapped by the proxy
-	 * @return The {@link ClassProxy} for the clazz from the proxy, if it
-	 *         exists, or a new instance of it
-	 */
-	@SuppressWarnings("unchecked")
-	private synchronized <T> ClassProxy<T> fromCache(Class<T> clazz) {
-
-		ClassProxy<T> classProxy = (ClassProxy<T>) classProxyCache.get(clazz);
-
-		if (classProxy == null) {
-			classProxy = new CoreClassProxy<T>(reflectionFactory, clazz);
-			int count = getProxyGetCount(clazz);
-
-			if (count >= PROXY_GET_THRESHOLD) {
-				classProxyGetCount.remove(clazz);
-				classProxyCache.put(clazz, classProxy);
-			} else {
-				incrementProxyGetCount(clazz);
-			}
-		}
-
-		return classProxy;
-	}
-
-	/**
-	 * Gets how many times the proxy has been required from the cache
-	 * 
-	 * @param clazz
-	 *            The clazz which the proxy is being requested
-	 * @return the amount of times which the class proxy has been requested from
-	 *         the cache
-	 */
-	private int getProxyGetCount(Class<?> clazz) {
-		Integer integer = classProxyGetCount.get(clazz);
-		return integer == null ? 0 : integer.intValue();
-	}
-
-	/**
-	 * Increments the amount of times a proxy has been requested from the cache
-	 * 
-	 * @param clazz
+	 * @return The shared {@link ClassProxy} for the clazz
 	 */
-	private void incrementProxyGetCount(Class<?> clazz) {
-		int count = getProxyGetCount(clazz);
-		classProxyGetCount.put(clazz, count + 1);
+	private <T> ClassProxy<T> fromCache(Class<T> clazz) {
+		return registry.classProxy(clazz);
 	}
 
 	/**
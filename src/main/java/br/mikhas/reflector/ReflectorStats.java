@@ -0,0 +1,112 @@
+package br.mikhas.reflector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import br.mikhas.reflector.config.GenerationStats;
+
+/**
+ * Counts how the caches of a {@link Reflector} are used.
+ * <p>
+ * The counters are striped {@link LongAdder}s, so threads reflecting members
+ * concurrently do not contend on them, and they are only summed when read.
+ * A low hit rate, or a growing amount of fallbacks on the
+ * {@link #generation() generation statistics}, shows a hot path which is
+ * paying for reflection it should not.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public final class ReflectorStats {
+
+	/**
+	 * The caches of a {@link Reflector}
+	 */
+	public enum Cache {
+		CLASSES, FIELD_ACCESSORS, METHOD_INVOKERS, CONSTRUCTOR_INVOKERS, FIELD_PROXIES, METHOD_PROXIES, CONSTRUCTOR_PROXIES, ANNOTATION_PROXIES
+	}
+
+	private final LongAdder[] requests = adders(Cache.values().length);
+
+	private final LongAdder[] misses = adders(Cache.values().length);
+
+	private final LongAdder evictions = new LongAdder();
+
+	ReflectorStats() {
+
+	}
+
+	/**
+	 * Gets how many requests a cache served with an entry it already held
+	 * 
+	 * @param cache
+	 *            The cache
+	 * @return the amount of cache hits
+	 */
+	public long hits(Cache cache) {
+		// Read the misses first, so a concurrent miss never makes it negative
+		long missed = misses(cache);
+		return Math.max(0, requests[cache.ordinal()].sum() - missed);
+	}
+
+	/**
+	 * Gets how many requests a cache served by creating a new entry
+	 * 
+	 * @param cache
+	 *            The cache
+	 * @return the amount of cache misses
+	 */
+	public long misses(Cache cache) {
+		return misses[cache.ordinal()].sum();
+	}
+
+	/**
+	 * Gets how many classes were evicted, along with all their members, to
+	 * keep the cache within its maximum size
+	 * 
+	 * @return the amount of evicted classes
+	 */
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Gets the JVM wide statistics of the generated accessor and invoker
+	 * classes and of the backend fallbacks
+	 * 
+	 * @return the generation statistics
+	 */
+	public GenerationStats generation() {
+		return GenerationStats.getDefault();
+	}
+
+	void request(Cache cache) {
+		requests[cache.ordinal()].increment();
+	}
+
+	void miss(Cache cache) {
+		misses[cache.ordinal()].increment();
+	}
+
+	void evicted(int amount) {
+		evictions.add(amount);
+	}
+
+	private static LongAdder[] adders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++)
+			adders[i] = new LongAdder();
+		return adders;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("ReflectorStats[");
+
+		for (Cache cache : Cache.values())
+			builder.append(cache).append("=").append(hits(cache)).append('/')
+					.append(misses(cache)).append(", ");
+
+		return builder.append("evictions=").append(evictions()).append(", ")
+				.append(generation()).append(']').toString();
+	}
+}
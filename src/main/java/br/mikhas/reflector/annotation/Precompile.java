@@ -0,0 +1,30 @@
+package br.mikhas.reflector.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose field accessors and method invokers are generated at
+ * build time by the <code>reflector-processor</code> annotation processor.
+ * <p>
+ * The generated accessors are plain Java classes in the package of the
+ * annotated class, registered as
+ * {@link br.mikhas.reflector.config.PrecompiledAccessors} services, so a
+ * {@link br.mikhas.reflector.Reflector} created with a
+ * {@link br.mikhas.reflector.config.PrecompiledReflectionFactory} serves the
+ * class without generating any bytecode or falling back to the reflection
+ * API. Private members, final
+ * fields and constructors are still served by the runtime backend.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Precompile {
+
+}
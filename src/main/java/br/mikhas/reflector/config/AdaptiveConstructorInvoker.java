@@ -0,0 +1,40 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link ConstructorInvoker} which creates objects through the reflection
+ * API until the constructor is used often enough to be worth an optimized
+ * invoker.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @see AdaptiveReflectionFactory
+ */
+final class AdaptiveConstructorInvoker extends
+		AdaptiveDelegate<ConstructorInvoker> implements ConstructorInvoker {
+
+	private final Constructor<?> constructor;
+
+	private final ReflectionFactory optimized;
+
+	AdaptiveConstructorInvoker(Constructor<?> constructor,
+			ConstructorInvoker interpreted, ReflectionFactory optimized,
+			int threshold, Executor executor) {
+		super(interpreted, threshold, executor);
+		this.constructor = constructor;
+		this.optimized = optimized;
+	}
+
+	@Override
+	ConstructorInvoker optimize() {
+		return optimized.getConstructorInvoker(constructor);
+	}
+
+	@Override
+	public Object newInstance(Object... args) {
+		return delegate().newInstance(args);
+	}
+
+}
@@ -0,0 +1,130 @@
+package br.mikhas.reflector.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Base of the adaptive accessors and invokers, which serve a member through
+ * an interpreted delegate until it crosses the promotion threshold, and
+ * through an optimized one afterwards.
+ * <p>
+ * The call counter is not synchronized, so concurrent calls may lose a few
+ * counts and promote the member a little later, which costs less than
+ * contending on every call. The delegate is swapped through a volatile
+ * field, so every thread sees the optimized delegate fully built.
+ * <p>
+ * The member moves from interpreted to promoting, and then to promoted or
+ * failed, through compare and set on a volatile state, so exactly one call
+ * starts the promotion and no call ever takes a lock. Calls made while the
+ * member is promoting, or after its promotion failed, are served by the
+ * interpreted delegate without counting. A member whose optimized delegate
+ * could not be built stays interpreted for good.
+ * <p>
+ * When an {@link Executor} is given, the optimized delegate is built on it
+ * and calls keep being served by the interpreted one in the meantime, so no
+ * caller ever waits for code generation.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @param <T>
+ *            The type of the delegates
+ * @see AdaptiveReflectionFactory
+ */
+abstract class AdaptiveDelegate<T> {
+
+	private static final int INTERPRETED = 0;
+
+	private static final int PROMOTING = 1;
+
+	private static final int PROMOTED = 2;
+
+	private static final int FAILED = 3;
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<AdaptiveDelegate> STATE = AtomicIntegerFieldUpdater
+			.newUpdater(AdaptiveDelegate.class, "state");
+
+	private final T interpreted;
+
+	private final int threshold;
+
+	private final Executor executor;
+
+	private int calls;
+
+	private volatile int state = INTERPRETED;
+
+	private volatile T delegate;
+
+	AdaptiveDelegate(T interpreted, int threshold, Executor executor) {
+		this.interpreted = interpreted;
+		this.threshold = threshold;
+		this.executor = executor;
+		this.delegate = interpreted;
+	}
+
+	/**
+	 * Creates the optimized delegate
+	 */
+	abstract T optimize();
+
+	/**
+	 * Gets the delegate which serves the current call, promoting the member
+	 * once it crosses the threshold
+	 */
+	final T delegate() {
+		T current = delegate;
+
+		if (current == interpreted && state == INTERPRETED
+				&& ++calls > threshold)
+			current = promote();
+
+		return current;
+	}
+
+	private T promote() {
+		if (!STATE.compareAndSet(this, INTERPRETED, PROMOTING))
+			return delegate;
+
+		if (executor == null) {
+			build();
+			return delegate;
+		}
+
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					build();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// The executor is full, so a later call tries again
+			calls = 0;
+			state = INTERPRETED;
+		}
+		return interpreted;
+	}
+
+	/**
+	 * Builds the optimized delegate, leaving the member interpreted for good
+	 * if it fails
+	 */
+	private void build() {
+		boolean built = false;
+
+		try {
+			delegate = optimize();
+			built = true;
+		} catch (RuntimeException e) {
+			// Keeps serving the member with the interpreted delegate
+		} finally {
+			state = built ? PROMOTED : FAILED;
+
+			if (!built)
+				GenerationStats.getDefault().fallback(
+						FallbackReason.GENERATION_FAILED);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.Executor;
+
+import br.mikhas.reflector.field.AccessMode;
+
+/**
+ * A {@link FieldAccessor} which accesses a field through the reflection API
+ * until it is used often enough to be worth an optimized accessor.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @see AdaptiveReflectionFactory
+ */
+final class AdaptiveFieldAccessor extends AdaptiveDelegate<FieldAccessor>
+		implements FieldAccessor {
+
+	private final Field field;
+
+	private final ReflectionFactory optimized;
+
+	AdaptiveFieldAccessor(Field field, FieldAccessor interpreted,
+			ReflectionFactory optimized, int threshold, Executor executor) {
+		super(interpreted, threshold, executor);
+		this.field = field;
+		this.optimized = optimized;
+	}
+
+	@Override
+	FieldAccessor optimize() {
+		return optimized.getFieldAcessor(field);
+	}
+
+	@Override
+	public Object get(Object target) {
+		return delegate().get(target);
+	}
+
+	@Override
+	public void set(Object target, Object value) {
+		delegate().set(target, value);
+	}
+
+	@Override
+	public boolean getBoolean(Object target) {
+		return delegate().getBoolean(target);
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		delegate().setBoolean(target, value);
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		return delegate().getByte(target);
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		delegate().setByte(target, value);
+	}
+
+	@Override
+	public char getChar(Object target) {
+		return delegate().getChar(target);
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		delegate().setChar(target, value);
+	}
+
+	@Override
+	public short getShort(Object target) {
+		return delegate().getShort(target);
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		delegate().setShort(target, value);
+	}
+
+	@Override
+	public int getInt(Object target) {
+		return delegate().getInt(target);
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		delegate().setInt(target, value);
+	}
+
+	@Override
+	public long getLong(Object target) {
+		return delegate().getLong(target);
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		delegate().setLong(target, value);
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		return delegate().getFloat(target);
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		delegate().setFloat(target, value);
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		return delegate().getDouble(target);
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		delegate().setDouble(target, value);
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return delegate().getObject(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		delegate().setObject(target, value);
+	}
+
+	@Override
+	public Object get(Object target, AccessMode mode) {
+		return delegate().get(target, mode);
+	}
+
+	@Override
+	public void set(Object target, Object value, AccessMode mode) {
+		delegate().set(target, value, mode);
+	}
+
+}
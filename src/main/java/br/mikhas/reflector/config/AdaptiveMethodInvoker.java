@@ -0,0 +1,184 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link MethodInvoker} which calls a method through the reflection API
+ * until it is used often enough to be worth an optimized invoker.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @see AdaptiveReflectionFactory
+ */
+final class AdaptiveMethodInvoker extends AdaptiveDelegate<MethodInvoker>
+		implements MethodInvoker {
+
+	private final Method method;
+
+	private final ReflectionFactory optimized;
+
+	AdaptiveMethodInvoker(Method method, MethodInvoker interpreted,
+			ReflectionFactory optimized, int threshold, Executor executor) {
+		super(interpreted, threshold, executor);
+		this.method = method;
+		this.optimized = optimized;
+	}
+
+	@Override
+	MethodInvoker optimize() {
+		return optimized.getMethodInvoker(method);
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args) {
+		return delegate().invoke(target, args);
+	}
+
+	@Override
+	public Object invoke0(Object target) {
+		return delegate().invoke0(target);
+	}
+
+	@Override
+	public Object invoke1(Object target, Object arg0) {
+		return delegate().invoke1(target, arg0);
+	}
+
+	@Override
+	public Object invoke2(Object target, Object arg0, Object arg1) {
+		return delegate().invoke2(target, arg0, arg1);
+	}
+
+	@Override
+	public Object invoke3(Object target, Object arg0, Object arg1, Object arg2) {
+		return delegate().invoke3(target, arg0, arg1, arg2);
+	}
+
+	@Override
+	public Object invoke4(Object target, Object arg0, Object arg1,
+			Object arg2, Object arg3) {
+		return delegate().invoke4(target, arg0, arg1, arg2, arg3);
+	}
+
+	@Override
+	public boolean invokeBoolean(Object target, Object... args) {
+		return delegate().invokeBoolean(target, args);
+	}
+
+	@Override
+	public byte invokeByte(Object target, Object... args) {
+		return delegate().invokeByte(target, args);
+	}
+
+	@Override
+	public char invokeChar(Object target, Object... args) {
+		return delegate().invokeChar(target, args);
+	}
+
+	@Override
+	public short invokeShort(Object target, Object... args) {
+		return delegate().invokeShort(target, args);
+	}
+
+	@Override
+	public int invokeInt(Object target, Object... args) {
+		return delegate().invokeInt(target, args);
+	}
+
+	@Override
+	public long invokeLong(Object target, Object... args) {
+		return delegate().invokeLong(target, args);
+	}
+
+	@Override
+	public float invokeFloat(Object target, Object... args) {
+		return delegate().invokeFloat(target, args);
+	}
+
+	@Override
+	public double invokeDouble(Object target, Object... args) {
+		return delegate().invokeDouble(target, args);
+	}
+
+
+	@Override
+	public boolean invokeBoolean(Object target) {
+		return delegate().invokeBoolean(target);
+	}
+
+	@Override
+	public boolean invokeBoolean(Object target, Object arg0) {
+		return delegate().invokeBoolean(target, arg0);
+	}
+
+	@Override
+	public byte invokeByte(Object target) {
+		return delegate().invokeByte(target);
+	}
+
+	@Override
+	public byte invokeByte(Object target, Object arg0) {
+		return delegate().invokeByte(target, arg0);
+	}
+
+	@Override
+	public char invokeChar(Object target) {
+		return delegate().invokeChar(target);
+	}
+
+	@Override
+	public char invokeChar(Object target, Object arg0) {
+		return delegate().invokeChar(target, arg0);
+	}
+
+	@Override
+	public short invokeShort(Object target) {
+		return delegate().invokeShort(target);
+	}
+
+	@Override
+	public short invokeShort(Object target, Object arg0) {
+		return delegate().invokeShort(target, arg0);
+	}
+
+	@Override
+	public int invokeInt(Object target) {
+		return delegate().invokeInt(target);
+	}
+
+	@Override
+	public int invokeInt(Object target, Object arg0) {
+		return delegate().invokeInt(target, arg0);
+	}
+
+	@Override
+	public long invokeLong(Object target) {
+		return delegate().invokeLong(target);
+	}
+
+	@Override
+	public long invokeLong(Object target, Object arg0) {
+		return delegate().invokeLong(target, arg0);
+	}
+
+	@Override
+	public float invokeFloat(Object target) {
+		return delegate().invokeFloat(target);
+	}
+
+	@Override
+	public float invokeFloat(Object target, Object arg0) {
+		return delegate().invokeFloat(target, arg0);
+	}
+
+	@Override
+	public double invokeDouble(Object target) {
+		return delegate().invokeDouble(target);
+	}
+
+	@Override
+	public double invokeDouble(Object target, Object arg0) {
+		return delegate().invokeDouble(target, arg0);
+	}
+}
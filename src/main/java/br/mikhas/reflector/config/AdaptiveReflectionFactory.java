@@ -0,0 +1,170 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves each member through the default reflection API until it is used
+ * often, and only then through a faster backend, just like the JDK inflates
+ * its own reflective accessors.
+ * <p>
+ * Creating a generated invoker costs far more than a few reflective calls,
+ * so members used only a couple of times, which are most of the members
+ * reflected at startup, never pay for it. Once a member has been used more
+ * than {@link #getThreshold() threshold} times its accessor or invoker is
+ * created by the optimized backend and replaces the reflective one for every
+ * following call.
+ * <p>
+ * Given an {@link Executor}, the factory promotes members in the background:
+ * calls keep being served by the reflection API while the optimized
+ * accessor or invoker is generated, so no caller stalls on code generation.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public class AdaptiveReflectionFactory implements ReflectionFactory {
+
+	/**
+	 * The default amount of calls served by the reflection API, the same as
+	 * the JDK inflation threshold
+	 */
+	public static final int DEFAULT_THRESHOLD = 15;
+
+	/**
+	 * The maximum amount of members waiting for background promotion. Members
+	 * beyond it are retried after they cross the threshold again.
+	 */
+	private static final int BACKGROUND_QUEUE_SIZE = 1024;
+
+	private static Executor backgroundExecutor;
+
+	private final ReflectionFactory interpreted = new JdkReflectionFactory();
+
+	private final ReflectionFactory optimized;
+
+	private final int threshold;
+
+	private final Executor executor;
+
+	/**
+	 * Creates an adaptive factory which promotes members to generated
+	 * accessors and invokers after {@value #DEFAULT_THRESHOLD} calls
+	 */
+	public AdaptiveReflectionFactory() {
+		this(new JavassistReflectionFactory());
+	}
+
+	/**
+	 * Creates an adaptive factory which promotes members to the given backend
+	 * after {@value #DEFAULT_THRESHOLD} calls
+	 * 
+	 * @param optimized
+	 *            The backend which serves the frequently used members
+	 */
+	public AdaptiveReflectionFactory(ReflectionFactory optimized) {
+		this(optimized, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Creates an adaptive factory
+	 * 
+	 * @param optimized
+	 *            The backend which serves the frequently used members
+	 * @param threshold
+	 *            The amount of calls served by the reflection API before a
+	 *            member is promoted
+	 */
+	public AdaptiveReflectionFactory(ReflectionFactory optimized, int threshold) {
+		this(optimized, threshold, null);
+	}
+
+	/**
+	 * Creates an adaptive factory which promotes members in the background
+	 * 
+	 * @param optimized
+	 *            The backend which serves the frequently used members
+	 * @param threshold
+	 *            The amount of calls served by the reflection API before a
+	 *            member is promoted
+	 * @param executor
+	 *            The executor which creates the optimized accessors and
+	 *            invokers, or <code>null</code> to create them on the calling
+	 *            thread
+	 * @see #getBackgroundExecutor()
+	 */
+	public AdaptiveReflectionFactory(ReflectionFactory optimized,
+			int threshold, Executor executor) {
+		if (optimized == null)
+			throw new NullPointerException("ReflectionFactory must not be null");
+		if (threshold < 0)
+			throw new IllegalArgumentException(
+					"The threshold must not be negative: " + threshold);
+		this.optimized = optimized;
+		this.threshold = threshold;
+		this.executor = executor;
+	}
+
+	/**
+	 * Gets the shared executor for background promotion.
+	 * <p>
+	 * It runs on a single daemon thread, so code generation never competes
+	 * with the application for more than one core, and holds up to
+	 * {@value #BACKGROUND_QUEUE_SIZE} pending members.
+	 * 
+	 * @return the shared background executor
+	 */
+	public static synchronized Executor getBackgroundExecutor() {
+		if (backgroundExecutor == null) {
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30,
+					TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(
+							BACKGROUND_QUEUE_SIZE), new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable,
+									"reflector-compiler");
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+			backgroundExecutor = executor;
+		}
+		return backgroundExecutor;
+	}
+
+	/**
+	 * @return the amount of calls served by the reflection API before a
+	 *         member is promoted
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		return new AdaptiveFieldAccessor(field,
+				interpreted.getFieldAcessor(field), optimized, threshold,
+				executor);
+	}
+
+	@Override
+	public MethodInvoker getMethodInvoker(Method method) {
+		return new AdaptiveMethodInvoker(method,
+				interpreted.getMethodInvoker(method), optimized, threshold,
+				executor);
+	}
+
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		return new AdaptiveConstructorInvoker(constructor,
+				interpreted.getConstructorInvoker(constructor), optimized,
+				threshold, executor);
+	}
+
+}
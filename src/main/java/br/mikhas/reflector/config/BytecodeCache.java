@@ -0,0 +1,265 @@
+package br.mikhas.reflector.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Keeps the bytecode of generated classes on disk, so later runs of the JVM
+ * can define them without compiling them again.
+ * <p>
+ * Each entry is keyed by the generated class name, the generated member
+ * signature, the class file of the class it was generated for, and the
+ * class file of the generator itself. An entry is only used if its key
+ * matches and its bytecode is intact, so a changed class or a new library
+ * version simply regenerates it. Entries are written to a temporary file
+ * which is then moved into place, so concurrent JVMs sharing a directory
+ * never read a partial entry.
+ * <p>
+ * Cached bytecode is defined into the package of the class it was generated
+ * for, with the same access to its private members, so the directory must
+ * not be writable by users who are not trusted to run code in this JVM.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class BytecodeCache {
+
+	private static final int MAGIC = 0x52464c43;
+
+	/**
+	 * Stands for a class file which can not be read
+	 */
+	private static final byte[] UNREADABLE = new byte[0];
+
+	/**
+	 * The digest of the class file of each class, read once, as a class file
+	 * does not change while its class is loaded
+	 */
+	private static final ClassValue<byte[]> CLASS_FILE_DIGESTS = new ClassValue<byte[]>() {
+		@Override
+		protected byte[] computeValue(Class<?> type) {
+			byte[] digest = readClassFileDigest(type);
+			return digest == null ? UNREADABLE : digest;
+		}
+	};
+
+	private final File directory;
+
+	/**
+	 * The digest of the class file of the generator, which takes part in
+	 * every key
+	 */
+	private final byte[] generatorDigest;
+
+	/**
+	 * Creates a cache on the given directory, creating it if needed
+	 * 
+	 * @param directory
+	 *            The directory which holds the entries
+	 * @param generator
+	 *            The class which generates the cached bytecode
+	 */
+	BytecodeCache(File directory, Class<?> generator) {
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new NativeInvokerCreationException(
+					"Could not create the bytecode cache directory: "
+							+ directory);
+		this.directory = directory;
+		this.generatorDigest = classFileDigest(generator);
+	}
+
+	/**
+	 * @return the directory which holds the entries
+	 */
+	File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Loads the bytecode of a generated class
+	 * 
+	 * @param neighbor
+	 *            The class which the bytecode was generated for
+	 * @param name
+	 *            The name of the generated class
+	 * @param signature
+	 *            The signature of the members the class was generated for
+	 * @return the cached bytecode, or <code>null</code> if it is not cached
+	 *         or no longer valid
+	 */
+	byte[] load(Class<?> neighbor, String name, String signature) {
+		byte[] key = key(neighbor, name, signature);
+		File file = file(name);
+
+		if (key == null || !file.isFile())
+			return null;
+
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new FileInputStream(file));
+
+			if (in.readInt() != MAGIC)
+				return null;
+
+			byte[] storedKey = new byte[in.readUnsignedShort()];
+			in.readFully(storedKey);
+			byte[] storedDigest = new byte[in.readUnsignedShort()];
+			in.readFully(storedDigest);
+			byte[] bytecode = new byte[in.readInt()];
+			in.readFully(bytecode);
+
+			if (!Arrays.equals(key, storedKey)
+					|| !Arrays.equals(storedDigest, digest(bytecode)))
+				return null;
+
+			return bytecode;
+		} catch (IOException e) {
+			return null;
+		} finally {
+			close(in);
+		}
+	}
+
+	/**
+	 * Stores the bytecode of a generated class. Failures are ignored, as the
+	 * class can always be generated again.
+	 * 
+	 * @param neighbor
+	 *            The class which the bytecode was generated for
+	 * @param name
+	 *            The name of the generated class
+	 * @param signature
+	 *            The signature of the members the class was generated for
+	 * @param bytecode
+	 *            The generated bytecode
+	 */
+	void store(Class<?> neighbor, String name, String signature,
+			byte[] bytecode) {
+		byte[] key = key(neighbor, name, signature);
+
+		if (key == null)
+			return;
+
+		File temporary = null;
+		DataOutputStream out = null;
+		try {
+			temporary = File.createTempFile(name, ".tmp", directory);
+			out = new DataOutputStream(new FileOutputStream(temporary));
+
+			out.writeInt(MAGIC);
+			byte[] digest = digest(bytecode);
+			out.writeShort(key.length);
+			out.write(key);
+			out.writeShort(digest.length);
+			out.write(digest);
+			out.writeInt(bytecode.length);
+			out.write(bytecode);
+			out.close();
+			out = null;
+
+			Files.move(temporary.toPath(), file(name).toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			if (temporary != null)
+				temporary.delete();
+		} finally {
+			close(out);
+		}
+	}
+
+	private File file(String name) {
+		return new File(directory, name + ".bytecode");
+	}
+
+	/**
+	 * The key of an entry, or <code>null</code> if the class file of the
+	 * neighbor can not be read to validate it
+	 */
+	private byte[] key(Class<?> neighbor, String name, String signature) {
+		byte[] classDigest = classFileDigest(neighbor);
+
+		if (classDigest == null || generatorDigest == null)
+			return null;
+
+		MessageDigest digest = newDigest();
+		digest.update(name.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(signature.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(classDigest);
+		digest.update(generatorDigest);
+		return digest.digest();
+	}
+
+	/**
+	 * The digest of the class file a class was loaded from, or
+	 * <code>null</code> if it can not be read
+	 */
+	private static byte[] classFileDigest(Class<?> type) {
+		byte[] digest = CLASS_FILE_DIGESTS.get(type);
+		return digest == UNREADABLE ? null : digest;
+	}
+
+	private static byte[] readClassFileDigest(Class<?> type) {
+		String resource = type.getName();
+		resource = resource.substring(resource.lastIndexOf('.') + 1)
+				+ ".class";
+
+		InputStream in = type.getResourceAsStream(resource);
+
+		if (in == null)
+			return null;
+
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+
+			while ((read = in.read(buffer)) != -1)
+				bytes.write(buffer, 0, read);
+
+			return digest(bytes.toByteArray());
+		} catch (IOException e) {
+			return null;
+		} finally {
+			close(in);
+		}
+	}
+
+	private static byte[] digest(byte[] bytes) {
+		return newDigest().digest(bytes);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void close(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				// Nothing left to release
+			}
+		}
+	}
+}
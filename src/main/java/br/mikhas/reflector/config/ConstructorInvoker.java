@@ -0,0 +1,19 @@
+package br.mikhas.reflector.config;
+
+/**
+ * A runtime built constructor invoker which can create java objects without
+ * going through <code>Constructor.newInstance</code> on every call.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public interface ConstructorInvoker {
+	/**
+	 * Creates a new instance through the constructor.
+	 * 
+	 * @param args
+	 *            The constructor arguments on an array
+	 * @return The created object
+	 */
+	public Object newInstance(Object... args);
+}
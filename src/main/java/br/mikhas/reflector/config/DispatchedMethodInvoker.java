@@ -0,0 +1,26 @@
+package br.mikhas.reflector.config;
+
+/**
+ * A {@link MethodInvoker} which calls its method through the shared
+ * dispatcher of the declaring class, so it costs no class of its own.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class DispatchedMethodInvoker implements MethodInvoker {
+
+	final NativeDispatcher dispatcher;
+
+	final int index;
+
+	DispatchedMethodInvoker(NativeDispatcher dispatcher, int index) {
+		this.dispatcher = dispatcher;
+		this.index = index;
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args) {
+		return dispatcher.dispatch(index, target, args);
+	}
+
+}
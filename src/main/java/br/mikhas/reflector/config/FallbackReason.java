@@ -0,0 +1,34 @@
+package br.mikhas.reflector.config;
+
+/**
+ * The reasons why a {@link ReflectionFactory} served a member with a slower
+ * backend than the one it was built for
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public enum FallbackReason {
+
+	/**
+	 * The backend is not available on the environment, such as javassist
+	 * missing from the classpath
+	 */
+	UNAVAILABLE,
+
+	/**
+	 * The backend does not support the member, such as generated code for a
+	 * private member or a VarHandle for a final field
+	 */
+	UNSUPPORTED_MEMBER,
+
+	/**
+	 * The member is not accessible from this library, such as a member of a
+	 * module which is not opened to it
+	 */
+	NOT_ACCESSIBLE,
+
+	/**
+	 * The backend failed to generate the accessor or invoker
+	 */
+	GENERATION_FAILED
+}
@@ -1,5 +1,9 @@
 package br.mikhas.reflector.config;
 
+import java.lang.invoke.VarHandle;
+
+import br.mikhas.reflector.field.AccessMode;
+
 /**
  * The field accessor is responsible by accessing and altering the value of a
  * field.
@@ -27,4 +31,254 @@ public interface FieldAccessor {
 	 *            The new value of the field
 	 */
 	public void set(Object target, Object value);
+
+	/**
+	 * Gets the value of a <code>boolean</code> field, or of a field whose value
+	 * can be widened to <code>boolean</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public boolean getBoolean(Object target);
+
+	/**
+	 * Sets the value of a <code>boolean</code> field, or of a field to which a
+	 * <code>boolean</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setBoolean(Object target, boolean value);
+
+	/**
+	 * Gets the value of a <code>byte</code> field, or of a field whose value
+	 * can be widened to <code>byte</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public byte getByte(Object target);
+
+	/**
+	 * Sets the value of a <code>byte</code> field, or of a field to which a
+	 * <code>byte</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setByte(Object target, byte value);
+
+	/**
+	 * Gets the value of a <code>char</code> field, or of a field whose value
+	 * can be widened to <code>char</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public char getChar(Object target);
+
+	/**
+	 * Sets the value of a <code>char</code> field, or of a field to which a
+	 * <code>char</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setChar(Object target, char value);
+
+	/**
+	 * Gets the value of a <code>short</code> field, or of a field whose value
+	 * can be widened to <code>short</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public short getShort(Object target);
+
+	/**
+	 * Sets the value of a <code>short</code> field, or of a field to which a
+	 * <code>short</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setShort(Object target, short value);
+
+	/**
+	 * Gets the value of an <code>int</code> field, or of a field whose value
+	 * can be widened to <code>int</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public int getInt(Object target);
+
+	/**
+	 * Sets the value of an <code>int</code> field, or of a field to which an
+	 * <code>int</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setInt(Object target, int value);
+
+	/**
+	 * Gets the value of a <code>long</code> field, or of a field whose value
+	 * can be widened to <code>long</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public long getLong(Object target);
+
+	/**
+	 * Sets the value of a <code>long</code> field, or of a field to which a
+	 * <code>long</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setLong(Object target, long value);
+
+	/**
+	 * Gets the value of a <code>float</code> field, or of a field whose value
+	 * can be widened to <code>float</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public float getFloat(Object target);
+
+	/**
+	 * Sets the value of a <code>float</code> field, or of a field to which a
+	 * <code>float</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setFloat(Object target, float value);
+
+	/**
+	 * Gets the value of a <code>double</code> field, or of a field whose value
+	 * can be widened to <code>double</code>, without boxing it
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public double getDouble(Object target);
+
+	/**
+	 * Sets the value of a <code>double</code> field, or of a field to which a
+	 * <code>double</code> can be widened, without boxing it
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setDouble(Object target, double value);
+
+	/**
+	 * Gets the value of the field as an object, boxing primitive values just
+	 * like {@link #get(Object)}
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @return The value of the field in the object
+	 */
+	public Object getObject(Object target);
+
+	/**
+	 * Sets the value of the field from an object, unboxing primitive values
+	 * just like {@link #set(Object, Object)}
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 */
+	public void setObject(Object target, Object value);
+
+	/**
+	 * Gets the value of the field in the target object with the given memory
+	 * ordering.
+	 * <p>
+	 * Accessors which can not order the read themselves surround a plain read
+	 * with {@link VarHandle} fences, which is at least as strong as the mode
+	 * requires.
+	 * 
+	 * @param target
+	 *            The target object which holds the field
+	 * @param mode
+	 *            The memory ordering of the read
+	 * @return The value of the field in the object
+	 */
+	public default Object get(Object target, AccessMode mode) {
+		switch (mode) {
+		case PLAIN:
+			return get(target);
+		case VOLATILE:
+			VarHandle.fullFence();
+			Object ordered = get(target);
+			VarHandle.acquireFence();
+			return ordered;
+		default:
+			Object value = get(target);
+			VarHandle.acquireFence();
+			return value;
+		}
+	}
+
+	/**
+	 * Sets the value of the field in the target object with the given memory
+	 * ordering.
+	 * <p>
+	 * Accessors which can not order the write themselves surround a plain
+	 * write with {@link VarHandle} fences, which is at least as strong as the
+	 * mode requires.
+	 * 
+	 * @param target
+	 *            The object which holds the field
+	 * @param value
+	 *            The new value of the field
+	 * @param mode
+	 *            The memory ordering of the write
+	 */
+	public default void set(Object target, Object value, AccessMode mode) {
+		switch (mode) {
+		case PLAIN:
+			set(target, value);
+			break;
+		case VOLATILE:
+			VarHandle.releaseFence();
+			set(target, value);
+			VarHandle.fullFence();
+			break;
+		default:
+			VarHandle.releaseFence();
+			set(target, value);
+		}
+	}
 }
@@ -0,0 +1,155 @@
+package br.mikhas.reflector.config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the accessor and invoker classes generated by the
+ * {@link ReflectionFactory} backends, how long they took to generate, and
+ * how often a backend fell back to a slower one.
+ * <p>
+ * Generated classes are shared by the whole JVM, so these counters are too.
+ * They are striped {@link LongAdder}s, which are only written when an
+ * accessor or invoker is created, never when it is used.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public final class GenerationStats {
+
+	/**
+	 * The amount of generation time buckets, the last one holding every
+	 * generation which took longer than about eight seconds
+	 */
+	public static final int HISTOGRAM_BUCKETS = 24;
+
+	private static final GenerationStats instance = new GenerationStats();
+
+	private final LongAdder generatedClasses = new LongAdder();
+
+	private final LongAdder generationNanos = new LongAdder();
+
+	private final LongAdder loadedClasses = new LongAdder();
+
+	private final LongAdder[] generationTimes = adders(HISTOGRAM_BUCKETS);
+
+	private final LongAdder[] fallbacks = adders(FallbackReason.values().length);
+
+	/**
+	 * Gets the JVM wide generation statistics
+	 * 
+	 * @return the default instance of the {@link GenerationStats}
+	 */
+	public static GenerationStats getDefault() {
+		return instance;
+	}
+
+	private GenerationStats() {
+
+	}
+
+	/**
+	 * @return the amount of accessor and invoker classes generated
+	 */
+	public long generatedClasses() {
+		return generatedClasses.sum();
+	}
+
+	/**
+	 * @return the amount of generated classes loaded from the bytecode cache
+	 *         instead of being generated again
+	 */
+	public long loadedClasses() {
+		return loadedClasses.sum();
+	}
+
+	/**
+	 * @return the total time spent generating classes, in nanoseconds
+	 */
+	public long generationNanos() {
+		return generationNanos.sum();
+	}
+
+	/**
+	 * Gets the histogram of the class generation times.
+	 * <p>
+	 * Bucket <code>0</code> counts the classes generated in less than one
+	 * microsecond, and bucket <code>i</code> those which took from
+	 * <code>2<sup>i-1</sup></code> up to <code>2<sup>i</sup></code>
+	 * microseconds.
+	 * 
+	 * @return a snapshot of the histogram buckets
+	 */
+	public long[] generationTimes() {
+		long[] histogram = new long[HISTOGRAM_BUCKETS];
+		for (int i = 0; i < HISTOGRAM_BUCKETS; i++)
+			histogram[i] = generationTimes[i].sum();
+		return histogram;
+	}
+
+	/**
+	 * Gets how many times the backends fell back for a reason
+	 * 
+	 * @param reason
+	 *            The reason of the fallbacks
+	 * @return the amount of fallbacks
+	 */
+	public long fallbacks(FallbackReason reason) {
+		return fallbacks[reason.ordinal()].sum();
+	}
+
+	/**
+	 * Records a generated class
+	 * 
+	 * @param nanos
+	 *            The time taken to generate the class
+	 */
+	void generated(long nanos) {
+		generatedClasses.increment();
+		generationNanos.add(nanos);
+		generationTimes[bucket(nanos)].increment();
+	}
+
+	/**
+	 * Records a generated class loaded from the bytecode cache
+	 */
+	void loaded() {
+		loadedClasses.increment();
+	}
+
+	/**
+	 * Records a fallback to a slower backend
+	 * 
+	 * @param reason
+	 *            Why the backend fell back
+	 */
+	void fallback(FallbackReason reason) {
+		fallbacks[reason.ordinal()].increment();
+	}
+
+	private static int bucket(long nanos) {
+		long micros = nanos / 1000;
+		int bucket = 64 - Long.numberOfLeadingZeros(micros);
+		return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+	}
+
+	private static LongAdder[] adders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++)
+			adders[i] = new LongAdder();
+		return adders;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("GenerationStats[generated=")
+				.append(generatedClasses()).append(", loaded=")
+				.append(loadedClasses()).append(", generationNanos=")
+				.append(generationNanos());
+
+		for (FallbackReason reason : FallbackReason.values())
+			builder.append(", ").append(reason).append('=')
+					.append(fallbacks(reason));
+
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,24 @@
+package br.mikhas.reflector.config;
+
+/**
+ * How the {@link JavassistReflectionFactory} lays its generated method
+ * invokers out into classes
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public enum InvokerLayout {
+
+	/**
+	 * One invoker class for each method, which also implements the
+	 * arity-specialized and typed entry points of the {@link MethodInvoker}
+	 */
+	PER_METHOD,
+
+	/**
+	 * One {@link NativeDispatcher} class for each declaring class, shared by
+	 * the invokers of all its public methods, so the amount of generated
+	 * classes grows with the classes rather than with the methods
+	 */
+	PER_CLASS
+}
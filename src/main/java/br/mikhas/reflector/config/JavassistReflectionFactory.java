@@ -1,5 +1,7 @@
 package br.mikhas.reflector.config;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 public class JavassistReflectionFactory extends UnsafeReflectionFactory {
@@ -7,16 +9,84 @@ public class JavassistReflectionFactory extends UnsafeReflectionFactory {
 	protected final NativeMethodInvokerFactory factory = NativeMethodInvokerFactory
 			.getDefault();
 
+	protected final NativeFieldAccessorFactory fieldFactory = NativeFieldAccessorFactory
+			.getDefault();
+
+	protected final InvokerLayout layout;
+
+	/**
+	 * Creates a factory which generates one invoker class for each method
+	 */
+	public JavassistReflectionFactory() {
+		this(InvokerLayout.PER_METHOD);
+	}
+
+	/**
+	 * Creates a factory which lays the generated invokers out as given
+	 * 
+	 * @param layout
+	 *            How the method invokers are laid out into classes
+	 */
+	public JavassistReflectionFactory(InvokerLayout layout) {
+		if (layout == null)
+			throw new NullPointerException("InvokerLayout must not be null");
+		this.layout = layout;
+	}
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		if (!NativeFieldAccessorFactory.isAvailable())
+			GenerationStats.getDefault().fallback(FallbackReason.UNAVAILABLE);
+		else if (!NativeFieldAccessorFactory.supports(field))
+			GenerationStats.getDefault().fallback(
+					FallbackReason.UNSUPPORTED_MEMBER);
+		else {
+			try {
+				return fieldFactory.getFor(field);
+			} catch (Exception e) {
+				GenerationStats.getDefault().fallback(
+						FallbackReason.GENERATION_FAILED);
+			}
+		}
+		return super.getFieldAcessor(field);
+	}
+
 	@Override
 	public MethodInvoker getMethodInvoker(Method method) {
-		if (NativeMethodInvokerFactory.isAvailable()) {
+		if (!NativeMethodInvokerFactory.isAvailable())
+			GenerationStats.getDefault().fallback(FallbackReason.UNAVAILABLE);
+		else if (!NativeMethodInvokerFactory.supports(method))
+			GenerationStats.getDefault().fallback(
+					FallbackReason.UNSUPPORTED_MEMBER);
+		else {
 			try {
+				if (layout == InvokerLayout.PER_CLASS)
+					return factory.getDispatchedFor(method);
 				return factory.getFor(method);
 			} catch (Exception e) {
-				return super.getMethodInvoker(method);
+				GenerationStats.getDefault().fallback(
+						FallbackReason.GENERATION_FAILED);
+			}
+		}
+		return super.getMethodInvoker(method);
+	}
+
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		if (!NativeMethodInvokerFactory.isAvailable())
+			GenerationStats.getDefault().fallback(FallbackReason.UNAVAILABLE);
+		else if (!NativeMethodInvokerFactory.supports(constructor))
+			GenerationStats.getDefault().fallback(
+					FallbackReason.UNSUPPORTED_MEMBER);
+		else {
+			try {
+				return factory.getFor(constructor);
+			} catch (Exception e) {
+				GenerationStats.getDefault().fallback(
+						FallbackReason.GENERATION_FAILED);
 			}
-		} else
-			return super.getMethodInvoker(method);
+		}
+		return super.getConstructorInvoker(constructor);
 	}
 
 }
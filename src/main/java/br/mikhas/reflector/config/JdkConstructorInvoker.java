@@ -0,0 +1,36 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import br.mikhas.reflector.ReflectionException;
+
+class JdkConstructorInvoker implements ConstructorInvoker {
+
+	private final Constructor<?> constructor;
+
+	public JdkConstructorInvoker(Constructor<?> constructor) {
+		this.constructor = constructor;
+		this.constructor.trySetAccessible();
+	}
+
+	@Override
+	public Object newInstance(Object... args) {
+		try {
+			return constructor.newInstance(args);
+		} catch (IllegalArgumentException e) {
+			throw new ReflectionException(
+					"The constructor arguments are incorrenct.", e);
+		} catch (InstantiationException e) {
+			throw new ReflectionException(
+					"An error occured while creating object.", e);
+		} catch (IllegalAccessException e) {
+			throw new ReflectionException("Access denied to this constructor.",
+					e);
+		} catch (InvocationTargetException e) {
+			throw new ReflectionException(
+					"An error occured while creating object.", e);
+		}
+	}
+
+}
@@ -22,7 +22,7 @@ class JdkFieldAccessor implements FieldAccessor {
 	 */
 	JdkFieldAccessor(Field field) {
 		this.field = field;
-		this.field.setAccessible(true);
+		this.field.trySetAccessible();
 	}
 
 	/**
@@ -57,4 +57,197 @@ class JdkFieldAccessor implements FieldAccessor {
 
 	}
 
+	@Override
+	public boolean getBoolean(Object target) {
+		try {
+			return this.field.getBoolean(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		try {
+			this.field.setBoolean(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		try {
+			return this.field.getByte(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		try {
+			this.field.setByte(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public char getChar(Object target) {
+		try {
+			return this.field.getChar(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		try {
+			this.field.setChar(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public short getShort(Object target) {
+		try {
+			return this.field.getShort(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		try {
+			this.field.setShort(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public int getInt(Object target) {
+		try {
+			return this.field.getInt(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		try {
+			this.field.setInt(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public long getLong(Object target) {
+		try {
+			return this.field.getLong(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		try {
+			this.field.setLong(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		try {
+			return this.field.getFloat(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		try {
+			this.field.setFloat(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		try {
+			return this.field.getDouble(target);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		try {
+			this.field.setDouble(target, value);
+		} catch (IllegalArgumentException e) {
+			throw new FieldReflectionException(
+					"The providen value is not legal", e);
+		} catch (IllegalAccessException e) {
+			throw new FieldReflectionException("Access denied to the field", e);
+		}
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.get(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.set(target, value);
+	}
 }
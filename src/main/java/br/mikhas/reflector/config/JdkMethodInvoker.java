@@ -11,6 +11,7 @@ class JdkMethodInvoker implements MethodInvoker {
 
 	public JdkMethodInvoker(Method method) {
 		this.method = method;
+		this.method.trySetAccessible();
 	}
 
 	@Override
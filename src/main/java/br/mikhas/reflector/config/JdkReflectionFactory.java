@@ -1,5 +1,6 @@
 package br.mikhas.reflector.config;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -15,4 +16,9 @@ public class JdkReflectionFactory implements ReflectionFactory {
 		return new JdkMethodInvoker(method);
 	}
 
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		return new JdkConstructorInvoker(constructor);
+	}
+
 }
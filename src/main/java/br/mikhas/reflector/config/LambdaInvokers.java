@@ -0,0 +1,765 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import br.mikhas.reflector.ReflectionUtils;
+import br.mikhas.reflector.method.MethodInvocationException;
+
+/**
+ * Spins {@link MethodInvoker}s with the {@link LambdaMetafactory}.
+ * <p>
+ * The metafactory implements one of the functional interfaces below with a
+ * hidden class defined next to the declaring class of the method, which
+ * calls the method directly. The invoker only unpacks the argument array
+ * into that call, or passes the arguments of the matching
+ * <code>invokeN</code> method straight through, so the JIT can inline the
+ * whole path down to the target method. No class pool or source
+ * compilation is involved.
+ * <p>
+ * Methods with up to {@value #MAX_PARAMETERS} parameters are supported.
+ * The interfaces are public only because the generated classes, which live
+ * in the package of the invoked method, must be able to implement them.
+ */
+public final class LambdaInvokers {
+
+	/**
+	 * The maximum amount of parameters of a method with a lambda invoker
+	 */
+	public static final int MAX_PARAMETERS = 4;
+
+	private LambdaInvokers() {
+
+	}
+
+	public interface Call0 {
+		Object call();
+	}
+
+	public interface Call1 {
+		Object call(Object arg0);
+	}
+
+	public interface Call2 {
+		Object call(Object arg0, Object arg1);
+	}
+
+	public interface Call3 {
+		Object call(Object arg0, Object arg1, Object arg2);
+	}
+
+	public interface Call4 {
+		Object call(Object arg0, Object arg1, Object arg2, Object arg3);
+	}
+
+	public interface Call5 {
+		Object call(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+	}
+
+	public interface Run0 {
+		void run();
+	}
+
+	public interface Run1 {
+		void run(Object arg0);
+	}
+
+	public interface Run2 {
+		void run(Object arg0, Object arg1);
+	}
+
+	public interface Run3 {
+		void run(Object arg0, Object arg1, Object arg2);
+	}
+
+	public interface Run4 {
+		void run(Object arg0, Object arg1, Object arg2, Object arg3);
+	}
+
+	public interface Run5 {
+		void run(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+	}
+
+	/**
+	 * Creates a lambda backed invoker for the method
+	 * 
+	 * @param method
+	 *            The method to be invoked
+	 * @return an invoker for the method
+	 * @throws NativeInvokerCreationException
+	 *             If the method has too many parameters or the metafactory
+	 *             could not implement the invoker
+	 */
+	static MethodInvoker create(Method method) {
+		int parameters = method.getParameterTypes().length;
+
+		if (parameters > MAX_PARAMETERS) {
+			throw new NativeInvokerCreationException(
+					"Lambda invokers support up to " + MAX_PARAMETERS
+							+ " parameters: "
+							+ ReflectionUtils.getSignature(method));
+		}
+
+		boolean isStatic = Modifier.isStatic(method.getModifiers());
+		boolean isVoid = method.getReturnType() == void.class;
+
+		try {
+			Object lambda = spin(method, isVoid);
+			return isStatic ? staticInvoker(method, lambda, parameters, isVoid)
+					: instanceInvoker(method, lambda, parameters, isVoid);
+		} catch (NativeInvokerCreationException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new NativeInvokerCreationException(
+					"Error while creating lambda invoker for: "
+							+ ReflectionUtils.getSignature(method), e);
+		}
+	}
+
+	/**
+	 * Asks the metafactory for an implementation of the <code>Call</code> or
+	 * <code>Run</code> interface which arity matches the method handle
+	 */
+	private static Object spin(Method method, boolean isVoid) throws Throwable {
+		MethodHandles.Lookup caller = MethodHandles.privateLookupIn(method
+				.getDeclaringClass(), MethodHandles.lookup());
+
+		MethodHandle implementation = caller.unreflect(method);
+		MethodType implementationType = implementation.type();
+		int arity = implementationType.parameterCount();
+
+		Class<?> functionalInterface = functionalInterface(arity, isVoid);
+		MethodType samType = isVoid ? MethodType.genericMethodType(arity)
+				.changeReturnType(void.class) : MethodType
+				.genericMethodType(arity);
+		MethodType instantiatedType = isVoid ? implementationType.wrap()
+				.changeReturnType(void.class) : implementationType.wrap();
+
+		CallSite site = LambdaMetafactory.metafactory(caller,
+				isVoid ? "run" : "call", MethodType
+						.methodType(functionalInterface), samType,
+				implementation, instantiatedType);
+
+		return site.getTarget().invoke();
+	}
+
+	private static Class<?> functionalInterface(int arity, boolean isVoid) {
+		switch (arity) {
+		case 0:
+			return isVoid ? Run0.class : Call0.class;
+		case 1:
+			return isVoid ? Run1.class : Call1.class;
+		case 2:
+			return isVoid ? Run2.class : Call2.class;
+		case 3:
+			return isVoid ? Run3.class : Call3.class;
+		case 4:
+			return isVoid ? Run4.class : Call4.class;
+		case 5:
+			return isVoid ? Run5.class : Call5.class;
+		default:
+			throw new IllegalArgumentException("Unsupported arity: " + arity);
+		}
+	}
+
+	private static MethodInvoker instanceInvoker(Method method, Object lambda,
+			int parameters, boolean isVoid) {
+		switch (parameters) {
+		case 0:
+			return isVoid ? new InstanceRun0Invoker(method, (Run1) lambda)
+					: new InstanceCall0Invoker(method, (Call1) lambda);
+		case 1:
+			return isVoid ? new InstanceRun1Invoker(method, (Run2) lambda)
+					: new InstanceCall1Invoker(method, (Call2) lambda);
+		case 2:
+			return isVoid ? new InstanceRun2Invoker(method, (Run3) lambda)
+					: new InstanceCall2Invoker(method, (Call3) lambda);
+		case 3:
+			return isVoid ? new InstanceRun3Invoker(method, (Run4) lambda)
+					: new InstanceCall3Invoker(method, (Call4) lambda);
+		case 4:
+			return isVoid ? new InstanceRun4Invoker(method, (Run5) lambda)
+					: new InstanceCall4Invoker(method, (Call5) lambda);
+		default:
+			throw new IllegalArgumentException("Unsupported parameters: "
+					+ parameters);
+		}
+	}
+
+	private static MethodInvoker staticInvoker(Method method, Object lambda,
+			int parameters, boolean isVoid) {
+		switch (parameters) {
+		case 0:
+			return isVoid ? new StaticRun0Invoker(method, (Run0) lambda)
+					: new StaticCall0Invoker(method, (Call0) lambda);
+		case 1:
+			return isVoid ? new StaticRun1Invoker(method, (Run1) lambda)
+					: new StaticCall1Invoker(method, (Call1) lambda);
+		case 2:
+			return isVoid ? new StaticRun2Invoker(method, (Run2) lambda)
+					: new StaticCall2Invoker(method, (Call2) lambda);
+		case 3:
+			return isVoid ? new StaticRun3Invoker(method, (Run3) lambda)
+					: new StaticCall3Invoker(method, (Call3) lambda);
+		case 4:
+			return isVoid ? new StaticRun4Invoker(method, (Run4) lambda)
+					: new StaticCall4Invoker(method, (Call4) lambda);
+		default:
+			throw new IllegalArgumentException("Unsupported parameters: "
+					+ parameters);
+		}
+	}
+
+	/**
+	 * Base of the lambda invokers: checks the amount of arguments before
+	 * unpacking them, as the JDK reflection API does
+	 */
+	abstract static class LambdaInvoker implements MethodInvoker {
+
+		protected final Method method;
+
+		private final int parameters;
+
+		LambdaInvoker(Method method) {
+			this.method = method;
+			this.parameters = method.getParameterTypes().length;
+		}
+
+		protected void checkArguments(Object[] args) {
+			int length = args == null ? 0 : args.length;
+			if (length != parameters)
+				throw failure(new IllegalArgumentException(
+						"Wrong number of arguments: " + length + " instead of "
+								+ parameters));
+		}
+
+		protected MethodInvocationException failure(Throwable cause) {
+			return new MethodInvocationException(
+					"Error while calling method: "
+							+ ReflectionUtils.getSignature(method), cause);
+		}
+	}
+
+	static final class InstanceCall0Invoker extends LambdaInvoker {
+
+		private final Call1 lambda;
+
+		InstanceCall0Invoker(Method method, Call1 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke0(target);
+		}
+
+		@Override
+		public Object invoke0(Object target) {
+			try {
+				return lambda.call(target);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceCall1Invoker extends LambdaInvoker {
+
+		private final Call2 lambda;
+
+		InstanceCall1Invoker(Method method, Call2 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke1(target, args[0]);
+		}
+
+		@Override
+		public Object invoke1(Object target, Object arg0) {
+			try {
+				return lambda.call(target, arg0);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceCall2Invoker extends LambdaInvoker {
+
+		private final Call3 lambda;
+
+		InstanceCall2Invoker(Method method, Call3 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke2(target, args[0], args[1]);
+		}
+
+		@Override
+		public Object invoke2(Object target, Object arg0, Object arg1) {
+			try {
+				return lambda.call(target, arg0, arg1);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceCall3Invoker extends LambdaInvoker {
+
+		private final Call4 lambda;
+
+		InstanceCall3Invoker(Method method, Call4 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke3(target, args[0], args[1], args[2]);
+		}
+
+		@Override
+		public Object invoke3(Object target, Object arg0, Object arg1,
+				Object arg2) {
+			try {
+				return lambda.call(target, arg0, arg1, arg2);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceCall4Invoker extends LambdaInvoker {
+
+		private final Call5 lambda;
+
+		InstanceCall4Invoker(Method method, Call5 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke4(target, args[0], args[1], args[2], args[3]);
+		}
+
+		@Override
+		public Object invoke4(Object target, Object arg0, Object arg1,
+				Object arg2, Object arg3) {
+			try {
+				return lambda.call(target, arg0, arg1, arg2, arg3);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceRun0Invoker extends LambdaInvoker {
+
+		private final Run1 lambda;
+
+		InstanceRun0Invoker(Method method, Run1 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke0(target);
+		}
+
+		@Override
+		public Object invoke0(Object target) {
+			try {
+				lambda.run(target);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceRun1Invoker extends LambdaInvoker {
+
+		private final Run2 lambda;
+
+		InstanceRun1Invoker(Method method, Run2 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke1(target, args[0]);
+		}
+
+		@Override
+		public Object invoke1(Object target, Object arg0) {
+			try {
+				lambda.run(target, arg0);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceRun2Invoker extends LambdaInvoker {
+
+		private final Run3 lambda;
+
+		InstanceRun2Invoker(Method method, Run3 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke2(target, args[0], args[1]);
+		}
+
+		@Override
+		public Object invoke2(Object target, Object arg0, Object arg1) {
+			try {
+				lambda.run(target, arg0, arg1);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceRun3Invoker extends LambdaInvoker {
+
+		private final Run4 lambda;
+
+		InstanceRun3Invoker(Method method, Run4 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke3(target, args[0], args[1], args[2]);
+		}
+
+		@Override
+		public Object invoke3(Object target, Object arg0, Object arg1,
+				Object arg2) {
+			try {
+				lambda.run(target, arg0, arg1, arg2);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class InstanceRun4Invoker extends LambdaInvoker {
+
+		private final Run5 lambda;
+
+		InstanceRun4Invoker(Method method, Run5 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke4(target, args[0], args[1], args[2], args[3]);
+		}
+
+		@Override
+		public Object invoke4(Object target, Object arg0, Object arg1,
+				Object arg2, Object arg3) {
+			try {
+				lambda.run(target, arg0, arg1, arg2, arg3);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticCall0Invoker extends LambdaInvoker {
+
+		private final Call0 lambda;
+
+		StaticCall0Invoker(Method method, Call0 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke0(target);
+		}
+
+		@Override
+		public Object invoke0(Object target) {
+			try {
+				return lambda.call();
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticCall1Invoker extends LambdaInvoker {
+
+		private final Call1 lambda;
+
+		StaticCall1Invoker(Method method, Call1 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke1(target, args[0]);
+		}
+
+		@Override
+		public Object invoke1(Object target, Object arg0) {
+			try {
+				return lambda.call(arg0);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticCall2Invoker extends LambdaInvoker {
+
+		private final Call2 lambda;
+
+		StaticCall2Invoker(Method method, Call2 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke2(target, args[0], args[1]);
+		}
+
+		@Override
+		public Object invoke2(Object target, Object arg0, Object arg1) {
+			try {
+				return lambda.call(arg0, arg1);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticCall3Invoker extends LambdaInvoker {
+
+		private final Call3 lambda;
+
+		StaticCall3Invoker(Method method, Call3 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke3(target, args[0], args[1], args[2]);
+		}
+
+		@Override
+		public Object invoke3(Object target, Object arg0, Object arg1,
+				Object arg2) {
+			try {
+				return lambda.call(arg0, arg1, arg2);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticCall4Invoker extends LambdaInvoker {
+
+		private final Call4 lambda;
+
+		StaticCall4Invoker(Method method, Call4 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke4(target, args[0], args[1], args[2], args[3]);
+		}
+
+		@Override
+		public Object invoke4(Object target, Object arg0, Object arg1,
+				Object arg2, Object arg3) {
+			try {
+				return lambda.call(arg0, arg1, arg2, arg3);
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticRun0Invoker extends LambdaInvoker {
+
+		private final Run0 lambda;
+
+		StaticRun0Invoker(Method method, Run0 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke0(target);
+		}
+
+		@Override
+		public Object invoke0(Object target) {
+			try {
+				lambda.run();
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticRun1Invoker extends LambdaInvoker {
+
+		private final Run1 lambda;
+
+		StaticRun1Invoker(Method method, Run1 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke1(target, args[0]);
+		}
+
+		@Override
+		public Object invoke1(Object target, Object arg0) {
+			try {
+				lambda.run(arg0);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticRun2Invoker extends LambdaInvoker {
+
+		private final Run2 lambda;
+
+		StaticRun2Invoker(Method method, Run2 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke2(target, args[0], args[1]);
+		}
+
+		@Override
+		public Object invoke2(Object target, Object arg0, Object arg1) {
+			try {
+				lambda.run(arg0, arg1);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticRun3Invoker extends LambdaInvoker {
+
+		private final Run3 lambda;
+
+		StaticRun3Invoker(Method method, Run3 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke3(target, args[0], args[1], args[2]);
+		}
+
+		@Override
+		public Object invoke3(Object target, Object arg0, Object arg1,
+				Object arg2) {
+			try {
+				lambda.run(arg0, arg1, arg2);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+
+	static final class StaticRun4Invoker extends LambdaInvoker {
+
+		private final Run4 lambda;
+
+		StaticRun4Invoker(Method method, Run4 lambda) {
+			super(method);
+			this.lambda = lambda;
+		}
+
+		@Override
+		public Object invoke(Object target, Object... args) {
+			checkArguments(args);
+			return invoke4(target, args[0], args[1], args[2], args[3]);
+		}
+
+		@Override
+		public Object invoke4(Object target, Object arg0, Object arg1,
+				Object arg2, Object arg3) {
+			try {
+				lambda.run(arg0, arg1, arg2, arg3);
+				return null;
+			} catch (Throwable e) {
+				throw failure(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates method invokers spun by the
+ * {@link java.lang.invoke.LambdaMetafactory}, which the JIT can inline like
+ * regular lambdas.
+ * <p>
+ * The metafactory can only implement interfaces on top of methods, so
+ * fields keep the method handle accessors, and methods with more than
+ * {@value LambdaInvokers#MAX_PARAMETERS} parameters, or which the
+ * metafactory can not reach, keep the method handle invokers.
+ */
+public class LambdaReflectionFactory extends MethodHandleReflectionFactory {
+
+	@Override
+	public MethodInvoker getMethodInvoker(Method method) {
+		if (method.getParameterTypes().length > LambdaInvokers.MAX_PARAMETERS) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.UNSUPPORTED_MEMBER);
+			return super.getMethodInvoker(method);
+		}
+
+		try {
+			return LambdaInvokers.create(method);
+		} catch (NativeInvokerCreationException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.GENERATION_FAILED);
+			return super.getMethodInvoker(method);
+		}
+	}
+
+}
@@ -0,0 +1,308 @@
+package br.mikhas.reflector.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import br.mikhas.reflector.ReflectionUtils;
+
+/**
+ * Binds the {@link MethodHandle}s of a member where the JIT compiler treats
+ * them as constants: the <code>static final</code> fields of a copy of
+ * {@link MethodHandleMethodInvoker} or {@link MethodHandleFieldAccessor}
+ * defined for that member alone, so <code>invokeExact</code> is inlined into
+ * a direct call instead of going through a handle read from an instance
+ * field.
+ * <p>
+ * Each copy is defined by a class loader of its own, which hands the handles
+ * to the static initializer of the copy by field name, as the JDK defined
+ * each of its generated reflection accessors in a loader of its own. The
+ * handles reach the member without resolving its class by name, so the copy
+ * works for members of any class loader and package, and the loader, the
+ * copy and the handles are unloaded together once the invoker or accessor is
+ * no longer used.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+final class MethodHandleBinder extends ClassLoader implements
+		Function<String, Object> {
+
+	/**
+	 * The shape of {@link MethodInvoker#invoke(Object, Object...)}
+	 */
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(
+			Object.class, Object.class, Object[].class);
+
+	/**
+	 * The highest arity with fixed arity typed <code>invoke</code> methods on
+	 * {@link MethodInvoker}
+	 */
+	private static final int MAX_TYPED_DIRECT_ARGUMENTS = 1;
+
+	/**
+	 * The primitive types, in the order their handles are named
+	 */
+	private static final Class<?>[] PRIMITIVES = { boolean.class, byte.class,
+			char.class, short.class, int.class, long.class, float.class,
+			double.class };
+
+	/**
+	 * The bytecode of each template, read once
+	 */
+	private static final ClassValue<byte[]> TEMPLATES = new ClassValue<byte[]>() {
+		@Override
+		protected byte[] computeValue(Class<?> template) {
+			return readBytecode(template);
+		}
+	};
+
+	private final Map<String, Object> constants;
+
+	private MethodHandleBinder(Map<String, Object> constants) {
+		super(MethodHandleBinder.class.getClassLoader());
+		this.constants = constants;
+	}
+
+	/**
+	 * Gets the constant which a static field of the bound copy is initialized
+	 * with
+	 * 
+	 * @param name
+	 *            The name of the field
+	 * @return the value of the field, or <code>null</code> if it has none
+	 */
+	@Override
+	public Object apply(String name) {
+		return constants.get(name);
+	}
+
+	/**
+	 * Creates an invoker whose handles are bound to constants
+	 * 
+	 * @param method
+	 *            The method to be invoked
+	 * @return the invoker of the method
+	 * @throws IllegalAccessException
+	 *             If a handle to the method could not be created
+	 * @throws NativeInvokerCreationException
+	 *             If the copy of the invoker could not be defined
+	 */
+	static MethodInvoker methodInvoker(Method method)
+			throws IllegalAccessException {
+		// Members of packages not opened to this library are left
+		// inaccessible, so creating the handle fails and the factory falls
+		// back instead of the call throwing InaccessibleObjectException
+		method.trySetAccessible();
+
+		// A varargs method unreflects to a collector, which would gather the
+		// array of variable arguments into yet another array
+		MethodHandle handle = MethodHandles.lookup().unreflect(method)
+				.asFixedArity();
+
+		if (Modifier.isStatic(method.getModifiers()))
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+		int parameters = method.getParameterTypes().length;
+		MethodHandle spreader = handle.asSpreader(Object[].class, parameters);
+		MethodType directType = MethodType.genericMethodType(parameters + 1);
+		Map<String, Object> constants = new HashMap<String, Object>();
+
+		constants.put("SIGNATURE", ReflectionUtils.getSignature(method));
+		constants.put("HANDLE", spreader.asType(INVOKE_TYPE));
+		constants.put("DIRECT_HANDLE", handle.asType(directType));
+
+		for (Class<?> type : PRIMITIVES) {
+			String prefix = type.getName().toUpperCase(Locale.ENGLISH);
+
+			constants.put(prefix + "_HANDLE", typedHandle(spreader,
+					INVOKE_TYPE, type));
+
+			// The fixed arity typed invoke methods only take up to one
+			// argument
+			if (parameters <= MAX_TYPED_DIRECT_ARGUMENTS)
+				constants.put(prefix + "_DIRECT_HANDLE", typedHandle(handle,
+						directType, type));
+		}
+
+		return bind(MethodHandleMethodInvoker.class, MethodInvoker.class,
+				constants, method);
+	}
+
+	/**
+	 * Creates an accessor whose handles are bound to constants
+	 * 
+	 * @param field
+	 *            The field to be accessed
+	 * @return the accessor of the field
+	 * @throws IllegalAccessException
+	 *             If a handle to read the field could not be created
+	 * @throws NativeInvokerCreationException
+	 *             If the copy of the accessor could not be defined
+	 */
+	static FieldAccessor fieldAccessor(Field field)
+			throws IllegalAccessException {
+		// Members of packages not opened to this library are left
+		// inaccessible, so creating the handle fails and the factory falls
+		// back instead of the call throwing InaccessibleObjectException
+		field.trySetAccessible();
+
+		Class<?> type = field.getType();
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		MethodHandle getter = lookup.unreflectGetter(field);
+		MethodHandle setter;
+
+		try {
+			setter = lookup.unreflectSetter(field);
+		} catch (IllegalAccessException e) {
+			// static final fields can not be written
+			setter = null;
+		}
+
+		// Static field handles are adapted to ignore the target, so instance
+		// and static fields share the same (Object) shape
+		if (Modifier.isStatic(field.getModifiers())) {
+			getter = MethodHandles.dropArguments(getter, 0, Object.class);
+			if (setter != null)
+				setter = MethodHandles.dropArguments(setter, 0, Object.class);
+		}
+
+		getter = getter.asType(MethodType.methodType(type, Object.class));
+		if (setter != null)
+			setter = setter.asType(MethodType.methodType(void.class,
+					Object.class, type));
+
+		Map<String, Object> constants = new HashMap<String, Object>();
+
+		constants.put("FIELD", field.toString());
+		constants.put("GETTER", getter.asType(MethodType.methodType(
+				Object.class, Object.class)));
+		constants.put("SETTER", setter == null ? null : setter
+				.asType(MethodType.methodType(void.class, Object.class,
+						Object.class)));
+
+		for (Class<?> primitive : PRIMITIVES) {
+			String prefix = primitive.getName().toUpperCase(Locale.ENGLISH);
+
+			constants.put(prefix + "_GETTER", typedGetter(getter, primitive));
+			constants.put(prefix + "_SETTER", typedSetter(setter, primitive));
+		}
+
+		return bind(MethodHandleFieldAccessor.class, FieldAccessor.class,
+				constants, field);
+	}
+
+	/**
+	 * Adapts a handle to a shape returning a primitive type, if the method
+	 * result can be widened to it
+	 */
+	private static MethodHandle typedHandle(MethodHandle handle,
+			MethodType shape, Class<?> type) {
+		Class<?> returnType = handle.type().returnType();
+
+		if (returnType != type
+				&& !NativeFieldAccessorFactory.widens(returnType, type))
+			return null;
+
+		return handle.asType(shape.changeReturnType(type));
+	}
+
+	/**
+	 * Adapts the getter to return a primitive type, if the field value can be
+	 * widened to it
+	 */
+	private static MethodHandle typedGetter(MethodHandle getter, Class<?> type) {
+		if (!getter.type().returnType().isPrimitive())
+			return null;
+		try {
+			return getter.asType(MethodType.methodType(type, Object.class));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adapts the setter to take a primitive type, if it can be widened to the
+	 * type of the field
+	 */
+	private static MethodHandle typedSetter(MethodHandle setter, Class<?> type) {
+		if (setter == null || !setter.type().parameterType(1).isPrimitive())
+			return null;
+		try {
+			return setter.asType(MethodType.methodType(void.class,
+					Object.class, type));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Defines a copy of a template in a new binder holding its constants, and
+	 * creates an instance of it
+	 */
+	private static <T> T bind(Class<?> template, Class<T> type,
+			Map<String, Object> constants, Object member) {
+		byte[] bytecode = TEMPLATES.get(template);
+		MethodHandleBinder binder = new MethodHandleBinder(constants);
+
+		try {
+			Class<?> bound = binder.defineClass(template.getName(), bytecode,
+					0, bytecode.length);
+			Constructor<?> constructor = bound.getDeclaredConstructor();
+			constructor.setAccessible(true);
+
+			return type.cast(constructor.newInstance());
+		} catch (ReflectiveOperationException e) {
+			throw new NativeInvokerCreationException(
+					"Could not bind the handles of: " + member, e);
+		} catch (LinkageError e) {
+			throw new NativeInvokerCreationException(
+					"Could not bind the handles of: " + member, e);
+		}
+	}
+
+	/**
+	 * Reads the class file of a template
+	 */
+	private static byte[] readBytecode(Class<?> template) {
+		String resource = template.getSimpleName() + ".class";
+		InputStream in = template.getResourceAsStream(resource);
+
+		if (in == null)
+			throw new NativeInvokerCreationException(
+					"Could not find the class file of: " + template);
+
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+
+			while ((read = in.read(buffer)) != -1)
+				out.write(buffer, 0, read);
+
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new NativeInvokerCreationException(
+					"Could not read the class file of: " + template, e);
+		} finally {
+			try {
+				in.close();
+			} catch (IOException e) {
+				// The class file was read already
+			}
+		}
+	}
+}
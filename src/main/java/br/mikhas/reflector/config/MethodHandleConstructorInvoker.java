@@ -0,0 +1,67 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import br.mikhas.reflector.ReflectionException;
+
+/**
+ * Creates objects through a {@link MethodHandle} bound to the constructor
+ * when the invoker is created.
+ * <p>
+ * The handle is adapted to the <code>(Object[])Object</code> shape of
+ * {@link ConstructorInvoker#newInstance(Object...)} once, when the invoker
+ * is created, rather than on every call.
+ */
+class MethodHandleConstructorInvoker implements ConstructorInvoker {
+
+	/**
+	 * The shape every constructor handle is adapted to
+	 */
+	private static final MethodType NEW_INSTANCE_TYPE = MethodType
+			.methodType(Object.class, Object[].class);
+
+	private final Constructor<?> constructor;
+
+	private final MethodHandle handle;
+
+	/**
+	 * Creates a new instance of {@link MethodHandleConstructorInvoker}
+	 * 
+	 * @param constructor
+	 *            The constructor to be invoked
+	 * @throws IllegalAccessException
+	 *             If a handle to the constructor could not be created
+	 */
+	MethodHandleConstructorInvoker(Constructor<?> constructor)
+			throws IllegalAccessException {
+		this.constructor = constructor;
+		// Members of packages not opened to this library are left
+		// inaccessible, so creating the handle fails and the factory falls
+		// back instead of the call throwing InaccessibleObjectException
+		this.constructor.trySetAccessible();
+
+		// A varargs constructor unreflects to a collector, which would gather
+		// the array of variable arguments into yet another array
+		MethodHandle handle = MethodHandles.lookup()
+				.unreflectConstructor(constructor).asFixedArity();
+
+		this.handle = handle.asSpreader(Object[].class,
+				constructor.getParameterTypes().length).asType(
+				NEW_INSTANCE_TYPE);
+	}
+
+	@Override
+	public Object newInstance(Object... args) {
+		try {
+			return handle.invokeExact(args);
+		} catch (Throwable e) {
+			throw new ReflectionException(
+					"An error occured while creating object: " + constructor,
+					e);
+		}
+	}
+
+}
@@ -0,0 +1,306 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Function;
+
+import br.mikhas.reflector.field.FieldReflectionException;
+
+/**
+ * Accesses a field through getter and setter {@link MethodHandle}s held in
+ * <code>static final</code> fields, which the JIT compiler treats as
+ * constants.
+ * <p>
+ * This class is a template: {@link MethodHandleBinder} defines a copy of it
+ * for each field, whose static initializer takes the handles of that field
+ * from the binder which defined it. The template itself is never
+ * initialized, and its copies only reference public types of this library.
+ * <p>
+ * Static field handles are adapted to ignore the target, so instance and
+ * static fields share the same <code>(Object)</code> shape. A typed handle
+ * is prepared for every primitive type the field can be widened to (when
+ * read) or from (when written); the others are left <code>null</code> and
+ * rejected.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor {
+
+	private static final String FIELD = (String) constant("FIELD");
+
+	private static final MethodHandle GETTER = (MethodHandle) constant("GETTER");
+
+	private static final MethodHandle SETTER = (MethodHandle) constant("SETTER");
+
+	private static final MethodHandle BOOLEAN_GETTER = (MethodHandle) constant("BOOLEAN_GETTER");
+
+	private static final MethodHandle BOOLEAN_SETTER = (MethodHandle) constant("BOOLEAN_SETTER");
+
+	private static final MethodHandle BYTE_GETTER = (MethodHandle) constant("BYTE_GETTER");
+
+	private static final MethodHandle BYTE_SETTER = (MethodHandle) constant("BYTE_SETTER");
+
+	private static final MethodHandle CHAR_GETTER = (MethodHandle) constant("CHAR_GETTER");
+
+	private static final MethodHandle CHAR_SETTER = (MethodHandle) constant("CHAR_SETTER");
+
+	private static final MethodHandle SHORT_GETTER = (MethodHandle) constant("SHORT_GETTER");
+
+	private static final MethodHandle SHORT_SETTER = (MethodHandle) constant("SHORT_SETTER");
+
+	private static final MethodHandle INT_GETTER = (MethodHandle) constant("INT_GETTER");
+
+	private static final MethodHandle INT_SETTER = (MethodHandle) constant("INT_SETTER");
+
+	private static final MethodHandle LONG_GETTER = (MethodHandle) constant("LONG_GETTER");
+
+	private static final MethodHandle LONG_SETTER = (MethodHandle) constant("LONG_SETTER");
+
+	private static final MethodHandle FLOAT_GETTER = (MethodHandle) constant("FLOAT_GETTER");
+
+	private static final MethodHandle FLOAT_SETTER = (MethodHandle) constant("FLOAT_SETTER");
+
+	private static final MethodHandle DOUBLE_GETTER = (MethodHandle) constant("DOUBLE_GETTER");
+
+	private static final MethodHandle DOUBLE_SETTER = (MethodHandle) constant("DOUBLE_SETTER");
+
+	/**
+	 * Creates the accessor of the field whose handles the copy holds
+	 */
+	MethodHandleFieldAccessor() {
+
+	}
+
+	/**
+	 * Gets a constant from the {@link MethodHandleBinder} which defined the
+	 * copy, through a JDK interface, as the binder is not accessible from it
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object constant(String name) {
+		return ((Function<String, Object>) MethodHandleFieldAccessor.class
+				.getClassLoader()).apply(name);
+	}
+
+	@Override
+	public Object get(Object target) {
+		try {
+			return GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value) {
+		if (SETTER == null)
+			throw readOnly();
+		try {
+			SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public boolean getBoolean(Object target) {
+		if (BOOLEAN_GETTER == null)
+			throw illegalType("boolean");
+		try {
+			return (boolean) BOOLEAN_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		if (BOOLEAN_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("boolean");
+		try {
+			BOOLEAN_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		if (BYTE_GETTER == null)
+			throw illegalType("byte");
+		try {
+			return (byte) BYTE_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		if (BYTE_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("byte");
+		try {
+			BYTE_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public char getChar(Object target) {
+		if (CHAR_GETTER == null)
+			throw illegalType("char");
+		try {
+			return (char) CHAR_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		if (CHAR_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("char");
+		try {
+			CHAR_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public short getShort(Object target) {
+		if (SHORT_GETTER == null)
+			throw illegalType("short");
+		try {
+			return (short) SHORT_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		if (SHORT_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("short");
+		try {
+			SHORT_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public int getInt(Object target) {
+		if (INT_GETTER == null)
+			throw illegalType("int");
+		try {
+			return (int) INT_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		if (INT_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("int");
+		try {
+			INT_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public long getLong(Object target) {
+		if (LONG_GETTER == null)
+			throw illegalType("long");
+		try {
+			return (long) LONG_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		if (LONG_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("long");
+		try {
+			LONG_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		if (FLOAT_GETTER == null)
+			throw illegalType("float");
+		try {
+			return (float) FLOAT_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		if (FLOAT_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("float");
+		try {
+			FLOAT_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		if (DOUBLE_GETTER == null)
+			throw illegalType("double");
+		try {
+			return (double) DOUBLE_GETTER.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		if (DOUBLE_SETTER == null)
+			throw SETTER == null ? readOnly() : illegalType("double");
+		try {
+			DOUBLE_SETTER.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.get(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.set(target, value);
+	}
+
+	private static FieldReflectionException illegalAccess(Throwable cause) {
+		return new FieldReflectionException("Could not read the field "
+				+ FIELD, cause);
+	}
+
+	private static FieldReflectionException illegalValue(Throwable cause) {
+		return new FieldReflectionException("The providen value is not legal",
+				cause);
+	}
+
+	private static FieldReflectionException illegalType(String accessType) {
+		return new FieldReflectionException("The field " + FIELD
+				+ " can not be accessed as " + accessType);
+	}
+
+	private static FieldReflectionException readOnly() {
+		return new FieldReflectionException("Access denied to the field "
+				+ FIELD);
+	}
+}
@@ -0,0 +1,409 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Function;
+
+import br.mikhas.reflector.method.MethodInvocationException;
+
+/**
+ * Invokes a method through {@link MethodHandle}s held in
+ * <code>static final</code> fields, which the JIT compiler treats as
+ * constants.
+ * <p>
+ * This class is a template: {@link MethodHandleBinder} defines a copy of it
+ * for each method, whose static initializer takes the handles of that method
+ * from the binder which defined it. The template itself is never
+ * initialized, and its copies only reference public types of this library.
+ * <p>
+ * The main handle is adapted to the <code>(Object, Object[])Object</code>
+ * shape of {@link MethodInvoker#invoke(Object, Object...)}. A second,
+ * unspread adaptation of the handle takes the arguments of the
+ * <code>invokeN</code> method matching the method arity one by one; the other
+ * <code>invokeN</code> methods fail its exact type check. Methods returning a
+ * primitive get one more adaptation for every type the result can be widened
+ * to, so the typed <code>invoke</code> methods do not box it, and those
+ * without parameters or with a single one get an unspread typed adaptation as
+ * well, which the fixed arity typed <code>invoke</code> methods call.
+ */
+final class MethodHandleMethodInvoker implements MethodInvoker {
+
+	private static final String SIGNATURE = (String) constant("SIGNATURE");
+
+	private static final MethodHandle HANDLE = (MethodHandle) constant("HANDLE");
+
+	private static final MethodHandle DIRECT_HANDLE = (MethodHandle) constant("DIRECT_HANDLE");
+
+	private static final MethodHandle BOOLEAN_HANDLE = (MethodHandle) constant("BOOLEAN_HANDLE");
+
+	private static final MethodHandle BYTE_HANDLE = (MethodHandle) constant("BYTE_HANDLE");
+
+	private static final MethodHandle CHAR_HANDLE = (MethodHandle) constant("CHAR_HANDLE");
+
+	private static final MethodHandle SHORT_HANDLE = (MethodHandle) constant("SHORT_HANDLE");
+
+	private static final MethodHandle INT_HANDLE = (MethodHandle) constant("INT_HANDLE");
+
+	private static final MethodHandle LONG_HANDLE = (MethodHandle) constant("LONG_HANDLE");
+
+	private static final MethodHandle FLOAT_HANDLE = (MethodHandle) constant("FLOAT_HANDLE");
+
+	private static final MethodHandle DOUBLE_HANDLE = (MethodHandle) constant("DOUBLE_HANDLE");
+
+	private static final MethodHandle BOOLEAN_DIRECT_HANDLE = (MethodHandle) constant("BOOLEAN_DIRECT_HANDLE");
+
+	private static final MethodHandle BYTE_DIRECT_HANDLE = (MethodHandle) constant("BYTE_DIRECT_HANDLE");
+
+	private static final MethodHandle CHAR_DIRECT_HANDLE = (MethodHandle) constant("CHAR_DIRECT_HANDLE");
+
+	private static final MethodHandle SHORT_DIRECT_HANDLE = (MethodHandle) constant("SHORT_DIRECT_HANDLE");
+
+	private static final MethodHandle INT_DIRECT_HANDLE = (MethodHandle) constant("INT_DIRECT_HANDLE");
+
+	private static final MethodHandle LONG_DIRECT_HANDLE = (MethodHandle) constant("LONG_DIRECT_HANDLE");
+
+	private static final MethodHandle FLOAT_DIRECT_HANDLE = (MethodHandle) constant("FLOAT_DIRECT_HANDLE");
+
+	private static final MethodHandle DOUBLE_DIRECT_HANDLE = (MethodHandle) constant("DOUBLE_DIRECT_HANDLE");
+
+	/**
+	 * Creates the invoker of the method whose handles the copy holds
+	 */
+	MethodHandleMethodInvoker() {
+
+	}
+
+	/**
+	 * Gets a constant from the {@link MethodHandleBinder} which defined the
+	 * copy, through a JDK interface, as the binder is not accessible from it
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object constant(String name) {
+		return ((Function<String, Object>) MethodHandleMethodInvoker.class
+				.getClassLoader()).apply(name);
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args) {
+		try {
+			return HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public Object invoke0(Object target) {
+		try {
+			return DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public Object invoke1(Object target, Object arg0) {
+		try {
+			return DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public Object invoke2(Object target, Object arg0, Object arg1) {
+		try {
+			return DIRECT_HANDLE.invokeExact(target, arg0, arg1);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public Object invoke3(Object target, Object arg0, Object arg1, Object arg2) {
+		try {
+			return DIRECT_HANDLE.invokeExact(target, arg0, arg1, arg2);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public Object invoke4(Object target, Object arg0, Object arg1,
+			Object arg2, Object arg3) {
+		try {
+			return DIRECT_HANDLE.invokeExact(target, arg0, arg1, arg2, arg3);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public boolean invokeBoolean(Object target, Object... args) {
+		if (BOOLEAN_HANDLE == null)
+			return MethodInvoker.super.invokeBoolean(target, args);
+		try {
+			return (boolean) BOOLEAN_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public byte invokeByte(Object target, Object... args) {
+		if (BYTE_HANDLE == null)
+			return MethodInvoker.super.invokeByte(target, args);
+		try {
+			return (byte) BYTE_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public char invokeChar(Object target, Object... args) {
+		if (CHAR_HANDLE == null)
+			return MethodInvoker.super.invokeChar(target, args);
+		try {
+			return (char) CHAR_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public short invokeShort(Object target, Object... args) {
+		if (SHORT_HANDLE == null)
+			return MethodInvoker.super.invokeShort(target, args);
+		try {
+			return (short) SHORT_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public int invokeInt(Object target, Object... args) {
+		if (INT_HANDLE == null)
+			return MethodInvoker.super.invokeInt(target, args);
+		try {
+			return (int) INT_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public long invokeLong(Object target, Object... args) {
+		if (LONG_HANDLE == null)
+			return MethodInvoker.super.invokeLong(target, args);
+		try {
+			return (long) LONG_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public float invokeFloat(Object target, Object... args) {
+		if (FLOAT_HANDLE == null)
+			return MethodInvoker.super.invokeFloat(target, args);
+		try {
+			return (float) FLOAT_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public double invokeDouble(Object target, Object... args) {
+		if (DOUBLE_HANDLE == null)
+			return MethodInvoker.super.invokeDouble(target, args);
+		try {
+			return (double) DOUBLE_HANDLE.invokeExact(target, args);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public boolean invokeBoolean(Object target) {
+		if (BOOLEAN_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeBoolean(target);
+		try {
+			return (boolean) BOOLEAN_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public boolean invokeBoolean(Object target, Object arg0) {
+		if (BOOLEAN_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeBoolean(target, arg0);
+		try {
+			return (boolean) BOOLEAN_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public byte invokeByte(Object target) {
+		if (BYTE_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeByte(target);
+		try {
+			return (byte) BYTE_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public byte invokeByte(Object target, Object arg0) {
+		if (BYTE_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeByte(target, arg0);
+		try {
+			return (byte) BYTE_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public char invokeChar(Object target) {
+		if (CHAR_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeChar(target);
+		try {
+			return (char) CHAR_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public char invokeChar(Object target, Object arg0) {
+		if (CHAR_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeChar(target, arg0);
+		try {
+			return (char) CHAR_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public short invokeShort(Object target) {
+		if (SHORT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeShort(target);
+		try {
+			return (short) SHORT_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public short invokeShort(Object target, Object arg0) {
+		if (SHORT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeShort(target, arg0);
+		try {
+			return (short) SHORT_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public int invokeInt(Object target) {
+		if (INT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeInt(target);
+		try {
+			return (int) INT_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public int invokeInt(Object target, Object arg0) {
+		if (INT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeInt(target, arg0);
+		try {
+			return (int) INT_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public long invokeLong(Object target) {
+		if (LONG_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeLong(target);
+		try {
+			return (long) LONG_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public long invokeLong(Object target, Object arg0) {
+		if (LONG_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeLong(target, arg0);
+		try {
+			return (long) LONG_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public float invokeFloat(Object target) {
+		if (FLOAT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeFloat(target);
+		try {
+			return (float) FLOAT_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public float invokeFloat(Object target, Object arg0) {
+		if (FLOAT_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeFloat(target, arg0);
+		try {
+			return (float) FLOAT_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public double invokeDouble(Object target) {
+		if (DOUBLE_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeDouble(target);
+		try {
+			return (double) DOUBLE_DIRECT_HANDLE.invokeExact(target);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	@Override
+	public double invokeDouble(Object target, Object arg0) {
+		if (DOUBLE_DIRECT_HANDLE == null)
+			return MethodInvoker.super.invokeDouble(target, arg0);
+		try {
+			return (double) DOUBLE_DIRECT_HANDLE.invokeExact(target, arg0);
+		} catch (Throwable e) {
+			throw failure(e);
+		}
+	}
+
+	private static MethodInvocationException failure(Throwable cause) {
+		return new MethodInvocationException("Error while calling method: "
+				+ SIGNATURE, cause);
+	}
+
+}
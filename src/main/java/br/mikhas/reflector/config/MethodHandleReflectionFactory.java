@@ -0,0 +1,62 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates method invokers, constructor invokers and field accessors built on
+ * <code>java.lang.invoke</code> method handles.
+ * <p>
+ * Handles are checked and adapted once, when the member is first reflected,
+ * need neither javassist nor <code>sun.misc.Unsafe</code> and work on private
+ * members as well. The handles of method invokers and field accessors are
+ * held as constants by a class of their own, so calls through them are
+ * inlined. Members which a handle can not be created for, such as
+ * members of packages not opened to this library, are served by the default
+ * reflection API.
+ */
+public class MethodHandleReflectionFactory extends JdkReflectionFactory {
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		try {
+			return MethodHandleBinder.fieldAccessor(field);
+		} catch (IllegalAccessException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.NOT_ACCESSIBLE);
+			return super.getFieldAcessor(field);
+		} catch (NativeInvokerCreationException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.GENERATION_FAILED);
+			return super.getFieldAcessor(field);
+		}
+	}
+
+	@Override
+	public MethodInvoker getMethodInvoker(Method method) {
+		try {
+			return MethodHandleBinder.methodInvoker(method);
+		} catch (IllegalAccessException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.NOT_ACCESSIBLE);
+			return super.getMethodInvoker(method);
+		} catch (NativeInvokerCreationException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.GENERATION_FAILED);
+			return super.getMethodInvoker(method);
+		}
+	}
+
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		try {
+			return new MethodHandleConstructorInvoker(constructor);
+		} catch (IllegalAccessException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.NOT_ACCESSIBLE);
+			return super.getConstructorInvoker(constructor);
+		}
+	}
+
+}
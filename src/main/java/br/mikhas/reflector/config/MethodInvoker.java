@@ -19,4 +19,310 @@ public interface MethodInvoker {
 	 *         return is <code>void</code>
 	 */
 	public Object invoke(Object target, Object... args);
+
+	/**
+	 * Invokes a method without parameters on a target object.
+	 * <p>
+	 * The <code>invokeN</code> methods avoid allocating the argument array.
+	 * Invokers which call the method directly override the variant matching
+	 * the method arity; the others fall back to
+	 * {@link #invoke(Object, Object...)}.
+	 * 
+	 * @param target
+	 *            The target object
+	 * @return The result of the method or <code>null</code> if the method
+	 *         return is <code>void</code>
+	 */
+	public default Object invoke0(Object target) {
+		return invoke(target);
+	}
+
+	/**
+	 * Invokes a method with one parameter on a target object.
+	 * 
+	 * @see #invoke0(Object)
+	 */
+	public default Object invoke1(Object target, Object arg0) {
+		return invoke(target, arg0);
+	}
+
+	/**
+	 * Invokes a method with two parameters on a target object.
+	 * 
+	 * @see #invoke0(Object)
+	 */
+	public default Object invoke2(Object target, Object arg0, Object arg1) {
+		return invoke(target, arg0, arg1);
+	}
+
+	/**
+	 * Invokes a method with three parameters on a target object.
+	 * 
+	 * @see #invoke0(Object)
+	 */
+	public default Object invoke3(Object target, Object arg0, Object arg1,
+			Object arg2) {
+		return invoke(target, arg0, arg1, arg2);
+	}
+
+	/**
+	 * Invokes a method with four parameters on a target object.
+	 * 
+	 * @see #invoke0(Object)
+	 */
+	public default Object invoke4(Object target, Object arg0, Object arg1,
+			Object arg2, Object arg3) {
+		return invoke(target, arg0, arg1, arg2, arg3);
+	}
+
+	/**
+	 * Invokes a method which returns a <code>boolean</code> on a target
+	 * object, without boxing the result.
+	 * <p>
+	 * The typed <code>invoke</code> methods widen the result to the requested
+	 * type, as on field access, and reject results which can not be widened.
+	 * Invokers which call the method directly override the methods matching
+	 * its return type; the others unbox the result of
+	 * {@link #invoke(Object, Object...)}.
+	 * 
+	 * @param target
+	 *            The target object
+	 * @param args
+	 *            The method arguments on an array
+	 * @return The result of the method
+	 */
+	public default boolean invokeBoolean(Object target, Object... args) {
+		return PrimitiveResults.toBoolean(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>byte</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default byte invokeByte(Object target, Object... args) {
+		return PrimitiveResults.toByte(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>char</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default char invokeChar(Object target, Object... args) {
+		return PrimitiveResults.toChar(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>short</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default short invokeShort(Object target, Object... args) {
+		return PrimitiveResults.toShort(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns an <code>int</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default int invokeInt(Object target, Object... args) {
+		return PrimitiveResults.toInt(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>long</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default long invokeLong(Object target, Object... args) {
+		return PrimitiveResults.toLong(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>float</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default float invokeFloat(Object target, Object... args) {
+		return PrimitiveResults.toFloat(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method which returns a <code>double</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object, Object...)
+	 */
+	public default double invokeDouble(Object target, Object... args) {
+		return PrimitiveResults.toDouble(invoke(target, args));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>boolean</code> on a target object, without boxing the result.
+	 * <p>
+	 * The fixed arity typed <code>invoke</code> methods avoid allocating the
+	 * argument array, as the <code>invokeN</code> methods do. Invokers which
+	 * call the method directly override the ones matching the method arity
+	 * and return type; the others fall back to {@link #invoke0(Object)} and
+	 * {@link #invoke1(Object, Object)}.
+	 * 
+	 * @param target
+	 *            The target object
+	 * @return The result of the method
+	 */
+	public default boolean invokeBoolean(Object target) {
+		return PrimitiveResults.toBoolean(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>boolean</code> on a target object, without boxing the result.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default boolean invokeBoolean(Object target, Object arg0) {
+		return PrimitiveResults.toBoolean(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>byte</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default byte invokeByte(Object target) {
+		return PrimitiveResults.toByte(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>byte</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default byte invokeByte(Object target, Object arg0) {
+		return PrimitiveResults.toByte(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>char</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default char invokeChar(Object target) {
+		return PrimitiveResults.toChar(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>char</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default char invokeChar(Object target, Object arg0) {
+		return PrimitiveResults.toChar(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>short</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default short invokeShort(Object target) {
+		return PrimitiveResults.toShort(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>short</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default short invokeShort(Object target, Object arg0) {
+		return PrimitiveResults.toShort(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns an
+	 * <code>int</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default int invokeInt(Object target) {
+		return PrimitiveResults.toInt(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns an
+	 * <code>int</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default int invokeInt(Object target, Object arg0) {
+		return PrimitiveResults.toInt(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>long</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default long invokeLong(Object target) {
+		return PrimitiveResults.toLong(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>long</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default long invokeLong(Object target, Object arg0) {
+		return PrimitiveResults.toLong(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>float</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default float invokeFloat(Object target) {
+		return PrimitiveResults.toFloat(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>float</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default float invokeFloat(Object target, Object arg0) {
+		return PrimitiveResults.toFloat(invoke1(target, arg0));
+	}
+
+	/**
+	 * Invokes a method without parameters which returns a
+	 * <code>double</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default double invokeDouble(Object target) {
+		return PrimitiveResults.toDouble(invoke0(target));
+	}
+
+	/**
+	 * Invokes a method with one parameter which returns a
+	 * <code>double</code> on a target object.
+	 * 
+	 * @see #invokeBoolean(Object)
+	 */
+	public default double invokeDouble(Object target, Object arg0) {
+		return PrimitiveResults.toDouble(invoke1(target, arg0));
+	}
 }
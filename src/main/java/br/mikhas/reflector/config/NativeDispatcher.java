@@ -0,0 +1,35 @@
+package br.mikhas.reflector.config;
+
+/**
+ * Base class of the dispatchers generated by the
+ * {@link NativeMethodInvokerFactory}, which call every public method of a
+ * class through a single generated class.
+ * <p>
+ * Each method is identified by its index on the dispatcher, and the
+ * <code>dispatch</code> method switches on that index, which the compiler
+ * turns into a <code>tableswitch</code>.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ * @see InvokerLayout#PER_CLASS
+ */
+public abstract class NativeDispatcher {
+
+	protected NativeDispatcher() {
+
+	}
+
+	/**
+	 * Calls a method of the dispatcher
+	 * 
+	 * @param index
+	 *            The index of the method on the dispatcher
+	 * @param target
+	 *            The object which the method is called on, ignored for static
+	 *            methods
+	 * @param args
+	 *            The method arguments on an array
+	 * @return The method result, or <code>null</code> for void methods
+	 */
+	public abstract Object dispatch(int index, Object target, Object[] args);
+}
@@ -0,0 +1,134 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Field;
+
+import br.mikhas.reflector.field.FieldReflectionException;
+
+/**
+ * Base class of the field accessors generated by the
+ * {@link NativeFieldAccessorFactory}, and by the annotation processor for
+ * classes marked with {@link br.mikhas.reflector.annotation.Precompile}.
+ * <p>
+ * Generated accessors override {@link #get(Object)}, {@link #set(Object, Object)}
+ * and the typed methods the field type can be converted from or to; every
+ * other typed access is rejected here.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public abstract class NativeFieldAccessor implements FieldAccessor {
+
+	/**
+	 * The accessed field
+	 */
+	protected final Field field;
+
+	protected NativeFieldAccessor(Field field) {
+		this.field = field;
+	}
+
+	@Override
+	public boolean getBoolean(Object target) {
+		throw illegalType("boolean");
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		throw illegalType("boolean");
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		throw illegalType("byte");
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		throw illegalType("byte");
+	}
+
+	@Override
+	public char getChar(Object target) {
+		throw illegalType("char");
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		throw illegalType("char");
+	}
+
+	@Override
+	public short getShort(Object target) {
+		throw illegalType("short");
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		throw illegalType("short");
+	}
+
+	@Override
+	public int getInt(Object target) {
+		throw illegalType("int");
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		throw illegalType("int");
+	}
+
+	@Override
+	public long getLong(Object target) {
+		throw illegalType("long");
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		throw illegalType("long");
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		throw illegalType("float");
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		throw illegalType("float");
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		throw illegalType("double");
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		throw illegalType("double");
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.get(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.set(target, value);
+	}
+
+	protected FieldReflectionException illegalAccess(Throwable cause) {
+		return new FieldReflectionException("Could not read the field "
+				+ this.field, cause);
+	}
+
+	protected FieldReflectionException illegalValue(Throwable cause) {
+		return new FieldReflectionException("The providen value is not legal",
+				cause);
+	}
+
+	protected FieldReflectionException illegalType(String accessType) {
+		return new FieldReflectionException("The field " + this.field
+				+ " can not be accessed as " + accessType);
+	}
+}
@@ -0,0 +1,328 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtConstructor;
+import javassist.CtMethod;
+import br.mikhas.reflector.ReflectionUtils;
+
+/**
+ * Factory which creates native field accessors which can read and write
+ * fields without using reflection API.
+ * <p>
+ * One accessor class is generated for each field. It reads and writes the
+ * field with plain <code>getfield</code>/<code>putfield</code> (or their
+ * static counterparts) and implements the typed methods which the field type
+ * can be widened to or from, so primitive values are never boxed.
+ *
+ * @author Mikhail Domanoski
+ *
+ */
+public final class NativeFieldAccessorFactory {
+
+	/**
+	 * The primitive types, in the order the typed methods are generated
+	 */
+	private static final Class<?>[] PRIMITIVES = { boolean.class, byte.class,
+			char.class, short.class, int.class, long.class, float.class,
+			double.class };
+
+	/**
+	 * The used class pool
+	 */
+	private static ClassPool pool;
+
+	/**
+	 * {@link Object} CtClass
+	 */
+	private static CtClass objectCt;
+
+	/**
+	 * {@link Field} CtClass
+	 */
+	private static CtClass fieldCt;
+
+	/**
+	 * {@link NativeFieldAccessor} CtClass
+	 */
+	private static CtClass accessorCt;
+
+	/**
+	 * Unique {@link NativeFieldAccessorFactory} instance
+	 */
+	private static NativeFieldAccessorFactory instance;
+
+	/**
+	 * Initialized common used CtClass'es
+	 */
+	private static void initialize() {
+		try {
+			pool = ClassPool.getDefault();
+			objectCt = pool.get("java.lang.Object");
+			fieldCt = pool.get(Field.class.getName());
+			accessorCt = pool.get(NativeFieldAccessor.class.getName());
+		} catch (Exception e) {
+			throw new RuntimeException(
+					"Could not initialize the NativeFieldAccessorFactory", e);
+		}
+	}
+
+	/**
+	 * Gets the default instance of the accessor factory
+	 *
+	 * @return the default instance of the {@link NativeFieldAccessorFactory}
+	 */
+	public static synchronized NativeFieldAccessorFactory getDefault() {
+
+		if (!isAvailable())
+			return null;
+
+		if (instance == null) {
+			initialize();
+			instance = new NativeFieldAccessorFactory();
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Checks if the {@link NativeFieldAccessorFactory} is available on the
+	 * environment.
+	 * <p>
+	 * To make it available, add javassist to the classpath
+	 */
+	public static boolean isAvailable() {
+		return NativeMethodInvokerFactory.isAvailable();
+	}
+
+	/**
+	 * Creates a new instance of the {@link NativeFieldAccessorFactory}
+	 */
+	private NativeFieldAccessorFactory() {
+
+	}
+
+	/**
+	 * Gets or creates a new {@link FieldAccessor} for the providen field
+	 *
+	 * @param field
+	 *            The field which a {@link FieldAccessor} will be created
+	 * @return A {@link FieldAccessor} which can access the given field
+	 */
+	public FieldAccessor getFor(Field field) {
+		if (!supports(field)) {
+			throw new NativeInvokerCreationException(
+					"Accessors may be created only for non-final public fields of public classes.");
+		}
+
+		Class<? extends FieldAccessor> accessorClass = getAccessorClass(field);
+
+		try {
+			return accessorClass.getConstructor(Field.class).newInstance(field);
+		} catch (Throwable e) {
+			throw new NativeInvokerCreationException(
+					"Error while instantiating accessor for: " + field, e);
+		}
+	}
+
+	/**
+	 * Checks if an accessor can be generated for the field
+	 */
+	static boolean supports(Field field) {
+		int modifiers = field.getModifiers();
+		return Modifier.isPublic(modifiers) && !Modifier.isFinal(modifiers)
+				&& Modifier.isPublic(field.getDeclaringClass().getModifiers());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Class<? extends FieldAccessor> getAccessorClass(final Field field) {
+		Class<?> declaringClass = field.getDeclaringClass();
+
+		// The hash code of a field only mixes the names of its class and
+		// itself, which other fields of the class may share, so the
+		// signature tells them apart
+		String signature = field.toString();
+
+		return (Class<? extends FieldAccessor>) NativeMethodInvokerFactory
+				.getDefault().getGeneratedClass(
+						declaringClass,
+						declaringClass.getName() + '$'
+								+ Math.abs(signature.hashCode())
+								+ "$Accessor", signature,
+						new NativeMethodInvokerFactory.ClassGenerator() {
+							@Override
+							public byte[] generate(String name) {
+								return createAccessorClass(field, name);
+							}
+						});
+	}
+
+	private byte[] createAccessorClass(Field field, String name) {
+		long start = System.nanoTime();
+		CtClass accessorClass = pool.makeClass(name, accessorCt);
+
+		accessorClass.setModifiers(javassist.Modifier.PUBLIC);
+
+		try {
+			NativeMethodInvokerFactory.addSignatureField(accessorClass, field
+					.toString());
+
+			CtConstructor constructor = new CtConstructor(
+					new CtClass[] { fieldCt }, accessorClass);
+			constructor.setBody("super($1);");
+			accessorClass.addConstructor(constructor);
+
+			addAccessMethods(accessorClass, field);
+
+			return NativeMethodInvokerFactory.toBytecode(accessorClass, start);
+		} catch (CannotCompileException e) {
+			throw new NativeInvokerCreationException(
+					"Error while creating accessor for: " + field, e);
+		}
+	}
+
+	/**
+	 * Adds the boxed and typed <code>get</code> and <code>set</code> methods
+	 * to the accessor class
+	 *
+	 * @param accessorClass
+	 *            The new {@link FieldAccessor} class
+	 * @param field
+	 *            The field which the accessor is being created
+	 * @throws CannotCompileException
+	 *             If a method could not be compiled
+	 */
+	private void addAccessMethods(CtClass accessorClass, Field field)
+			throws CannotCompileException {
+		Class<?> type = field.getType();
+		String typeName = sourceName(type);
+		String declaringName = field.getDeclaringClass().getName();
+		String reference;
+
+		if (Modifier.isStatic(field.getModifiers()))
+			reference = declaringName + '.' + field.getName();
+		else
+			reference = "((" + declaringName + ")$1)." + field.getName();
+
+		addMethod(accessorClass, objectCt, "get", new CtClass[] { objectCt },
+				"return ($w) " + reference + ';', "illegalAccess");
+
+		String value;
+		if (type.isPrimitive())
+			value = "((" + ReflectionUtils.getWrapper(type).getName()
+					+ ")$2)." + typeName + "Value()";
+		else
+			value = "(" + typeName + ")$2";
+
+		addMethod(accessorClass, CtClass.voidType, "set", new CtClass[] {
+				objectCt, objectCt }, reference + " = " + value + ';',
+				"illegalValue");
+
+		if (!type.isPrimitive())
+			return;
+
+		for (Class<?> primitive : PRIMITIVES) {
+			String name = primitive.getName();
+			String capitalized = Character.toUpperCase(name.charAt(0))
+					+ name.substring(1);
+			CtClass primitiveCt = primitiveCt(primitive);
+
+			if (primitive == type || widens(type, primitive)) {
+				addMethod(accessorClass, primitiveCt, "get" + capitalized,
+						new CtClass[] { objectCt }, "return (" + name + ") "
+								+ reference + ';', "illegalAccess");
+			}
+
+			if (primitive == type || widens(primitive, type)) {
+				addMethod(accessorClass, CtClass.voidType, "set"
+						+ capitalized, new CtClass[] { objectCt, primitiveCt },
+						reference + " = (" + typeName + ") $2;",
+						"illegalValue");
+			}
+		}
+	}
+
+	/**
+	 * Adds a public method whose runtime failures, such as a null or foreign
+	 * target, are reported by the given {@link NativeFieldAccessor} method
+	 */
+	private void addMethod(CtClass accessorClass, CtClass returnType,
+			String name, CtClass[] parameters, String statement,
+			String failure) throws CannotCompileException {
+		CtMethod method = new CtMethod(returnType, name, parameters,
+				accessorClass);
+		method.setModifiers(javassist.Modifier.PUBLIC);
+		method.setBody("{try{" + statement
+				+ "}catch(java.lang.RuntimeException e){throw " + failure
+				+ "(e);}}");
+		accessorClass.addMethod(method);
+	}
+
+	/**
+	 * Checks if a value of the primitive type <code>from</code> can be widened
+	 * to the primitive type <code>to</code>
+	 */
+	static boolean widens(Class<?> from, Class<?> to) {
+		if (from == boolean.class || to == boolean.class || from == to)
+			return false;
+		if (to == char.class || to == byte.class)
+			return false;
+		if (to == short.class)
+			return from == byte.class;
+		return rank(from) < rank(to);
+	}
+
+	/**
+	 * The position of a numeric primitive type in the widening order, where
+	 * <code>byte</code>, <code>short</code> and <code>char</code> are widened
+	 * only to the types after <code>short</code>
+	 */
+	private static int rank(Class<?> type) {
+		if (type == byte.class || type == char.class)
+			return 0;
+		if (type == short.class)
+			return 1;
+		if (type == int.class)
+			return 2;
+		if (type == long.class)
+			return 3;
+		if (type == float.class)
+			return 4;
+		return 5;
+	}
+
+	/**
+	 * The CtClass of a primitive type
+	 */
+	static CtClass primitiveCt(Class<?> type) {
+		if (type == boolean.class)
+			return CtClass.booleanType;
+		else if (type == byte.class)
+			return CtClass.byteType;
+		else if (type == char.class)
+			return CtClass.charType;
+		else if (type == short.class)
+			return CtClass.shortType;
+		else if (type == int.class)
+			return CtClass.intType;
+		else if (type == long.class)
+			return CtClass.longType;
+		else if (type == float.class)
+			return CtClass.floatType;
+		else
+			return CtClass.doubleType;
+	}
+
+	/**
+	 * The name of the type as it is written in javassist source code
+	 */
+	static String sourceName(Class<?> type) {
+		if (type.isArray())
+			return sourceName(type.getComponentType()) + "[]";
+		return type.getName();
+	}
+}
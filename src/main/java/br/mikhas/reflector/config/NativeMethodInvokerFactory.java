@@ -1,11 +1,21 @@
 package br.mikhas.reflector.config;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import javassist.CannotCompileException;
 import javassist.ClassPool;
 import javassist.CtClass;
+import javassist.CtField;
 import javassist.CtMethod;
 import javassist.NotFoundException;
 import br.mikhas.reflector.ReflectionUtils;
@@ -21,6 +31,36 @@ import br.mikhas.reflector.ReflectionUtils;
  */
 public final class NativeMethodInvokerFactory {
 
+	/**
+	 * The highest arity with an <code>invokeN</code> method on
+	 * {@link MethodInvoker}
+	 */
+	private static final int MAX_DIRECT_ARGUMENTS = 4;
+
+	/**
+	 * The highest arity with fixed arity typed <code>invoke</code> methods on
+	 * {@link MethodInvoker}
+	 */
+	private static final int MAX_TYPED_DIRECT_ARGUMENTS = 1;
+
+	/**
+	 * The public constant which records, on every generated class, the
+	 * signature of the members it was generated for
+	 */
+	static final String SIGNATURE_FIELD = "SIGNATURE";
+
+	/**
+	 * The system property which sets the initial cache directory
+	 */
+	public static final String CACHE_DIRECTORY_PROPERTY = "br.mikhas.reflector.cacheDirectory";
+
+	/**
+	 * The primitive types which a result can be returned as
+	 */
+	private static final Class<?>[] PRIMITIVES = { boolean.class, byte.class,
+			char.class, short.class, int.class, long.class, float.class,
+			double.class };
+
 	/**
 	 * The used class pool
 	 */
@@ -30,6 +70,11 @@ public final class NativeMethodInvokerFactory {
 	 * {@link Object} CtClass
 	 */
 	private static CtClass objectCt;
+	/**
+	 * {@link String} CtClass
+	 */
+	private static CtClass stringCt;
+
 	/**
 	 * {@link Object}[] CtClass
 	 */
@@ -40,6 +85,16 @@ public final class NativeMethodInvokerFactory {
 	 */
 	private static CtClass invokerCt;
 
+	/**
+	 * {@link ConstructorInvoker} CtClass
+	 */
+	private static CtClass constructorInvokerCt;
+
+	/**
+	 * {@link NativeDispatcher} CtClass
+	 */
+	private static CtClass dispatcherCt;
+
 	/**
 	 * Unique {@link NativeMethodInvokerFactory} instance
 	 */
@@ -53,7 +108,10 @@ public final class NativeMethodInvokerFactory {
 			pool = ClassPool.getDefault();
 			objectCt = pool.get("java.lang.Object");
 			objectArrCt = pool.get("java.lang.Object[]");
+			stringCt = pool.get("java.lang.String");
 			invokerCt = pool.get(MethodInvoker.class.getName());
+			constructorInvokerCt = pool.get(ConstructorInvoker.class.getName());
+			dispatcherCt = pool.get(NativeDispatcher.class.getName());
 		} catch (Exception e) {
 			throw new RuntimeException(
 					"Could not initialize the MethodInvokerFactory", e);
@@ -93,11 +151,70 @@ public final class NativeMethodInvokerFactory {
 		}
 	}
 
+	/**
+	 * The dispatchers of the classes whose methods were requested through
+	 * {@link #getDispatchedFor(Method)}. A dispatcher which could not be
+	 * generated is not kept, so a later request for a method of its class
+	 * tries to generate it again.
+	 */
+	private final ClassValue<Dispatch> dispatches = new ClassValue<Dispatch>() {
+		@Override
+		protected Dispatch computeValue(Class<?> type) {
+			return createDispatch(type);
+		}
+	};
+
+	/**
+	 * The on-disk cache of generated classes, if one is configured
+	 */
+	private volatile BytecodeCache cache;
+
 	/**
 	 * Creates a new instance of the {@link NativeMethodInvokerFactory}
 	 */
 	private NativeMethodInvokerFactory() {
+		String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
 
+		if (directory != null) {
+			try {
+				setCacheDirectory(new File(directory));
+			} catch (NativeInvokerCreationException e) {
+				// Classes are generated on every run without the cache
+			}
+		}
+	}
+
+	/**
+	 * Sets the directory where the bytecode of generated classes is kept, so
+	 * later runs of the JVM can define them without compiling them again.
+	 * <p>
+	 * Cached bytecode is only used while the class it was generated for, and
+	 * this library, are unchanged. The directory can also be set with the
+	 * <code>{@value #CACHE_DIRECTORY_PROPERTY}</code> system property.
+	 * <p>
+	 * The cached bytecode is defined into the packages of the classes it was
+	 * generated for, so the directory must not be writable by untrusted
+	 * users: anyone who can write an entry can run code with the access of
+	 * those classes.
+	 * 
+	 * @param directory
+	 *            The cache directory, which is created if needed, or
+	 *            <code>null</code> to disable the cache
+	 * @throws NativeInvokerCreationException
+	 *             If the directory could not be created
+	 */
+	public void setCacheDirectory(File directory) {
+		this.cache = directory == null ? null : new BytecodeCache(directory,
+				NativeMethodInvokerFactory.class);
+	}
+
+	/**
+	 * @return the directory where the bytecode of generated classes is kept,
+	 *         or <code>null</code> if it is not kept
+	 */
+	public File getCacheDirectory() {
+		BytecodeCache cache = this.cache;
+		return cache == null ? null : cache.getDirectory();
 	}
 
 	/**
@@ -108,9 +225,7 @@ public final class NativeMethodInvokerFactory {
 	 * @return A {@link MethodInvoker} which can invoke the given method
 	 */
 	public MethodInvoker getFor(Method method) {
-		int modifiers = method.getModifiers();
-
-		if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)) {
+		if (!supports(method)) {
 			throw new RuntimeException(
 					"Invokers may be created on for non-abstract public methods.");
 		}
@@ -118,6 +233,87 @@ public final class NativeMethodInvokerFactory {
 		return this.createInvokerFor(method);
 	}
 
+	/**
+	 * Gets a {@link MethodInvoker} which calls the method through the
+	 * dispatcher of its declaring class, generating the dispatcher on the
+	 * first request for a method of that class
+	 * 
+	 * @param method
+	 *            The method which a {@link MethodInvoker} will be created
+	 * @return A {@link MethodInvoker} which can invoke the given method
+	 * @throws NativeInvokerCreationException
+	 *             If the dispatcher could not be generated, which is tried
+	 *             again on the next request
+	 * @see InvokerLayout#PER_CLASS
+	 */
+	public MethodInvoker getDispatchedFor(Method method) {
+		if (!supports(method)) {
+			throw new RuntimeException(
+					"Invokers may be created on for non-abstract public methods.");
+		}
+
+		Dispatch dispatch;
+
+		try {
+			dispatch = dispatches.get(method.getDeclaringClass());
+		} catch (RuntimeException e) {
+			throw new NativeInvokerCreationException(
+					"Could not create the dispatcher of: "
+							+ method.getDeclaringClass(), e);
+		}
+
+		Integer index = dispatch.indexes.get(method);
+
+		// Synthetic methods are left out of the dispatchers
+		if (index == null)
+			return this.createInvokerFor(method);
+
+		return new DispatchedMethodInvoker(dispatch.dispatcher, index);
+	}
+
+	/**
+	 * Checks if an invoker can be generated for the method
+	 */
+	static boolean supports(Method method) {
+		int modifiers = method.getModifiers();
+		return Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers);
+	}
+
+	/**
+	 * Checks if an invoker can be generated for the constructor
+	 */
+	static boolean supports(Constructor<?> constructor) {
+		return Modifier.isPublic(constructor.getModifiers())
+				&& !Modifier.isAbstract(constructor.getDeclaringClass()
+						.getModifiers());
+	}
+
+	/**
+	 * Gets or creates a new {@link ConstructorInvoker} for the providen
+	 * constructor
+	 * 
+	 * @param constructor
+	 *            The constructor which a {@link ConstructorInvoker} will be
+	 *            created
+	 * @return A {@link ConstructorInvoker} which can invoke the given
+	 *         constructor
+	 */
+	public ConstructorInvoker getFor(Constructor<?> constructor) {
+		if (!supports(constructor)) {
+			throw new RuntimeException(
+					"Invokers may be created on for public constructors of non-abstract classes.");
+		}
+
+		Class<? extends ConstructorInvoker> invokerClass = getInvokerClass(constructor);
+
+		try {
+			return invokerClass.getDeclaredConstructor().newInstance();
+		} catch (Throwable e) {
+			throw new NativeInvokerCreationException(
+					"Error while instantiating invoker for: " + constructor, e);
+		}
+	}
+
 	/**
 	 * Creates a new {@link MethodInvoker} foe the given method
 	 * 
@@ -129,7 +325,7 @@ public final class NativeMethodInvokerFactory {
 		Class<? extends MethodInvoker> invokerClass = getInvokerClass(method);
 
 		try {
-			return invokerClass.newInstance();
+			return invokerClass.getDeclaredConstructor().newInstance();
 		} catch (Throwable e) {
 			throw new NativeInvokerCreationException(
 					"Error while instantiating invoker for: "
@@ -138,42 +334,267 @@ public final class NativeMethodInvokerFactory {
 	}
 
 	@SuppressWarnings("unchecked")
-	private Class<? extends MethodInvoker> getInvokerClass(Method method) {
+	private Class<? extends MethodInvoker> getInvokerClass(final Method method) {
 		Class<?> declaringClass = method.getDeclaringClass();
 
-		String invokerClassName = declaringClass.getSimpleName() + '$'
-				+ Math.abs(method.hashCode()) + "$Invoker";
-		Class<? extends MethodInvoker> invokerClass;
+		// The invoker lives in the package of the declaring class, which is
+		// where Java 9+ lets it be defined. Overloads share the hash code of
+		// the method, so the signature tells them apart
+		String signature = method.toString();
+
+		return (Class<? extends MethodInvoker>) getGeneratedClass(
+				declaringClass, declaringClass.getName() + '$'
+						+ Math.abs(signature.hashCode()) + "$Invoker",
+				signature, new ClassGenerator() {
+					@Override
+					public byte[] generate(String name) {
+						return createInvokerClass(method, name);
+					}
+				});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Class<? extends ConstructorInvoker> getInvokerClass(
+			final Constructor<?> constructor) {
+		Class<?> declaringClass = constructor.getDeclaringClass();
+
+		// Every constructor of a class shares the same hash code, so the
+		// signature tells them apart
+		String signature = constructor.toString();
+
+		return (Class<? extends ConstructorInvoker>) getGeneratedClass(
+				declaringClass, declaringClass.getName() + '$'
+						+ Math.abs(signature.hashCode())
+						+ "$ConstructorInvoker", signature,
+				new ClassGenerator() {
+					@Override
+					public byte[] generate(String name) {
+						return createInvokerClass(constructor, name);
+					}
+				});
+	}
+
+	/**
+	 * Gets or generates the dispatcher of a class, along with the indexes of
+	 * its methods
+	 */
+	private Dispatch createDispatch(Class<?> type) {
+		List<Method> dispatched = new ArrayList<Method>();
+
+		for (Method method : type.getDeclaredMethods()) {
+			if (supports(method) && !method.isSynthetic())
+				dispatched.add(method);
+		}
+
+		Method[] methods = dispatched.toArray(new Method[dispatched.size()]);
+		Map<Method, Integer> indexes = new HashMap<Method, Integer>();
+
+		for (int i = 0; i < methods.length; i++)
+			indexes.put(methods[i], i);
+
+		Class<? extends NativeDispatcher> dispatcherClass = getDispatcherClass(
+				type, methods);
 
 		try {
-			invokerClass = (Class<? extends MethodInvoker>) Class
-					.forName(invokerClassName);
-			return invokerClass;
-		} catch (ClassNotFoundException e) {
-			invokerClass = createInvokerClass(method, invokerClassName);
-			return invokerClass;
+			return new Dispatch(dispatcherClass.getDeclaredConstructor()
+					.newInstance(), indexes);
+		} catch (Throwable e) {
+			throw new NativeInvokerCreationException(
+					"Error while instantiating dispatcher for: " + type, e);
 		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private Class<? extends MethodInvoker> createInvokerClass(Method method,
-			String name) {
+	private Class<? extends NativeDispatcher> getDispatcherClass(
+			final Class<?> type, final Method[] methods) {
+		// The methods, in their order, are the signature, so a dispatcher
+		// defined by an earlier factory is only reused if its indexes match
+		String signature = Arrays.toString(methods);
+
+		return (Class<? extends NativeDispatcher>) getGeneratedClass(type,
+				type.getName() + '$' + Math.abs(signature.hashCode())
+						+ "$Dispatcher", signature, new ClassGenerator() {
+					@Override
+					public byte[] generate(String name) {
+						return createDispatcherClass(type, methods, name);
+					}
+				});
+	}
+
+	/**
+	 * Gets the class generated for a signature, reusing the one an earlier
+	 * factory defined or cached on disk, or generating it.
+	 * <p>
+	 * Names are derived from the hash code of the signature, which two
+	 * signatures may share. Every generated class records its signature, so
+	 * a class already defined under the name is only reused if it was
+	 * generated for the same signature, and the next free name is taken
+	 * otherwise.
+	 * 
+	 * @param neighbor
+	 *            The class which the generated class is defined next to
+	 * @param baseName
+	 *            The name of the generated class, when no other signature
+	 *            took it first
+	 * @param signature
+	 *            The signature of the members the class is generated for
+	 * @param generator
+	 *            Generates the bytecode of the class under a given name
+	 * @return the generated class
+	 */
+	synchronized Class<?> getGeneratedClass(Class<?> neighbor,
+			String baseName, String signature, ClassGenerator generator) {
+		for (int attempt = 0;; attempt++) {
+			String name = attempt == 0 ? baseName : baseName + attempt;
+			Class<?> defined;
+
+			try {
+				defined = Class.forName(name, false, neighbor.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				defined = null;
+			}
+
+			if (defined != null) {
+				if (signature.equals(signatureOf(defined)))
+					return defined;
+				continue;
+			}
+
+			byte[] bytecode = loadCached(neighbor, name, signature);
+
+			if (bytecode == null) {
+				bytecode = generator.generate(name);
+				storeCached(neighbor, name, signature, bytecode);
+			}
+
+			return defineClass(neighbor, bytecode);
+		}
+	}
+
+	/**
+	 * Gets the signature a class was generated for
+	 * 
+	 * @param generated
+	 *            The generated class
+	 * @return the signature, or <code>null</code> if the class records none
+	 *         which can be read
+	 */
+	static String signatureOf(Class<?> generated) {
+		try {
+			return (String) generated.getField(SIGNATURE_FIELD).get(null);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Defines a generated class in the package of its neighbor
+	 */
+	private Class<?> defineClass(Class<?> neighbor, byte[] bytecode) {
+		try {
+			return MethodHandles.privateLookupIn(neighbor,
+					MethodHandles.lookup()).defineClass(bytecode);
+		} catch (IllegalAccessException e) {
+			throw new NativeInvokerCreationException(
+					"Could not define a class next to: " + neighbor, e);
+		} catch (LinkageError e) {
+			throw new NativeInvokerCreationException(
+					"Could not define a class next to: " + neighbor, e);
+		}
+	}
+
+	private byte[] loadCached(Class<?> neighbor, String name, String signature) {
+		BytecodeCache cache = this.cache;
+
+		if (cache == null)
+			return null;
+
+		byte[] bytecode = cache.load(neighbor, name, signature);
+		if (bytecode != null)
+			GenerationStats.getDefault().loaded();
+		return bytecode;
+	}
+
+	private void storeCached(Class<?> neighbor, String name, String signature,
+			byte[] bytecode) {
+		BytecodeCache cache = this.cache;
+
+		if (cache != null)
+			cache.store(neighbor, name, signature, bytecode);
+	}
+
+	private byte[] createDispatcherClass(
+			Class<?> type, Method[] methods, String name) {
+		long start = System.nanoTime();
+		CtClass dispatcherClass = pool.makeClass(name, dispatcherCt);
+
+		dispatcherClass.setModifiers(javassist.Modifier.PUBLIC);
+
+		try {
+			addSignatureField(dispatcherClass, Arrays.toString(methods));
+
+			CtClass[] parameters = new CtClass[] { objectCt, objectArrCt };
+			StringBuilder builder = new StringBuilder("{switch ($1) {");
+
+			// Each method is called from its own small method, which keeps
+			// dispatch itself small enough to be inlined
+			for (int i = 0; i < methods.length; i++) {
+				String[] arguments = new String[methods[i].getParameterTypes().length];
+				for (int j = 0; j < arguments.length; j++)
+					arguments[j] = "$2[" + j + "]";
+
+				addCallMethod(dispatcherClass, methods[i], "call" + i,
+						parameters, arguments, true, null);
+				builder.append("case ").append(i).append(": return call")
+						.append(i).append("($2, $3);");
+			}
+
+			builder.append("}throw new IllegalArgumentException(");
+			builder.append("\"No method at index \" + $1);}");
+
+			CtMethod dispatch = new CtMethod(objectCt, "dispatch",
+					new CtClass[] { CtClass.intType, objectCt, objectArrCt },
+					dispatcherClass);
+			dispatch.setModifiers(javassist.Modifier.PUBLIC);
+			dispatch.setBody(builder.toString());
+			dispatcherClass.addMethod(dispatch);
+
+			return toBytecode(dispatcherClass, start);
+		} catch (CannotCompileException e) {
+			throw new NativeInvokerCreationException(
+					"Error while creating dispatcher for: " + type, e);
+		}
+	}
+
+	private byte[] createInvokerClass(
+			Constructor<?> constructor, String name) {
+		long start = System.nanoTime();
 		CtClass invokerClass = pool.makeClass(name);
 
 		invokerClass.setModifiers(javassist.Modifier.PUBLIC);
-		invokerClass.addInterface(invokerCt);
+		invokerClass.addInterface(constructorInvokerCt);
 
 		try {
-			addInvokeMethod(invokerClass, method);
-			Class<? extends MethodInvoker> invokerCls = invokerClass.toClass();
+			addSignatureField(invokerClass, constructor.toString());
+			addNewInstanceMethod(invokerClass, constructor);
+			return toBytecode(invokerClass, start);
+		} catch (CannotCompileException e) {
+			throw new NativeInvokerCreationException(
+					"Error while creating invoker for: " + constructor, e);
+		}
+	}
 
-			/**
-			 * Executes extra JIT compilation
-			 */
-			java.lang.Compiler.compileClass(invokerCls);
+	private byte[] createInvokerClass(Method method, String name) {
+		long start = System.nanoTime();
+		CtClass invokerClass = pool.makeClass(name);
 
-			return invokerCls;
+		invokerClass.setModifiers(javassist.Modifier.PUBLIC);
+		invokerClass.addInterface(invokerCt);
 
+		try {
+			addSignatureField(invokerClass, method.toString());
+			addInvokeMethod(invokerClass, method);
+			return toBytecode(invokerClass, start);
 		} catch (CannotCompileException e) {
 			throw new NativeInvokerCreationException(
 					"Error while creating invoker for: "
@@ -182,7 +603,54 @@ public final class NativeMethodInvokerFactory {
 	}
 
 	/**
-	 * Adds the <code>invoke</code> method to the {@link MethodInvoker} class
+	 * Adds the constant which records the signature a class is generated for
+	 * 
+	 * @param generated
+	 *            The generated class
+	 * @param signature
+	 *            The signature of the members the class is generated for
+	 * @throws CannotCompileException
+	 *             If the field could not be created
+	 */
+	static void addSignatureField(CtClass generated, String signature)
+			throws CannotCompileException {
+		CtField field = new CtField(stringCt, SIGNATURE_FIELD, generated);
+		field.setModifiers(javassist.Modifier.PUBLIC
+				| javassist.Modifier.STATIC | javassist.Modifier.FINAL);
+		generated.addField(field, CtField.Initializer.constant(signature));
+	}
+
+	/**
+	 * Compiles a generated class, which is then removed from the pool, as the
+	 * pool would otherwise keep every generated class
+	 * 
+	 * @param generated
+	 *            The generated class
+	 * @param start
+	 *            When the generation started, in nanoseconds
+	 * @return the bytecode of the class
+	 * @throws CannotCompileException
+	 *             If the class could not be compiled
+	 */
+	static byte[] toBytecode(CtClass generated, long start)
+			throws CannotCompileException {
+		try {
+			byte[] bytecode = generated.toBytecode();
+			GenerationStats.getDefault().generated(System.nanoTime() - start);
+			return bytecode;
+		} catch (IOException e) {
+			throw new CannotCompileException(e);
+		} finally {
+			generated.detach();
+		}
+	}
+
+	/**
+	 * Adds the <code>invoke</code> method to the {@link MethodInvoker} class,
+	 * and the <code>invokeN</code> method matching the method arity, which
+	 * takes the arguments without an array. Methods returning a primitive get
+	 * the typed <code>invoke</code> methods too, with their fixed arity
+	 * variant when the method takes at most one argument.
 	 * 
 	 * @param invokerClass
 	 *            The new {@link MethodInvoker} class
@@ -194,6 +662,76 @@ public final class NativeMethodInvokerFactory {
 	 */
 	private void addInvokeMethod(CtClass invokerClass, Method method)
 			throws CannotCompileException {
+		int arity = method.getParameterTypes().length;
+		String[] arguments = new String[arity];
+		String[] directArguments = new String[arity];
+		CtClass[] directParameters = new CtClass[arity + 1];
+		directParameters[0] = objectCt;
+
+		for (int i = 0; i < arity; i++) {
+			arguments[i] = "$2[" + i + "]";
+			directArguments[i] = "$" + (i + 2);
+			directParameters[i + 1] = objectCt;
+		}
+
+		CtClass[] spreadParameters = new CtClass[] { objectCt, objectArrCt };
+
+		addCallMethod(invokerClass, method, "invoke", spreadParameters,
+				arguments, true, null);
+
+		Class<?> returnType = method.getReturnType();
+
+		if (returnType.isPrimitive() && returnType != void.class) {
+			for (Class<?> type : PRIMITIVES) {
+				if (type == returnType
+						|| NativeFieldAccessorFactory.widens(returnType, type)) {
+					String name = type.getName();
+					String typedName = "invoke"
+							+ Character.toUpperCase(name.charAt(0))
+							+ name.substring(1);
+
+					addCallMethod(invokerClass, method, typedName,
+							spreadParameters, arguments, true, type);
+
+					if (arity <= MAX_TYPED_DIRECT_ARGUMENTS)
+						addCallMethod(invokerClass, method, typedName,
+								directParameters, directArguments, false, type);
+				}
+			}
+		}
+
+		if (arity <= MAX_DIRECT_ARGUMENTS)
+			addCallMethod(invokerClass, method, "invoke" + arity,
+					directParameters, directArguments, false, null);
+	}
+
+	/**
+	 * Adds a method which calls the invoked method on the target in
+	 * <code>$1</code>
+	 * 
+	 * @param invokerClass
+	 *            The new {@link MethodInvoker} class
+	 * @param method
+	 *            The method which the invoker is being created
+	 * @param name
+	 *            The name of the method to add
+	 * @param parameterTypes
+	 *            The parameters of the method to add
+	 * @param arguments
+	 *            The expressions of the arguments of the call, before they
+	 *            are cast or unboxed
+	 * @param spread
+	 *            If the arguments are unpacked from the array in
+	 *            <code>$2</code>, which length must then be checked
+	 * @param resultType
+	 *            The primitive type the result is returned as, or
+	 *            <code>null</code> to return it boxed
+	 * @throws CannotCompileException
+	 *             If the method could not be created
+	 */
+	private void addCallMethod(CtClass invokerClass, Method method,
+			String name, CtClass[] parameterTypes, String[] arguments,
+			boolean spread, Class<?> resultType) throws CannotCompileException {
 		Class<?> declaringClass = method.getDeclaringClass();
 		boolean isStatic = Modifier.isStatic(method.getModifiers());
 		String declaringName = declaringClass.getName();
@@ -202,14 +740,24 @@ public final class NativeMethodInvokerFactory {
 		Class<?> returnType = method.getReturnType();
 		boolean isVoid = returnType == Void.class || returnType == void.class;
 
-		CtMethod invoke = new CtMethod(objectCt, "invoke", new CtClass[] {
-				objectCt, objectArrCt }, invokerClass);
+		CtClass resultCt = resultType == null ? objectCt
+				: NativeFieldAccessorFactory.primitiveCt(resultType);
+		CtMethod invoke = new CtMethod(resultCt, name, parameterTypes,
+				invokerClass);
 
 		invoke.setModifiers(javassist.Modifier.PUBLIC);
 
 		StringBuilder builder = new StringBuilder();
 
 		builder.append('{');
+
+		if (spread) {
+			builder.append("if (($2 == null ? 0 : $2.length) != ");
+			builder.append(parameters.length);
+			builder.append(") throw new IllegalArgumentException(");
+			builder.append("\"wrong number of arguments\");");
+		}
+
 		// Sets the target
 
 		builder.append("try {");
@@ -220,7 +768,7 @@ public final class NativeMethodInvokerFactory {
 		}
 
 		if (!isVoid) {
-			builder.append(returnType.getName());
+			builder.append(NativeFieldAccessorFactory.sourceName(returnType));
 			builder.append(" ret = ");
 		}
 
@@ -230,24 +778,13 @@ public final class NativeMethodInvokerFactory {
 			builder.append("target.");
 
 		builder.append(methodName).append('(');
-
-		for (int i = 0; i < parameters.length; i++) {
-			if (i > 0)
-				builder.append(',');
-			// Cast first
-
-			if (parameters[i].isPrimitive()) {
-				getPrimitiveConverter(builder, parameters[i], i);
-			} else {
-				builder.append('(').append(parameters[i].getName()).append(')');
-				builder.append("$2[").append(i).append(']');
-			}
-		}
-
+		appendArguments(builder, parameters, arguments);
 		builder.append(");return ");
 
 		if (isVoid) {
 			builder.append("null;");
+		} else if (resultType != null) {
+			builder.append('(').append(resultType.getName()).append(")ret;");
 		} else {
 			if (returnType.isPrimitive())
 				wrapPrimitiveReturn(builder, returnType);
@@ -263,19 +800,120 @@ public final class NativeMethodInvokerFactory {
 		invokerClass.addMethod(invoke);
 	}
 
+	/**
+	 * Adds the <code>newInstance</code> method to the
+	 * {@link ConstructorInvoker} class
+	 * 
+	 * @param invokerClass
+	 *            The new {@link ConstructorInvoker} class
+	 * @param constructor
+	 *            The constructor which the invoker is being created
+	 * @throws CannotCompileException
+	 *             If the new <code>newInstance</code> method could not be
+	 *             created
+	 */
+	private void addNewInstanceMethod(CtClass invokerClass,
+			Constructor<?> constructor) throws CannotCompileException {
+		CtMethod newInstance = new CtMethod(objectCt, "newInstance",
+				new CtClass[] { objectArrCt }, invokerClass);
+
+		newInstance.setModifiers(javassist.Modifier.PUBLIC
+				| javassist.Modifier.VARARGS);
+
+		StringBuilder builder = new StringBuilder();
+		Class<?>[] parameters = constructor.getParameterTypes();
+		String description = constructor.toString().replace("\\", "\\\\")
+				.replace("\"", "\\\"");
+
+		// Fails as the other backends do, rather than on the array index
+		builder.append("{if (($1 == null ? 0 : $1.length) != ");
+		builder.append(parameters.length);
+		builder.append(") throw new br.mikhas.reflector.ReflectionException(");
+		builder.append("\"Wrong number of arguments for: ");
+		builder.append(description).append("\");");
+
+		builder.append("try {return new ");
+		builder.append(constructor.getDeclaringClass().getName()).append('(');
+
+		String[] arguments = new String[parameters.length];
+
+		for (int i = 0; i < parameters.length; i++)
+			arguments[i] = "$1[" + i + "]";
+
+		appendArguments(builder, parameters, arguments);
+		builder.append(");}");
+		builder.append("catch(java.lang.Throwable t){");
+		builder.append("throw new br.mikhas.reflector.ReflectionException(");
+		builder.append("\"An error occured while creating object: ");
+		builder.append(description).append("\", t);}}");
+
+		newInstance.setBody(builder.toString());
+		invokerClass.addMethod(newInstance);
+	}
+
+	/**
+	 * Appends the arguments of a call, cast to the parameter types
+	 */
+	private void appendArguments(StringBuilder builder, Class<?>[] parameters,
+			String[] arguments) {
+		for (int i = 0; i < parameters.length; i++) {
+			if (i > 0)
+				builder.append(',');
+			// Cast first
+
+			if (parameters[i].isPrimitive()) {
+				getPrimitiveConverter(builder, parameters[i], arguments[i]);
+			} else {
+				builder.append('(').append(
+						NativeFieldAccessorFactory.sourceName(parameters[i]))
+						.append(')');
+				builder.append(arguments[i]);
+			}
+		}
+	}
+
 	private void wrapPrimitiveReturn(StringBuilder builder, Class<?> type) {
 		builder.append(ReflectionUtils.getWrapper(type).getName());
 		builder.append(".valueOf(ret);");
 	}
 
 	private void getPrimitiveConverter(StringBuilder builder, Class<?> type,
-			int index) {
+			String argument) {
 		builder.append("((");
 		builder.append(ReflectionUtils.getWrapper(type).getName());
-		builder.append(")$2[");
-		builder.append(index);
-		builder.append("]).");
+		builder.append(')').append(argument);
+		builder.append(").");
 		builder.append(type.getName());
 		builder.append("Value()");
 	}
+
+	/**
+	 * The dispatcher of a class and the indexes of its methods
+	 */
+	private static final class Dispatch {
+
+		final NativeDispatcher dispatcher;
+
+		final Map<Method, Integer> indexes;
+
+		Dispatch(NativeDispatcher dispatcher, Map<Method, Integer> indexes) {
+			this.dispatcher = dispatcher;
+			this.indexes = indexes;
+		}
+	}
+
+	/**
+	 * Generates the bytecode of a class
+	 */
+	interface ClassGenerator {
+
+		/**
+		 * Generates the bytecode of the class
+		 * 
+		 * @param name
+		 *            The name of the generated class
+		 * @return the bytecode of the class
+		 */
+		byte[] generate(String name);
+	}
 }
@@ -0,0 +1,43 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Field;
+
+/**
+ * The field accessors and method invokers of a class, generated at build
+ * time for classes marked with
+ * {@link br.mikhas.reflector.annotation.Precompile}.
+ * <p>
+ * Implementations are discovered through the {@link java.util.ServiceLoader}
+ * by the {@link PrecompiledReflectionFactory}.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public interface PrecompiledAccessors {
+
+	/**
+	 * @return the class whose members are served
+	 */
+	public Class<?> type();
+
+	/**
+	 * Gets the accessor of a field declared by the {@link #type() class}
+	 * 
+	 * @param field
+	 *            The field
+	 * @return the generated accessor, or <code>null</code> if it was not
+	 *         generated
+	 */
+	public FieldAccessor getFieldAcessor(Field field);
+
+	/**
+	 * Gets the invoker of a method declared by the {@link #type() class}
+	 * 
+	 * @param signature
+	 *            The signature of the method, as given by
+	 *            {@link PrecompiledReflectionFactory#signature(java.lang.reflect.Method)}
+	 * @return the generated invoker, or <code>null</code> if it was not
+	 *         generated
+	 */
+	public MethodInvoker getMethodInvoker(String signature);
+}
@@ -0,0 +1,165 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Serves the members of classes marked with
+ * {@link br.mikhas.reflector.annotation.Precompile} through the accessors
+ * and invokers generated for them at build time, and every other member
+ * through a fallback backend.
+ * <p>
+ * The factory is opt in: a {@link br.mikhas.reflector.Reflector} only serves
+ * precompiled classes when it is created with a
+ * <code>PrecompiledReflectionFactory</code> in front of its backend, such as
+ * <code>new Reflector(new PrecompiledReflectionFactory(backend))</code>.
+ * <p>
+ * The generated {@link PrecompiledAccessors} are discovered once, when the
+ * factory is created, through the {@link ServiceLoader}. Providers which can
+ * not be loaded, such as stale entries left in a
+ * <code>META-INF/services</code> file, are skipped.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public class PrecompiledReflectionFactory implements ReflectionFactory {
+
+	private final ReflectionFactory fallback;
+
+	private final Map<Class<?>, PrecompiledAccessors> accessors;
+
+	/**
+	 * Creates a factory with the accessors visible to the context class loader
+	 * 
+	 * @param fallback
+	 *            The backend which serves the members without generated
+	 *            accessors
+	 */
+	public PrecompiledReflectionFactory(ReflectionFactory fallback) {
+		this(fallback, defaultClassLoader());
+	}
+
+	/**
+	 * Creates a factory with the accessors visible to a class loader
+	 * 
+	 * @param fallback
+	 *            The backend which serves the members without generated
+	 *            accessors
+	 * @param classLoader
+	 *            The class loader which the accessors are discovered through
+	 */
+	public PrecompiledReflectionFactory(ReflectionFactory fallback,
+			ClassLoader classLoader) {
+		this(fallback, discover(classLoader));
+	}
+
+	private PrecompiledReflectionFactory(ReflectionFactory fallback,
+			Map<Class<?>, PrecompiledAccessors> accessors) {
+		if (fallback == null)
+			throw new NullPointerException("ReflectionFactory must not be null");
+		this.fallback = fallback;
+		this.accessors = accessors;
+	}
+
+	/**
+	 * Gets the signature which identifies a method on its
+	 * {@link PrecompiledAccessors}: its name followed by the canonical names
+	 * of its parameter types, such as <code>put(java.lang.String,int[])</code>
+	 * 
+	 * @param method
+	 *            The method
+	 * @return the signature of the method
+	 */
+	public static String signature(Method method) {
+		StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		Class<?>[] parameters = method.getParameterTypes();
+
+		for (int i = 0; i < parameters.length; i++) {
+			if (i > 0)
+				builder.append(',');
+			builder.append(parameters[i].getCanonicalName());
+		}
+
+		return builder.append(')').toString();
+	}
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		PrecompiledAccessors precompiled = accessors.get(field
+				.getDeclaringClass());
+
+		if (precompiled != null) {
+			FieldAccessor accessor = precompiled.getFieldAcessor(field);
+			if (accessor != null)
+				return accessor;
+		}
+
+		return fallback.getFieldAcessor(field);
+	}
+
+	@Override
+	public MethodInvoker getMethodInvoker(Method method) {
+		PrecompiledAccessors precompiled = accessors.get(method
+				.getDeclaringClass());
+
+		if (precompiled != null) {
+			MethodInvoker invoker = precompiled
+					.getMethodInvoker(signature(method));
+			if (invoker != null)
+				return invoker;
+		}
+
+		return fallback.getMethodInvoker(method);
+	}
+
+	@Override
+	public ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		return fallback.getConstructorInvoker(constructor);
+	}
+
+	private static ClassLoader defaultClassLoader() {
+		ClassLoader classLoader = Thread.currentThread()
+				.getContextClassLoader();
+		return classLoader != null ? classLoader
+				: PrecompiledReflectionFactory.class.getClassLoader();
+	}
+
+	private static Map<Class<?>, PrecompiledAccessors> discover(
+			ClassLoader classLoader) {
+		Map<Class<?>, PrecompiledAccessors> accessors = new HashMap<Class<?>, PrecompiledAccessors>();
+
+		Iterator<PrecompiledAccessors> providers = ServiceLoader.load(
+				PrecompiledAccessors.class, classLoader).iterator();
+
+		while (hasNext(providers)) {
+			try {
+				PrecompiledAccessors precompiled = providers.next();
+				accessors.put(precompiled.type(), precompiled);
+			} catch (ServiceConfigurationError e) {
+				// A provider which can not be loaded only skips itself
+			} catch (LinkageError e) {
+				// The accessors were generated for a class which is gone
+			}
+		}
+
+		return accessors;
+	}
+
+	/**
+	 * Checks if there are more providers, stopping the discovery if the
+	 * configuration files themselves can not be read
+	 */
+	private static boolean hasNext(Iterator<PrecompiledAccessors> providers) {
+		try {
+			return providers.hasNext();
+		} catch (ServiceConfigurationError e) {
+			return false;
+		}
+	}
+}
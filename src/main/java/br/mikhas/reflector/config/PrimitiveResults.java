@@ -0,0 +1,86 @@
+package br.mikhas.reflector.config;
+
+import br.mikhas.reflector.method.MethodInvocationException;
+
+/**
+ * Unboxes the results of {@link MethodInvoker#invoke(Object, Object...)} for
+ * the typed <code>invoke</code> methods of invokers which can not return
+ * primitive values directly.
+ * <p>
+ * As on field access, a result is widened to the requested type when
+ * possible and rejected otherwise.
+ */
+final class PrimitiveResults {
+
+	private PrimitiveResults() {
+
+	}
+
+	static boolean toBoolean(Object result) {
+		if (result instanceof Boolean)
+			return ((Boolean) result).booleanValue();
+		throw illegalResult(result, "boolean");
+	}
+
+	static byte toByte(Object result) {
+		if (result instanceof Byte)
+			return ((Byte) result).byteValue();
+		throw illegalResult(result, "byte");
+	}
+
+	static char toChar(Object result) {
+		if (result instanceof Character)
+			return ((Character) result).charValue();
+		throw illegalResult(result, "char");
+	}
+
+	static short toShort(Object result) {
+		if (result instanceof Short || result instanceof Byte)
+			return ((Number) result).shortValue();
+		throw illegalResult(result, "short");
+	}
+
+	static int toInt(Object result) {
+		return toInt(result, "int");
+	}
+
+	static long toLong(Object result) {
+		if (result instanceof Long)
+			return ((Long) result).longValue();
+		return toInt(result, "long");
+	}
+
+	static float toFloat(Object result) {
+		if (result instanceof Float)
+			return ((Float) result).floatValue();
+		if (result instanceof Long)
+			return ((Long) result).floatValue();
+		return toInt(result, "float");
+	}
+
+	static double toDouble(Object result) {
+		if (result instanceof Double || result instanceof Float
+				|| result instanceof Long)
+			return ((Number) result).doubleValue();
+		return toInt(result, "double");
+	}
+
+	/**
+	 * Widens the <code>int</code> compatible results, rejecting the others
+	 * with the name of the requested type
+	 */
+	private static int toInt(Object result, String type) {
+		if (result instanceof Integer || result instanceof Short
+				|| result instanceof Byte)
+			return ((Number) result).intValue();
+		if (result instanceof Character)
+			return ((Character) result).charValue();
+		throw illegalResult(result, type);
+	}
+
+	private static MethodInvocationException illegalResult(Object result,
+			String type) {
+		return new MethodInvocationException("The method result " + result
+				+ " can not be returned as " + type);
+	}
+}
@@ -1,5 +1,6 @@
 package br.mikhas.reflector.config;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -8,4 +9,17 @@ public interface ReflectionFactory {
 	public FieldAccessor getFieldAcessor(Field field);
 
 	public MethodInvoker getMethodInvoker(Method method);
+
+	/**
+	 * Gets the invoker of a constructor. Factories which do not create their
+	 * own get the one of the default reflection API.
+	 * 
+	 * @param constructor
+	 *            The constructor to be invoked
+	 * @return An invoker of the constructor
+	 */
+	public default ConstructorInvoker getConstructorInvoker(
+			Constructor<?> constructor) {
+		return new JdkConstructorInvoker(constructor);
+	}
 }
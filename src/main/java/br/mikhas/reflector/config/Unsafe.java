@@ -390,7 +390,10 @@ public class Unsafe {
 	 * @param fieldOffset
 	 *            The field offset according to the object reference
 	 * @return The value of the field
+	 * @deprecated walks the field type on every call; use the accessor
+	 *             created by {@link UnsafeFieldAccessor#forField(Field)}
 	 */
+	@Deprecated
 	public Object getValue(Object target, Class<?> type, long fieldOffset) {
 
 		if (type == int.class)
@@ -426,7 +429,10 @@ public class Unsafe {
 	 *            The field offset acording to the object reference
 	 * @param value
 	 *            The new value to the field
+	 * @deprecated walks the field type on every call; use the accessor
+	 *             created by {@link UnsafeFieldAccessor#forField(Field)}
 	 */
+	@Deprecated
 	public void setValue(Object target, Class<?> type, long fieldOffset,
 			Object value) {
 		if (type == int.class)
@@ -4,10 +4,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
 import sun.misc.Unsafe;
+import br.mikhas.reflector.field.FieldReflectionException;
 
 /**
  * The {@link UnsafeFieldAccessor} uses hidden classes and methods which
  * provides direct access to field values.
+ * <p>
+ * There is one final implementation for each kind of field (static or
+ * instance, of each primitive type or a reference), picked by
+ * {@link #forField(Field)} when the accessor is built. Each accessor then
+ * reads or writes the field memory without checking the field type or its
+ * modifiers on every call. Accessors created through the deprecated public
+ * constructor forward every call to the specialized one.
  * 
  * @author Mikhail Domanoski
  * 
@@ -15,77 +23,968 @@ import sun.misc.Unsafe;
 @SuppressWarnings("restriction")
 public class UnsafeFieldAccessor implements FieldAccessor {
 
-	private final long offset;
 	private final static Unsafe unsafe;
-	private final Class<?> type;
-	private Object staticBase;
 
 	static {
 		unsafe = UnsafeGetter.getRealUnsafe();
 	}
 
+	/**
+	 * The accessed field
+	 */
+	protected final Field field;
+
+	/**
+	 * The field offset according to the object reference
+	 */
+	protected final long offset;
+
+	/**
+	 * The specialized accessor which this one forwards to, or
+	 * <code>null</code> if this accessor is specialized itself
+	 */
+	private final UnsafeFieldAccessor delegate;
+
+	UnsafeFieldAccessor(Field field, long offset) {
+		this.field = field;
+		this.offset = offset;
+		this.delegate = null;
+	}
+
+	/**
+	 * Creates an accessor which forwards to the one specialized on the field
+	 * 
+	 * @param field
+	 *            The field to be accessed
+	 * @deprecated Use {@link #forField(Field)}, which returns the specialized
+	 *             accessor itself
+	 */
+	@Deprecated
 	public UnsafeFieldAccessor(Field field) {
+		this(forField(field));
+	}
+
+	private UnsafeFieldAccessor(UnsafeFieldAccessor delegate) {
+		this.field = delegate.field;
+		this.offset = delegate.offset;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Creates the accessor specialized on the type and modifiers of the field
+	 * 
+	 * @param field
+	 *            The field to be accessed
+	 * @return An accessor to the field
+	 */
+	public static UnsafeFieldAccessor forField(Field field) {
 		if (!UnsafeGetter.isUnsafeAvailable())
 			throw new IllegalStateException(
 					"The unsafe object is not available");
 
-		this.type = field.getType();
+		Class<?> type = field.getType();
 
 		if (Modifier.isStatic(field.getModifiers())) {
-			this.staticBase = unsafe.staticFieldBase(field);
-			this.offset = unsafe.staticFieldOffset(field);
+			Object base = unsafe.staticFieldBase(field);
+			long offset = unsafe.staticFieldOffset(field);
+			if (type == boolean.class)
+				return new StaticBooleanAccessor(field, base, offset);
+			else if (type == byte.class)
+				return new StaticByteAccessor(field, base, offset);
+			else if (type == char.class)
+				return new StaticCharAccessor(field, base, offset);
+			else if (type == short.class)
+				return new StaticShortAccessor(field, base, offset);
+			else if (type == int.class)
+				return new StaticIntAccessor(field, base, offset);
+			else if (type == long.class)
+				return new StaticLongAccessor(field, base, offset);
+			else if (type == float.class)
+				return new StaticFloatAccessor(field, base, offset);
+			else if (type == double.class)
+				return new StaticDoubleAccessor(field, base, offset);
+			else
+				return new StaticObjectAccessor(field, base, offset);
 		} else {
-			this.offset = unsafe.objectFieldOffset(field);
+			long offset = unsafe.objectFieldOffset(field);
+
+			if (type == boolean.class)
+				return new InstanceBooleanAccessor(field, offset);
+			else if (type == byte.class)
+				return new InstanceByteAccessor(field, offset);
+			else if (type == char.class)
+				return new InstanceCharAccessor(field, offset);
+			else if (type == short.class)
+				return new InstanceShortAccessor(field, offset);
+			else if (type == int.class)
+				return new InstanceIntAccessor(field, offset);
+			else if (type == long.class)
+				return new InstanceLongAccessor(field, offset);
+			else if (type == float.class)
+				return new InstanceFloatAccessor(field, offset);
+			else if (type == double.class)
+				return new InstanceDoubleAccessor(field, offset);
+			else
+				return new InstanceObjectAccessor(field, offset);
 		}
 	}
 
+	@Override
+	public boolean getBoolean(Object target) {
+		if (delegate != null)
+			return delegate.getBoolean(target);
+		throw illegalType("boolean");
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		if (delegate != null)
+			delegate.setBoolean(target, value);
+		else
+			throw illegalType("boolean");
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		if (delegate != null)
+			return delegate.getByte(target);
+		throw illegalType("byte");
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		if (delegate != null)
+			delegate.setByte(target, value);
+		else
+			throw illegalType("byte");
+	}
+
+	@Override
+	public char getChar(Object target) {
+		if (delegate != null)
+			return delegate.getChar(target);
+		throw illegalType("char");
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		if (delegate != null)
+			delegate.setChar(target, value);
+		else
+			throw illegalType("char");
+	}
+
+	@Override
+	public short getShort(Object target) {
+		if (delegate != null)
+			return delegate.getShort(target);
+		throw illegalType("short");
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		if (delegate != null)
+			delegate.setShort(target, value);
+		else
+			throw illegalType("short");
+	}
+
+	@Override
+	public int getInt(Object target) {
+		if (delegate != null)
+			return delegate.getInt(target);
+		throw illegalType("int");
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		if (delegate != null)
+			delegate.setInt(target, value);
+		else
+			throw illegalType("int");
+	}
+
+	@Override
+	public long getLong(Object target) {
+		if (delegate != null)
+			return delegate.getLong(target);
+		throw illegalType("long");
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		if (delegate != null)
+			delegate.setLong(target, value);
+		else
+			throw illegalType("long");
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		if (delegate != null)
+			return delegate.getFloat(target);
+		throw illegalType("float");
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		if (delegate != null)
+			delegate.setFloat(target, value);
+		else
+			throw illegalType("float");
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		if (delegate != null)
+			return delegate.getDouble(target);
+		throw illegalType("double");
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		if (delegate != null)
+			delegate.setDouble(target, value);
+		else
+			throw illegalType("double");
+	}
+
+	@Override
 	public Object get(Object target) {
-		if (staticBase != null)
-			target = staticBase;
+		return delegate.get(target);
+	}
 
-		if (type == int.class)
-			return unsafe.getInt(target, offset);
-		else if (type == long.class)
-			return unsafe.getLong(target, offset);
-		else if (type == short.class)
-			return unsafe.getShort(target, offset);
-		else if (type == boolean.class)
+	@Override
+	public void set(Object target, Object value) {
+		delegate.set(target, value);
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.get(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.set(target, value);
+	}
+
+	/**
+	 * Creates the exception thrown when the field is accessed through a
+	 * primitive type which it can not be converted from or to
+	 * 
+	 * @param accessType
+	 *            The primitive type used to access the field
+	 * @return the exception to be thrown
+	 */
+	protected FieldReflectionException illegalType(String accessType) {
+		return new FieldReflectionException("The field " + this.field
+				+ " can not be accessed as " + accessType);
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>boolean</code> fields
+	 */
+	abstract static class BooleanAccessor extends UnsafeFieldAccessor {
+
+		BooleanAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getBoolean(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setBoolean(target, (Boolean) value);
+		}
+	}
+
+	static final class InstanceBooleanAccessor extends BooleanAccessor {
+
+		InstanceBooleanAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public boolean getBoolean(Object target) {
 			return unsafe.getBoolean(target, offset);
-		else if (type == char.class)
-			return unsafe.getChar(target, offset);
-		else if (type == double.class)
-			return unsafe.getDouble(target, offset);
-		else if (type == byte.class)
+		}
+
+		@Override
+		public void setBoolean(Object target, boolean value) {
+			unsafe.putBoolean(target, offset, value);
+		}
+	}
+
+	static final class StaticBooleanAccessor extends BooleanAccessor {
+
+		private final Object base;
+
+		StaticBooleanAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public boolean getBoolean(Object target) {
+			return unsafe.getBoolean(base, offset);
+		}
+
+		@Override
+		public void setBoolean(Object target, boolean value) {
+			unsafe.putBoolean(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>byte</code> fields
+	 */
+	abstract static class ByteAccessor extends UnsafeFieldAccessor {
+
+		ByteAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getByte(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setByte(target, (Byte) value);
+		}
+
+		@Override
+		public short getShort(Object target) {
+			return getByte(target);
+		}
+
+		@Override
+		public int getInt(Object target) {
+			return getByte(target);
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return getByte(target);
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return getByte(target);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getByte(target);
+		}
+	}
+
+	static final class InstanceByteAccessor extends ByteAccessor {
+
+		InstanceByteAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public byte getByte(Object target) {
 			return unsafe.getByte(target, offset);
-		else if (type == float.class)
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			unsafe.putByte(target, offset, value);
+		}
+	}
+
+	static final class StaticByteAccessor extends ByteAccessor {
+
+		private final Object base;
+
+		StaticByteAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public byte getByte(Object target) {
+			return unsafe.getByte(base, offset);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			unsafe.putByte(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>char</code> fields
+	 */
+	abstract static class CharAccessor extends UnsafeFieldAccessor {
+
+		CharAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getChar(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setChar(target, (Character) value);
+		}
+
+		@Override
+		public int getInt(Object target) {
+			return getChar(target);
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return getChar(target);
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return getChar(target);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getChar(target);
+		}
+	}
+
+	static final class InstanceCharAccessor extends CharAccessor {
+
+		InstanceCharAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public char getChar(Object target) {
+			return unsafe.getChar(target, offset);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			unsafe.putChar(target, offset, value);
+		}
+	}
+
+	static final class StaticCharAccessor extends CharAccessor {
+
+		private final Object base;
+
+		StaticCharAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public char getChar(Object target) {
+			return unsafe.getChar(base, offset);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			unsafe.putChar(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>short</code> fields
+	 */
+	abstract static class ShortAccessor extends UnsafeFieldAccessor {
+
+		ShortAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getShort(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setShort(target, (Short) value);
+		}
+
+		@Override
+		public int getInt(Object target) {
+			return getShort(target);
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return getShort(target);
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return getShort(target);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getShort(target);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			setShort(target, value);
+		}
+	}
+
+	static final class InstanceShortAccessor extends ShortAccessor {
+
+		InstanceShortAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public short getShort(Object target) {
+			return unsafe.getShort(target, offset);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			unsafe.putShort(target, offset, value);
+		}
+	}
+
+	static final class StaticShortAccessor extends ShortAccessor {
+
+		private final Object base;
+
+		StaticShortAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public short getShort(Object target) {
+			return unsafe.getShort(base, offset);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			unsafe.putShort(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>int</code> fields
+	 */
+	abstract static class IntAccessor extends UnsafeFieldAccessor {
+
+		IntAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getInt(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setInt(target, (Integer) value);
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return getInt(target);
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return getInt(target);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getInt(target);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			setInt(target, value);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			setInt(target, value);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			setInt(target, value);
+		}
+	}
+
+	static final class InstanceIntAccessor extends IntAccessor {
+
+		InstanceIntAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public int getInt(Object target) {
+			return unsafe.getInt(target, offset);
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			unsafe.putInt(target, offset, value);
+		}
+	}
+
+	static final class StaticIntAccessor extends IntAccessor {
+
+		private final Object base;
+
+		StaticIntAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public int getInt(Object target) {
+			return unsafe.getInt(base, offset);
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			unsafe.putInt(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>long</code> fields
+	 */
+	abstract static class LongAccessor extends UnsafeFieldAccessor {
+
+		LongAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getLong(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setLong(target, (Long) value);
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return getLong(target);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getLong(target);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			setLong(target, value);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			setLong(target, value);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			setLong(target, value);
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			setLong(target, value);
+		}
+	}
+
+	static final class InstanceLongAccessor extends LongAccessor {
+
+		InstanceLongAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return unsafe.getLong(target, offset);
+		}
+
+		@Override
+		public void setLong(Object target, long value) {
+			unsafe.putLong(target, offset, value);
+		}
+	}
+
+	static final class StaticLongAccessor extends LongAccessor {
+
+		private final Object base;
+
+		StaticLongAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public long getLong(Object target) {
+			return unsafe.getLong(base, offset);
+		}
+
+		@Override
+		public void setLong(Object target, long value) {
+			unsafe.putLong(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>float</code> fields
+	 */
+	abstract static class FloatAccessor extends UnsafeFieldAccessor {
+
+		FloatAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getFloat(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setFloat(target, (Float) value);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return getFloat(target);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			setFloat(target, value);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			setFloat(target, value);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			setFloat(target, value);
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			setFloat(target, value);
+		}
+
+		@Override
+		public void setLong(Object target, long value) {
+			setFloat(target, value);
+		}
+	}
+
+	static final class InstanceFloatAccessor extends FloatAccessor {
+
+		InstanceFloatAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public float getFloat(Object target) {
 			return unsafe.getFloat(target, offset);
-		else
+		}
+
+		@Override
+		public void setFloat(Object target, float value) {
+			unsafe.putFloat(target, offset, value);
+		}
+	}
+
+	static final class StaticFloatAccessor extends FloatAccessor {
+
+		private final Object base;
+
+		StaticFloatAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public float getFloat(Object target) {
+			return unsafe.getFloat(base, offset);
+		}
+
+		@Override
+		public void setFloat(Object target, float value) {
+			unsafe.putFloat(base, offset, value);
+		}
+	}
+
+	/**
+	 * Boxing and widening conversions of <code>double</code> fields
+	 */
+	abstract static class DoubleAccessor extends UnsafeFieldAccessor {
+
+		DoubleAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
+			return getDouble(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			setDouble(target, (Double) value);
+		}
+
+		@Override
+		public void setByte(Object target, byte value) {
+			setDouble(target, value);
+		}
+
+		@Override
+		public void setChar(Object target, char value) {
+			setDouble(target, value);
+		}
+
+		@Override
+		public void setShort(Object target, short value) {
+			setDouble(target, value);
+		}
+
+		@Override
+		public void setInt(Object target, int value) {
+			setDouble(target, value);
+		}
+
+		@Override
+		public void setLong(Object target, long value) {
+			setDouble(target, value);
+		}
+
+		@Override
+		public void setFloat(Object target, float value) {
+			setDouble(target, value);
+		}
+	}
+
+	static final class InstanceDoubleAccessor extends DoubleAccessor {
+
+		InstanceDoubleAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return unsafe.getDouble(target, offset);
+		}
+
+		@Override
+		public void setDouble(Object target, double value) {
+			unsafe.putDouble(target, offset, value);
+		}
+	}
+
+	static final class StaticDoubleAccessor extends DoubleAccessor {
+
+		private final Object base;
+
+		StaticDoubleAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public double getDouble(Object target) {
+			return unsafe.getDouble(base, offset);
+		}
+
+		@Override
+		public void setDouble(Object target, double value) {
+			unsafe.putDouble(base, offset, value);
+		}
+	}
+
+	/**
+	 * Reference fields. Values are checked against the field type before
+	 * being stored, as an ill-typed reference would corrupt the heap.
+	 */
+	abstract static class ObjectAccessor extends UnsafeFieldAccessor {
+
+		protected final Class<?> type;
+
+		ObjectAccessor(Field field, long offset) {
+			super(field, offset);
+			this.type = field.getType();
+		}
+
+		protected Object checked(Object value) {
+			try {
+				return type.cast(value);
+			} catch (ClassCastException e) {
+				throw new FieldReflectionException(
+						"The providen value is not legal", e);
+			}
+		}
+	}
+
+	static final class InstanceObjectAccessor extends ObjectAccessor {
+
+		InstanceObjectAccessor(Field field, long offset) {
+			super(field, offset);
+		}
+
+		@Override
+		public Object get(Object target) {
 			return unsafe.getObject(target, offset);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			unsafe.putObject(target, offset, checked(value));
+		}
 	}
 
-	@Override
-	public void set(Object target, Object value) {
-		if (staticBase != null)
-			target = staticBase;
-
-		if (type == int.class)
-			unsafe.putInt(target, offset, (Integer) value);
-		else if (type == short.class)
-			unsafe.putShort(target, offset, (Short) value);
-		else if (type == long.class)
-			unsafe.putLong(target, offset, (Long) value);
-		else if (type == byte.class)
-			unsafe.putByte(target, offset, (Byte) value);
-		else if (type == float.class)
-			unsafe.putFloat(target, offset, (Float) value);
-		else if (type == double.class)
-			unsafe.putDouble(target, offset, (Double) value);
-		else if (type == boolean.class)
-			unsafe.putBoolean(target, offset, (Boolean) value);
-		else if (type == char.class)
-			unsafe.putChar(target, offset, (Character) value);
-		else
-			unsafe.putObject(target, offset, value);
+	static final class StaticObjectAccessor extends ObjectAccessor {
 
+		private final Object base;
+
+		StaticObjectAccessor(Field field, Object base, long offset) {
+			super(field, offset);
+			this.base = base;
+		}
+
+		@Override
+		public Object get(Object target) {
+			return unsafe.getObject(base, offset);
+		}
+
+		@Override
+		public void set(Object target, Object value) {
+			unsafe.putObject(base, offset, checked(value));
+		}
 	}
 }
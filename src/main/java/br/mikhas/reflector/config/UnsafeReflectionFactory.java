@@ -2,12 +2,20 @@ package br.mikhas.reflector.config;
 
 import java.lang.reflect.Field;
 
+/**
+ * Creates field accessors which read and write field memory directly through
+ * <code>sun.misc.Unsafe</code>, when it is available.
+ * <p>
+ * <code>sun.misc.Unsafe</code> is not a supported API; the
+ * {@link VarHandleReflectionFactory} offers comparable speed on Java 9 and
+ * newer and should be preferred there.
+ */
 public class UnsafeReflectionFactory extends JdkReflectionFactory {
 
 	@Override
 	public FieldAccessor getFieldAcessor(Field field) {
 		if (UnsafeGetter.isUnsafeAvailable()) {
-			return new UnsafeFieldAccessor(field);
+			return UnsafeFieldAccessor.forField(field);
 		} else
 			return super.getFieldAcessor(field);
 	}
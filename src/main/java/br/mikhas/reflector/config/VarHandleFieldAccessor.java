@@ -0,0 +1,465 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import br.mikhas.reflector.field.AccessMode;
+import br.mikhas.reflector.field.FieldReflectionException;
+
+/**
+ * Accesses a field through a {@link VarHandle}.
+ * <p>
+ * Besides plain reads and writes, the handle honours every {@link AccessMode}
+ * natively, so opaque, acquire/release and volatile access need no extra
+ * fences. Primitive values are read and written without boxing and widened
+ * by the handle itself; narrowing conversions are rejected.
+ * <p>
+ * Calling a VarHandle with other types than its own adapts the call on every
+ * access, so the method handle of each access mode is taken from the
+ * VarHandle and adapted once, when the accessor is created, to the
+ * <code>(Object)</code> shape of a read or the <code>(Object, Object)</code>
+ * shape of a write, and then called with <code>invokeExact</code>. Static
+ * field handles are adapted to ignore the target, so instance and static
+ * fields share the same shapes. Typed handles are prepared for plain access,
+ * for every primitive type the field can be widened to (when read) or from
+ * (when written); the others are left <code>null</code> and rejected.
+ */
+final class VarHandleFieldAccessor implements FieldAccessor {
+
+	private final Field field;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle setter;
+
+	private final MethodHandle opaqueGetter;
+
+	private final MethodHandle opaqueSetter;
+
+	private final MethodHandle acquireGetter;
+
+	private final MethodHandle releaseSetter;
+
+	private final MethodHandle volatileGetter;
+
+	private final MethodHandle volatileSetter;
+
+	private final MethodHandle booleanGetter;
+
+	private final MethodHandle booleanSetter;
+
+	private final MethodHandle byteGetter;
+
+	private final MethodHandle byteSetter;
+
+	private final MethodHandle charGetter;
+
+	private final MethodHandle charSetter;
+
+	private final MethodHandle shortGetter;
+
+	private final MethodHandle shortSetter;
+
+	private final MethodHandle intGetter;
+
+	private final MethodHandle intSetter;
+
+	private final MethodHandle longGetter;
+
+	private final MethodHandle longSetter;
+
+	private final MethodHandle floatGetter;
+
+	private final MethodHandle floatSetter;
+
+	private final MethodHandle doubleGetter;
+
+	private final MethodHandle doubleSetter;
+
+	private VarHandleFieldAccessor(Field field, VarHandle handle) {
+		this.field = field;
+
+		boolean isStatic = Modifier.isStatic(field.getModifiers());
+		MethodHandle getter = accessHandle(handle,
+				VarHandle.AccessMode.GET, isStatic);
+		MethodHandle setter = accessHandle(handle,
+				VarHandle.AccessMode.SET, isStatic);
+
+		this.getter = genericGetter(getter);
+		this.setter = genericSetter(setter);
+		this.opaqueGetter = genericGetter(accessHandle(handle,
+				VarHandle.AccessMode.GET_OPAQUE, isStatic));
+		this.opaqueSetter = genericSetter(accessHandle(handle,
+				VarHandle.AccessMode.SET_OPAQUE, isStatic));
+		this.acquireGetter = genericGetter(accessHandle(handle,
+				VarHandle.AccessMode.GET_ACQUIRE, isStatic));
+		this.releaseSetter = genericSetter(accessHandle(handle,
+				VarHandle.AccessMode.SET_RELEASE, isStatic));
+		this.volatileGetter = genericGetter(accessHandle(handle,
+				VarHandle.AccessMode.GET_VOLATILE, isStatic));
+		this.volatileSetter = genericSetter(accessHandle(handle,
+				VarHandle.AccessMode.SET_VOLATILE, isStatic));
+
+		this.booleanGetter = typedGetter(getter, boolean.class);
+		this.booleanSetter = typedSetter(setter, boolean.class);
+		this.byteGetter = typedGetter(getter, byte.class);
+		this.byteSetter = typedSetter(setter, byte.class);
+		this.charGetter = typedGetter(getter, char.class);
+		this.charSetter = typedSetter(setter, char.class);
+		this.shortGetter = typedGetter(getter, short.class);
+		this.shortSetter = typedSetter(setter, short.class);
+		this.intGetter = typedGetter(getter, int.class);
+		this.intSetter = typedSetter(setter, int.class);
+		this.longGetter = typedGetter(getter, long.class);
+		this.longSetter = typedSetter(setter, long.class);
+		this.floatGetter = typedGetter(getter, float.class);
+		this.floatSetter = typedSetter(setter, float.class);
+		this.doubleGetter = typedGetter(getter, double.class);
+		this.doubleSetter = typedSetter(setter, double.class);
+	}
+
+	/**
+	 * Creates an accessor for the given field
+	 * 
+	 * @param field
+	 *            The field to be accessed
+	 * @return An accessor to the field
+	 * @throws IllegalAccessException
+	 *             If the declaring class does not grant deep access to its
+	 *             members
+	 */
+	static VarHandleFieldAccessor forField(Field field)
+			throws IllegalAccessException {
+		MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+				field.getDeclaringClass(), MethodHandles.lookup());
+
+		return new VarHandleFieldAccessor(field, lookup
+				.unreflectVarHandle(field));
+	}
+
+	/**
+	 * Gets the method handle of an access mode, taking the target as its
+	 * first parameter even for static fields
+	 */
+	private static MethodHandle accessHandle(VarHandle handle,
+			VarHandle.AccessMode mode, boolean isStatic) {
+		MethodHandle access = handle.toMethodHandle(mode);
+
+		if (isStatic)
+			access = MethodHandles.dropArguments(access, 0, Object.class);
+
+		return access;
+	}
+
+	private static MethodHandle genericGetter(MethodHandle getter) {
+		return getter.asType(MethodType.methodType(Object.class, Object.class));
+	}
+
+	private static MethodHandle genericSetter(MethodHandle setter) {
+		return setter.asType(MethodType.methodType(void.class, Object.class,
+				Object.class));
+	}
+
+	/**
+	 * Adapts the getter to return a primitive type, if the field value can be
+	 * widened to it
+	 */
+	private static MethodHandle typedGetter(MethodHandle getter, Class<?> type) {
+		if (!getter.type().returnType().isPrimitive())
+			return null;
+		try {
+			return getter.asType(MethodType.methodType(type, Object.class));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Adapts the setter to take a primitive type, if it can be widened to the
+	 * type of the field
+	 */
+	private static MethodHandle typedSetter(MethodHandle setter, Class<?> type) {
+		if (!setter.type().parameterType(1).isPrimitive())
+			return null;
+		try {
+			return setter.asType(MethodType.methodType(void.class,
+					Object.class, type));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Object get(Object target) {
+		try {
+			return getter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value) {
+		try {
+			setter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public Object get(Object target, AccessMode mode) {
+		MethodHandle access;
+
+		switch (mode) {
+		case OPAQUE:
+			access = opaqueGetter;
+			break;
+		case ACQUIRE_RELEASE:
+			access = acquireGetter;
+			break;
+		case VOLATILE:
+			access = volatileGetter;
+			break;
+		default:
+			access = getter;
+		}
+
+		try {
+			return access.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value, AccessMode mode) {
+		MethodHandle access;
+
+		switch (mode) {
+		case OPAQUE:
+			access = opaqueSetter;
+			break;
+		case ACQUIRE_RELEASE:
+			access = releaseSetter;
+			break;
+		case VOLATILE:
+			access = volatileSetter;
+			break;
+		default:
+			access = setter;
+		}
+
+		try {
+			access.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public boolean getBoolean(Object target) {
+		if (booleanGetter == null)
+			throw illegalType("boolean");
+		try {
+			return (boolean) booleanGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		if (booleanSetter == null)
+			throw illegalType("boolean");
+		try {
+			booleanSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		if (byteGetter == null)
+			throw illegalType("byte");
+		try {
+			return (byte) byteGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		if (byteSetter == null)
+			throw illegalType("byte");
+		try {
+			byteSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public char getChar(Object target) {
+		if (charGetter == null)
+			throw illegalType("char");
+		try {
+			return (char) charGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		if (charSetter == null)
+			throw illegalType("char");
+		try {
+			charSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public short getShort(Object target) {
+		if (shortGetter == null)
+			throw illegalType("short");
+		try {
+			return (short) shortGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		if (shortSetter == null)
+			throw illegalType("short");
+		try {
+			shortSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public int getInt(Object target) {
+		if (intGetter == null)
+			throw illegalType("int");
+		try {
+			return (int) intGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		if (intSetter == null)
+			throw illegalType("int");
+		try {
+			intSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public long getLong(Object target) {
+		if (longGetter == null)
+			throw illegalType("long");
+		try {
+			return (long) longGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		if (longSetter == null)
+			throw illegalType("long");
+		try {
+			longSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		if (floatGetter == null)
+			throw illegalType("float");
+		try {
+			return (float) floatGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		if (floatSetter == null)
+			throw illegalType("float");
+		try {
+			floatSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		if (doubleGetter == null)
+			throw illegalType("double");
+		try {
+			return (double) doubleGetter.invokeExact(target);
+		} catch (Throwable e) {
+			throw illegalAccess(e);
+		}
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		if (doubleSetter == null)
+			throw illegalType("double");
+		try {
+			doubleSetter.invokeExact(target, value);
+		} catch (Throwable e) {
+			throw illegalValue(e);
+		}
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.get(target);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.set(target, value);
+	}
+
+	private FieldReflectionException illegalAccess(Throwable cause) {
+		return new FieldReflectionException("Could not read the field "
+				+ this.field, cause);
+	}
+
+	private FieldReflectionException illegalValue(Throwable cause) {
+		return new FieldReflectionException("The providen value is not legal",
+				cause);
+	}
+
+	private FieldReflectionException illegalType(String accessType) {
+		return new FieldReflectionException("The field " + this.field
+				+ " can not be accessed as " + accessType);
+	}
+}
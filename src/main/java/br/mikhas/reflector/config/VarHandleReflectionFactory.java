@@ -0,0 +1,36 @@
+package br.mikhas.reflector.config;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates field accessors built on {@link VarHandle}s, the supported
+ * replacement for <code>sun.misc.Unsafe</code> field access.
+ * <p>
+ * VarHandle accessors honour every {@link br.mikhas.reflector.field.AccessMode}
+ * natively. Final fields, which a VarHandle can not write, and members of
+ * classes not opened to this library are served by the
+ * {@link MethodHandleReflectionFactory}, which also creates the method
+ * invokers.
+ */
+public class VarHandleReflectionFactory extends MethodHandleReflectionFactory {
+
+	@Override
+	public FieldAccessor getFieldAcessor(Field field) {
+		if (Modifier.isFinal(field.getModifiers())) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.UNSUPPORTED_MEMBER);
+			return super.getFieldAcessor(field);
+		}
+
+		try {
+			return VarHandleFieldAccessor.forField(field);
+		} catch (IllegalAccessException e) {
+			GenerationStats.getDefault().fallback(
+					FallbackReason.NOT_ACCESSIBLE);
+			return super.getFieldAcessor(field);
+		}
+	}
+
+}
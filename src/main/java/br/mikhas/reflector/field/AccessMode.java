@@ -0,0 +1,32 @@
+package br.mikhas.reflector.field;
+
+/**
+ * The memory ordering used to read or write a field, from the cheapest to
+ * the strongest.
+ * 
+ * @see java.lang.invoke.VarHandle
+ */
+public enum AccessMode {
+
+	/**
+	 * Plain access, with the ordering of a regular field access
+	 */
+	PLAIN,
+
+	/**
+	 * Bitwise atomic and coherent access, without ordering against other
+	 * fields
+	 */
+	OPAQUE,
+
+	/**
+	 * Reads acquire and writes release, so writes made before a release are
+	 * visible after the matching acquire
+	 */
+	ACQUIRE_RELEASE,
+
+	/**
+	 * Sequentially consistent access, as on a <code>volatile</code> field
+	 */
+	VOLATILE
+}
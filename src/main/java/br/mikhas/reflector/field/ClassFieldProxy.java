@@ -63,6 +63,212 @@ public class ClassFieldProxy implements FieldProxy {
 		return (T) this.fieldAccessor.get(target);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(Object target, AccessMode mode) {
+		return (T) this.fieldAccessor.get(target, mode);
+	}
+
+	@Override
+	public void set(Object target, Object value, AccessMode mode) {
+		this.fieldAccessor.set(target, value, mode);
+	}
+
+	@Override
+	public boolean getBoolean() {
+		return this.fieldAccessor.getBoolean(this.staticTarget());
+	}
+
+	@Override
+	public boolean getBoolean(Object target) {
+		return this.fieldAccessor.getBoolean(target);
+	}
+
+	@Override
+	public void setBoolean(boolean value) {
+		this.fieldAccessor.setBoolean(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean value) {
+		this.fieldAccessor.setBoolean(target, value);
+	}
+
+	@Override
+	public byte getByte() {
+		return this.fieldAccessor.getByte(this.staticTarget());
+	}
+
+	@Override
+	public byte getByte(Object target) {
+		return this.fieldAccessor.getByte(target);
+	}
+
+	@Override
+	public void setByte(byte value) {
+		this.fieldAccessor.setByte(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setByte(Object target, byte value) {
+		this.fieldAccessor.setByte(target, value);
+	}
+
+	@Override
+	public char getChar() {
+		return this.fieldAccessor.getChar(this.staticTarget());
+	}
+
+	@Override
+	public char getChar(Object target) {
+		return this.fieldAccessor.getChar(target);
+	}
+
+	@Override
+	public void setChar(char value) {
+		this.fieldAccessor.setChar(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setChar(Object target, char value) {
+		this.fieldAccessor.setChar(target, value);
+	}
+
+	@Override
+	public short getShort() {
+		return this.fieldAccessor.getShort(this.staticTarget());
+	}
+
+	@Override
+	public short getShort(Object target) {
+		return this.fieldAccessor.getShort(target);
+	}
+
+	@Override
+	public void setShort(short value) {
+		this.fieldAccessor.setShort(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setShort(Object target, short value) {
+		this.fieldAccessor.setShort(target, value);
+	}
+
+	@Override
+	public int getInt() {
+		return this.fieldAccessor.getInt(this.staticTarget());
+	}
+
+	@Override
+	public int getInt(Object target) {
+		return this.fieldAccessor.getInt(target);
+	}
+
+	@Override
+	public void setInt(int value) {
+		this.fieldAccessor.setInt(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setInt(Object target, int value) {
+		this.fieldAccessor.setInt(target, value);
+	}
+
+	@Override
+	public long getLong() {
+		return this.fieldAccessor.getLong(this.staticTarget());
+	}
+
+	@Override
+	public long getLong(Object target) {
+		return this.fieldAccessor.getLong(target);
+	}
+
+	@Override
+	public void setLong(long value) {
+		this.fieldAccessor.setLong(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setLong(Object target, long value) {
+		this.fieldAccessor.setLong(target, value);
+	}
+
+	@Override
+	public float getFloat() {
+		return this.fieldAccessor.getFloat(this.staticTarget());
+	}
+
+	@Override
+	public float getFloat(Object target) {
+		return this.fieldAccessor.getFloat(target);
+	}
+
+	@Override
+	public void setFloat(float value) {
+		this.fieldAccessor.setFloat(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setFloat(Object target, float value) {
+		this.fieldAccessor.setFloat(target, value);
+	}
+
+	@Override
+	public double getDouble() {
+		return this.fieldAccessor.getDouble(this.staticTarget());
+	}
+
+	@Override
+	public double getDouble(Object target) {
+		return this.fieldAccessor.getDouble(target);
+	}
+
+	@Override
+	public void setDouble(double value) {
+		this.fieldAccessor.setDouble(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setDouble(Object target, double value) {
+		this.fieldAccessor.setDouble(target, value);
+	}
+
+	@Override
+	public Object getObject() {
+		return this.fieldAccessor.getObject(this.staticTarget());
+	}
+
+	@Override
+	public Object getObject(Object target) {
+		return this.fieldAccessor.getObject(target);
+	}
+
+	@Override
+	public void setObject(Object value) {
+		this.fieldAccessor.setObject(this.staticTarget(), value);
+	}
+
+	@Override
+	public void setObject(Object target, Object value) {
+		this.fieldAccessor.setObject(target, value);
+	}
+
+	/**
+	 * Gets the target used to access the field when no instance is providen
+	 * 
+	 * @return the class which holds the static field
+	 */
+	private Object staticTarget() {
+		if (this.isStatic) {
+			return this.clazz;
+		} else {
+			throw new FieldReflectionException(
+					"Non-static fields cannot be accessed without an instance: "
+							+ this.name());
+		}
+	}
+
 	public boolean isAnnotated(Class<? extends Annotation> annotation) {
 		return this.field.getAnnotation(annotation) != null;
 	}
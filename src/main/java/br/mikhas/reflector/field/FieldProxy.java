@@ -44,6 +44,341 @@ public interface FieldProxy extends AnnotatedElement {
 	 */
 	public <T> T get(Object target);
 
+	/**
+	 * Gets the value of the field from the target object with the given
+	 * memory ordering
+	 * 
+	 * @param <T>
+	 *            The type of the field value
+	 * @param target
+	 *            The object which contains the field, ignored on static
+	 *            fields
+	 * @param mode
+	 *            The memory ordering of the read
+	 * @return The value of the field
+	 */
+	public <T> T get(Object target, AccessMode mode);
+
+	/**
+	 * Sets a new value to the field on the given target with the given memory
+	 * ordering
+	 * 
+	 * @param target
+	 *            The target object to change the field value, ignored on
+	 *            static fields
+	 * @param value
+	 *            The new value for the field
+	 * @param mode
+	 *            The memory ordering of the write
+	 */
+	public void set(Object target, Object value, AccessMode mode);
+
+	/**
+	 * Gets the value of the field as a <code>boolean</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public boolean getBoolean();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>boolean</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public boolean getBoolean(Object target);
+
+	/**
+	 * Sets a new <code>boolean</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setBoolean(boolean value);
+
+	/**
+	 * Sets a new <code>boolean</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setBoolean(Object target, boolean value);
+
+	/**
+	 * Gets the value of the field as a <code>byte</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public byte getByte();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>byte</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public byte getByte(Object target);
+
+	/**
+	 * Sets a new <code>byte</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setByte(byte value);
+
+	/**
+	 * Sets a new <code>byte</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setByte(Object target, byte value);
+
+	/**
+	 * Gets the value of the field as a <code>char</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public char getChar();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>char</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public char getChar(Object target);
+
+	/**
+	 * Sets a new <code>char</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setChar(char value);
+
+	/**
+	 * Sets a new <code>char</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setChar(Object target, char value);
+
+	/**
+	 * Gets the value of the field as a <code>short</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public short getShort();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>short</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public short getShort(Object target);
+
+	/**
+	 * Sets a new <code>short</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setShort(short value);
+
+	/**
+	 * Sets a new <code>short</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setShort(Object target, short value);
+
+	/**
+	 * Gets the value of the field as an <code>int</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public int getInt();
+
+	/**
+	 * Gets the value of the field from the target object as an <code>int</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public int getInt(Object target);
+
+	/**
+	 * Sets a new <code>int</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setInt(int value);
+
+	/**
+	 * Sets a new <code>int</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setInt(Object target, int value);
+
+	/**
+	 * Gets the value of the field as a <code>long</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public long getLong();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>long</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public long getLong(Object target);
+
+	/**
+	 * Sets a new <code>long</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setLong(long value);
+
+	/**
+	 * Sets a new <code>long</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setLong(Object target, long value);
+
+	/**
+	 * Gets the value of the field as a <code>float</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public float getFloat();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>float</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public float getFloat(Object target);
+
+	/**
+	 * Sets a new <code>float</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setFloat(float value);
+
+	/**
+	 * Sets a new <code>float</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setFloat(Object target, float value);
+
+	/**
+	 * Gets the value of the field as a <code>double</code> without boxing it
+	 * 
+	 * @return The value of the field
+	 */
+	public double getDouble();
+
+	/**
+	 * Gets the value of the field from the target object as a <code>double</code>
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public double getDouble(Object target);
+
+	/**
+	 * Sets a new <code>double</code> value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setDouble(double value);
+
+	/**
+	 * Sets a new <code>double</code> value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setDouble(Object target, double value);
+
+	/**
+	 * Gets the value of the field as an object
+	 * 
+	 * @return The value of the field
+	 */
+	public Object getObject();
+
+	/**
+	 * Gets the value of the field from the target object as an object
+	 * 
+	 * @param target
+	 *            The object which contains the field
+	 * @return The value of the field
+	 */
+	public Object getObject(Object target);
+
+	/**
+	 * Sets a new object value to the field
+	 * 
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setObject(Object value);
+
+	/**
+	 * Sets a new object value to the field on the given target
+	 * 
+	 * @param target
+	 *            The target object to change the field value
+	 * @param value
+	 *            The new value for the field
+	 */
+	public void setObject(Object target, Object value);
+
 	/**
 	 * Gets the name of the field
 	 * 
@@ -22,4 +22,94 @@ public class ObjectFieldProxy extends ClassFieldProxy implements FieldProxy {
 	public <T> T get() {
 		return (T) this.fieldAccessor.get(target);
 	}
+
+	@Override
+	public boolean getBoolean() {
+		return this.fieldAccessor.getBoolean(target);
+	}
+
+	@Override
+	public void setBoolean(boolean value) {
+		this.fieldAccessor.setBoolean(target, value);
+	}
+
+	@Override
+	public byte getByte() {
+		return this.fieldAccessor.getByte(target);
+	}
+
+	@Override
+	public void setByte(byte value) {
+		this.fieldAccessor.setByte(target, value);
+	}
+
+	@Override
+	public char getChar() {
+		return this.fieldAccessor.getChar(target);
+	}
+
+	@Override
+	public void setChar(char value) {
+		this.fieldAccessor.setChar(target, value);
+	}
+
+	@Override
+	public short getShort() {
+		return this.fieldAccessor.getShort(target);
+	}
+
+	@Override
+	public void setShort(short value) {
+		this.fieldAccessor.setShort(target, value);
+	}
+
+	@Override
+	public int getInt() {
+		return this.fieldAccessor.getInt(target);
+	}
+
+	@Override
+	public void setInt(int value) {
+		this.fieldAccessor.setInt(target, value);
+	}
+
+	@Override
+	public long getLong() {
+		return this.fieldAccessor.getLong(target);
+	}
+
+	@Override
+	public void setLong(long value) {
+		this.fieldAccessor.setLong(target, value);
+	}
+
+	@Override
+	public float getFloat() {
+		return this.fieldAccessor.getFloat(target);
+	}
+
+	@Override
+	public void setFloat(float value) {
+		this.fieldAccessor.setFloat(target, value);
+	}
+
+	@Override
+	public double getDouble() {
+		return this.fieldAccessor.getDouble(target);
+	}
+
+	@Override
+	public void setDouble(double value) {
+		this.fieldAccessor.setDouble(target, value);
+	}
+
+	@Override
+	public Object getObject() {
+		return this.fieldAccessor.getObject(target);
+	}
+
+	@Override
+	public void setObject(Object value) {
+		this.fieldAccessor.setObject(target, value);
+	}
 }
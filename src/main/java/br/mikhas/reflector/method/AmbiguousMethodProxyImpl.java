@@ -1,45 +1,60 @@
 package br.mikhas.reflector.method;
 
-import java.lang.reflect.Method;
-
 import br.mikhas.reflector.ReflectionException;
 import br.mikhas.reflector.ReflectionUtils;
 import br.mikhas.reflector.config.ReflectionFactory;
 
 public class AmbiguousMethodProxyImpl implements AmbiguousMethodProxy {
 
+	private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
 	private final String name;
 	private final Class<?> clazz;
 	private Object object;
-	private final ReflectionFactory reflectionFactory;
+	private final OverloadCache overloads;
+
+	/**
+	 * The proxy last bound to the object, reused while the same method is
+	 * resolved
+	 */
+	private volatile MethodProxy bound;
 
 	public AmbiguousMethodProxyImpl(ReflectionFactory reflectionFactory,
 			Class<?> clazz, String name) {
-		this.reflectionFactory = reflectionFactory;
-		this.name = name;
-		this.clazz = clazz;
+		this(new OverloadCache(reflectionFactory, clazz, name), null);
 	}
 
 	public AmbiguousMethodProxyImpl(ReflectionFactory reflectionFactory,
 			Class<?> clazz, String name, Object object) {
-		this.reflectionFactory = reflectionFactory;
-		this.name = name;
-		this.clazz = clazz;
+		this(new OverloadCache(reflectionFactory, clazz, name), object);
+	}
+
+	/**
+	 * Creates a proxy which resolves the overloads through a shared cache
+	 * 
+	 * @param overloads
+	 *            The cache of the overloads of the method
+	 * @param object
+	 *            The object which the method is invoked on, or
+	 *            <code>null</code> to invoke it on its class
+	 */
+	public AmbiguousMethodProxyImpl(OverloadCache overloads, Object object) {
+		this.name = overloads.name;
+		this.clazz = overloads.clazz;
+		this.overloads = overloads;
 		this.object = object;
 	}
 
 	public MethodProxy withArgs(Class<?>... classes) {
 		try {
-			Method method = ReflectionUtils.lookupMethod(this.clazz, name,
-					classes);
+			CoreMethodProxy proxy = overloads.resolve(classes);
 
-			if (method == null) {
+			if (proxy == null) {
 				throw new ReflectionException("Method not found: " + this.name
 						+ '(' + ReflectionUtils.typeNames(classes) + ')');
 			}
 
-			return new CoreMethodProxy(reflectionFactory, clazz, method,
-					object == null ? clazz : object);
+			return bind(proxy);
 
 		} catch (SecurityException e) {
 			throw new ReflectionException("Permission denied to method "
@@ -49,16 +64,17 @@ public class AmbiguousMethodProxyImpl implements AmbiguousMethodProxy {
 
 	public MethodProxy withoutArgs() {
 		try {
-			Method method = this.clazz.getDeclaredMethod(name);
+			CoreMethodProxy proxy = overloads.resolve(NO_TYPES);
 
-			return new CoreMethodProxy(reflectionFactory, clazz, method,
-					object == null ? clazz : object);
+			if (proxy == null) {
+				throw new ReflectionException("Method not found: " + this.name
+						+ "()");
+			}
+
+			return bind(proxy);
 		} catch (SecurityException e) {
 			throw new ReflectionException("Permission denied to method "
 					+ this.name + "()", e);
-		} catch (NoSuchMethodException e) {
-			throw new ReflectionException("Method not found: " + this.name
-					+ "()", e);
 		}
 	}
 
@@ -67,23 +83,40 @@ public class AmbiguousMethodProxyImpl implements AmbiguousMethodProxy {
 	}
 
 	public Object invoke(Object... objects) {
-		if (objects.length > 0) {
-			Class<?>[] types;
-
-			try {
-				types = ReflectionUtils.getArgumentsTypes(objects);
-			} catch (NullPointerException npe) {
-				throw new MethodInvocationException(
-						"Could not determine the type of all arguments on array",
-						npe);
-			}
+		MethodProxy proxy;
 
-			MethodProxy proxy = this.withArgs(types);
-			return proxy.invoke(objects);
+		try {
+			proxy = overloads.resolve(objects);
+		} catch (SecurityException e) {
+			throw new ReflectionException("Permission denied to method "
+					+ this.name, e);
+		}
 
-		} else {
-			MethodProxy proxy = this.withoutArgs();
-			return proxy.invoke();
+		if (proxy == null) {
+			throw new ReflectionException("Method not found: " + this.name
+					+ '(' + ReflectionUtils.typeNames(ReflectionUtils
+							.getArgumentsTypes(objects)) + ')');
 		}
+
+		return proxy.invokeOn(object == null ? clazz : object, objects);
+	}
+
+	/**
+	 * Binds a cached proxy, which is bound to the class, to the object of this
+	 * proxy
+	 */
+	private MethodProxy bind(CoreMethodProxy proxy) {
+		if (object == null)
+			return proxy;
+
+		MethodProxy last = bound;
+
+		if (last != null && last.method() == proxy.method())
+			return last;
+
+		last = proxy.bind(object);
+		bound = last;
+
+		return last;
 	}
 }
@@ -24,6 +24,11 @@ public class CoreMethodProxy implements MethodProxy {
 
 	private MethodInvoker invoker;
 
+	/**
+	 * The proxy which this one was bound from, whose invoker is shared
+	 */
+	private final CoreMethodProxy unbound;
+
 	private Map<Annotation, AnnotationProxy> annotationProxy;
 	private final ReflectionFactory reflectionFactory;
 
@@ -41,6 +46,29 @@ public class CoreMethodProxy implements MethodProxy {
 		this.target = target;
 
 		this.isStatic = Modifier.isStatic(this.modifiers);
+		this.unbound = null;
+	}
+
+	private CoreMethodProxy(CoreMethodProxy unbound, Object target) {
+		this.reflectionFactory = unbound.reflectionFactory;
+		this.clazz = unbound.clazz;
+		this.method = unbound.method;
+		this.modifiers = unbound.modifiers;
+		this.target = target;
+		this.isStatic = unbound.isStatic;
+		this.unbound = unbound;
+	}
+
+	/**
+	 * Creates a proxy of the same method invoked on another object, which
+	 * shares the invoker of this proxy
+	 * 
+	 * @param target
+	 *            The object which the method is invoked on
+	 * @return the proxy bound to the object
+	 */
+	CoreMethodProxy bind(Object target) {
+		return new CoreMethodProxy(this, target);
 	}
 
 	public Object invoke(Object... args) {
@@ -137,17 +165,213 @@ public class CoreMethodProxy implements MethodProxy {
 	@Override
 	public Object invokeOn(Object target, Object... args) {
 		try {
-			if (invoker == null)
-				this.invoker = reflectionFactory.getMethodInvoker(method);
+			return invoker().invoke(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public Object invoke0() {
+		return this.invokeOn0(this.target);
+	}
+
+	@Override
+	public Object invoke1(Object arg0) {
+		return this.invokeOn1(this.target, arg0);
+	}
+
+	@Override
+	public Object invoke2(Object arg0, Object arg1) {
+		return this.invokeOn2(this.target, arg0, arg1);
+	}
+
+	@Override
+	public Object invoke3(Object arg0, Object arg1, Object arg2) {
+		return this.invokeOn3(this.target, arg0, arg1, arg2);
+	}
+
+	@Override
+	public Object invoke4(Object arg0, Object arg1, Object arg2, Object arg3) {
+		return this.invokeOn4(this.target, arg0, arg1, arg2, arg3);
+	}
+
+	@Override
+	public Object invokeOn0(Object target) {
+		try {
+			return invoker().invoke0(target);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e);
+		}
+	}
+
+	@Override
+	public Object invokeOn1(Object target, Object arg0) {
+		try {
+			return invoker().invoke1(target, arg0);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, arg0);
+		}
+	}
+
+	@Override
+	public Object invokeOn2(Object target, Object arg0, Object arg1) {
+		try {
+			return invoker().invoke2(target, arg0, arg1);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, arg0, arg1);
+		}
+	}
+
+	@Override
+	public Object invokeOn3(Object target, Object arg0, Object arg1,
+			Object arg2) {
+		try {
+			return invoker().invoke3(target, arg0, arg1, arg2);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, arg0, arg1, arg2);
+		}
+	}
+
+	@Override
+	public Object invokeOn4(Object target, Object arg0, Object arg1,
+			Object arg2, Object arg3) {
+		try {
+			return invoker().invoke4(target, arg0, arg1, arg2, arg3);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, arg0, arg1, arg2, arg3);
+		}
+	}
+
+	@Override
+	public boolean invokeBoolean(Object... args) {
+		return this.invokeBooleanOn(this.target, args);
+	}
+
+	@Override
+	public boolean invokeBooleanOn(Object target, Object... args) {
+		try {
+			return invoker().invokeBoolean(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public byte invokeByte(Object... args) {
+		return this.invokeByteOn(this.target, args);
+	}
+
+	@Override
+	public byte invokeByteOn(Object target, Object... args) {
+		try {
+			return invoker().invokeByte(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public char invokeChar(Object... args) {
+		return this.invokeCharOn(this.target, args);
+	}
+
+	@Override
+	public char invokeCharOn(Object target, Object... args) {
+		try {
+			return invoker().invokeChar(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public short invokeShort(Object... args) {
+		return this.invokeShortOn(this.target, args);
+	}
+
+	@Override
+	public short invokeShortOn(Object target, Object... args) {
+		try {
+			return invoker().invokeShort(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
 
-			return invoker.invoke(target, args);
+	@Override
+	public int invokeInt(Object... args) {
+		return this.invokeIntOn(this.target, args);
+	}
 
+	@Override
+	public int invokeIntOn(Object target, Object... args) {
+		try {
+			return invoker().invokeInt(target, args);
 		} catch (IllegalArgumentException e) {
-			Class<?>[] types = ReflectionUtils.getArgumentsTypes(args);
-			String names = ReflectionUtils.typeNames(types);
-			throw new MethodInvocationException("Illegal argument types "
-					+ names, e);
+			throw illegalArguments(e, args);
 		}
 	}
 
+	@Override
+	public long invokeLong(Object... args) {
+		return this.invokeLongOn(this.target, args);
+	}
+
+	@Override
+	public long invokeLongOn(Object target, Object... args) {
+		try {
+			return invoker().invokeLong(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public float invokeFloat(Object... args) {
+		return this.invokeFloatOn(this.target, args);
+	}
+
+	@Override
+	public float invokeFloatOn(Object target, Object... args) {
+		try {
+			return invoker().invokeFloat(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	@Override
+	public double invokeDouble(Object... args) {
+		return this.invokeDoubleOn(this.target, args);
+	}
+
+	@Override
+	public double invokeDoubleOn(Object target, Object... args) {
+		try {
+			return invoker().invokeDouble(target, args);
+		} catch (IllegalArgumentException e) {
+			throw illegalArguments(e, args);
+		}
+	}
+
+	/**
+	 * Gets the invoker of the method, creating it on the first call
+	 */
+	private MethodInvoker invoker() {
+		if (invoker == null)
+			this.invoker = unbound != null ? unbound.invoker()
+					: reflectionFactory.getMethodInvoker(method);
+
+		return invoker;
+	}
+
+	private MethodInvocationException illegalArguments(
+			IllegalArgumentException cause, Object... args) {
+		Class<?>[] types = ReflectionUtils.getArgumentsTypes(args);
+		String names = ReflectionUtils.typeNames(types);
+		return new MethodInvocationException("Illegal argument types " + names,
+				cause);
+	}
+
 }
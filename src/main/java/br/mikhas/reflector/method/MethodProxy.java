@@ -69,4 +69,213 @@ public interface MethodProxy extends AnnotatedElement {
 	 * @return the method invokation result
 	 */
 	public Object invokeOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method without parameters on the invokation target.
+	 * <p>
+	 * The <code>invokeN</code> and <code>invokeOnN</code> methods skip the
+	 * allocation of the argument array for methods of up to four parameters.
+	 * 
+	 * @return The return value of the method
+	 */
+	public Object invoke0();
+
+	/**
+	 * Invokes a method with one parameter on the invokation target.
+	 * 
+	 * @see #invoke0()
+	 */
+	public Object invoke1(Object arg0);
+
+	/**
+	 * Invokes a method with two parameters on the invokation target.
+	 * 
+	 * @see #invoke0()
+	 */
+	public Object invoke2(Object arg0, Object arg1);
+
+	/**
+	 * Invokes a method with three parameters on the invokation target.
+	 * 
+	 * @see #invoke0()
+	 */
+	public Object invoke3(Object arg0, Object arg1, Object arg2);
+
+	/**
+	 * Invokes a method with four parameters on the invokation target.
+	 * 
+	 * @see #invoke0()
+	 */
+	public Object invoke4(Object arg0, Object arg1, Object arg2, Object arg3);
+
+	/**
+	 * Invokes a method without parameters on the given target.
+	 * 
+	 * @param target
+	 *            The method invokation target
+	 * @return the method invokation result
+	 * @see #invoke0()
+	 */
+	public Object invokeOn0(Object target);
+
+	/**
+	 * Invokes a method with one parameter on the given target.
+	 * 
+	 * @see #invokeOn0(Object)
+	 */
+	public Object invokeOn1(Object target, Object arg0);
+
+	/**
+	 * Invokes a method with two parameters on the given target.
+	 * 
+	 * @see #invokeOn0(Object)
+	 */
+	public Object invokeOn2(Object target, Object arg0, Object arg1);
+
+	/**
+	 * Invokes a method with three parameters on the given target.
+	 * 
+	 * @see #invokeOn0(Object)
+	 */
+	public Object invokeOn3(Object target, Object arg0, Object arg1,
+			Object arg2);
+
+	/**
+	 * Invokes a method with four parameters on the given target.
+	 * 
+	 * @see #invokeOn0(Object)
+	 */
+	public Object invokeOn4(Object target, Object arg0, Object arg1,
+			Object arg2, Object arg3);
+
+	/**
+	 * Invokes a method which returns a <code>boolean</code> on the invokation
+	 * target, without boxing the result.
+	 * <p>
+	 * The typed <code>invoke</code> methods widen the result to the requested
+	 * type and fail if it can not be widened.
+	 * 
+	 * @param args
+	 *            The method arguments
+	 * @return The return value of the method
+	 */
+	public boolean invokeBoolean(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>byte</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public byte invokeByte(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>char</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public char invokeChar(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>short</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public short invokeShort(Object... args);
+
+	/**
+	 * Invokes a method which returns an <code>int</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public int invokeInt(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>long</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public long invokeLong(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>float</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public float invokeFloat(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>double</code> on the invokation
+	 * target.
+	 * 
+	 * @see #invokeBoolean(Object...)
+	 */
+	public double invokeDouble(Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>boolean</code> on the given
+	 * target, without boxing the result.
+	 * 
+	 * @param target
+	 *            The method invokation target
+	 * @param args
+	 *            The method invokation arguments
+	 * @return the method invokation result
+	 * @see #invokeBoolean(Object...)
+	 */
+	public boolean invokeBooleanOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>byte</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public byte invokeByteOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>char</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public char invokeCharOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>short</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public short invokeShortOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns an <code>int</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public int invokeIntOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>long</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public long invokeLongOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>float</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public float invokeFloatOn(Object target, Object... args);
+
+	/**
+	 * Invokes a method which returns a <code>double</code> on the given target.
+	 * 
+	 * @see #invokeBooleanOn(Object, Object...)
+	 */
+	public double invokeDoubleOn(Object target, Object... args);
 }
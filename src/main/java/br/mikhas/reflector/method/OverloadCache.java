@@ -0,0 +1,179 @@
+package br.mikhas.reflector.method;
+
+import java.lang.reflect.Method;
+
+import br.mikhas.reflector.ReflectionUtils;
+import br.mikhas.reflector.config.ReflectionFactory;
+
+/**
+ * Remembers which overload of a method was picked for each tuple of argument
+ * classes, so dynamic calls through an {@link AmbiguousMethodProxy} only
+ * resolve the overload once per tuple.
+ * <p>
+ * The cache is a polymorphic inline cache: a short array of entries compared
+ * by identity against the classes of the arguments, which is replaced as a
+ * whole when an entry is added, so reads take no lock. Once it holds
+ * {@value #MAXIMUM_ENTRIES} entries the call site is considered megamorphic
+ * and new tuples are resolved on every call without being cached.
+ * <p>
+ * Each entry keeps the {@link MethodProxy} of the resolved method, which
+ * holds on to its invoker after the first call. Only tuples of classes loaded
+ * by the class loader of the declaring class or its ancestors are cached, so
+ * the cache never keeps another class loader from being unloaded.
+ * 
+ * @author Mikhail Domanoski
+ * 
+ */
+public final class OverloadCache {
+
+	/**
+	 * The maximum amount of argument tuples cached
+	 */
+	static final int MAXIMUM_ENTRIES = 8;
+
+	private static final Entry[] EMPTY = new Entry[0];
+
+	final ReflectionFactory reflectionFactory;
+
+	final Class<?> clazz;
+
+	final String name;
+
+	private volatile Entry[] entries = EMPTY;
+
+	/**
+	 * Creates an empty cache
+	 * 
+	 * @param reflectionFactory
+	 *            The factory which the invokers are created through
+	 * @param clazz
+	 *            The class which declares the methods
+	 * @param name
+	 *            The name of the methods
+	 */
+	public OverloadCache(ReflectionFactory reflectionFactory, Class<?> clazz,
+			String name) {
+		this.reflectionFactory = reflectionFactory;
+		this.clazz = clazz;
+		this.name = name;
+	}
+
+	/**
+	 * Gets the method which accepts a list of arguments
+	 * 
+	 * @param args
+	 *            The arguments
+	 * @return the proxy of the method, bound to its class, or
+	 *         <code>null</code> if no method accepts the arguments
+	 */
+	CoreMethodProxy resolve(Object[] args) {
+		Entry[] cached = entries;
+
+		for (int i = 0; i < cached.length; i++) {
+			if (cached[i].matches(args))
+				return cached[i].proxy;
+		}
+
+		return resolveAndCache(ReflectionUtils.getArgumentsTypes(args));
+	}
+
+	/**
+	 * Gets the method which accepts a list of argument types
+	 * 
+	 * @param types
+	 *            The types of the arguments
+	 * @return the proxy of the method, bound to its class, or
+	 *         <code>null</code> if no method accepts the arguments
+	 */
+	CoreMethodProxy resolve(Class<?>[] types) {
+		Entry[] cached = entries;
+
+		for (int i = 0; i < cached.length; i++) {
+			if (cached[i].matches(types))
+				return cached[i].proxy;
+		}
+
+		return resolveAndCache(types.clone());
+	}
+
+	/**
+	 * @return the amount of cached argument tuples
+	 */
+	int size() {
+		return entries.length;
+	}
+
+	private CoreMethodProxy resolveAndCache(Class<?>[] types) {
+		Method method = ReflectionUtils.lookupMethod(clazz, name, types);
+
+		if (method == null)
+			return null;
+
+		CoreMethodProxy proxy = new CoreMethodProxy(reflectionFactory, clazz,
+				method, clazz);
+
+		if (!ReflectionUtils.isLoadedBy(clazz.getClassLoader(), types))
+			return proxy;
+
+		synchronized (this) {
+			Entry[] cached = entries;
+
+			if (cached.length >= MAXIMUM_ENTRIES)
+				return proxy;
+
+			// Another thread may have cached the same tuple meanwhile
+			for (int i = 0; i < cached.length; i++) {
+				if (cached[i].matches(types))
+					return cached[i].proxy;
+			}
+
+			Entry[] grown = new Entry[cached.length + 1];
+			System.arraycopy(cached, 0, grown, 0, cached.length);
+			grown[cached.length] = new Entry(types, proxy);
+			entries = grown;
+		}
+
+		return proxy;
+	}
+
+	/**
+	 * A tuple of argument classes, where <code>null</code> stands for a
+	 * <code>null</code> argument, and the method picked for it
+	 */
+	private static final class Entry {
+
+		final Class<?>[] types;
+
+		final CoreMethodProxy proxy;
+
+		Entry(Class<?>[] types, CoreMethodProxy proxy) {
+			this.types = types;
+			this.proxy = proxy;
+		}
+
+		boolean matches(Object[] args) {
+			if (args.length != types.length)
+				return false;
+
+			for (int i = 0; i < args.length; i++) {
+				Object arg = args[i];
+				if ((arg == null ? null : arg.getClass()) != types[i])
+					return false;
+			}
+
+			return true;
+		}
+
+		boolean matches(Class<?>[] other) {
+			if (other.length != types.length)
+				return false;
+
+			for (int i = 0; i < other.length; i++) {
+				if (other[i] != types[i])
+					return false;
+			}
+
+			return true;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package br.mikhas.reflector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ClassCacheTest {
+
+	private static class CountingCache extends ClassCache<Object> {
+
+		final AtomicInteger created = new AtomicInteger();
+
+		CountingCache(int maximumSize) {
+			super(maximumSize);
+		}
+
+		@Override
+		protected Object create(Class<?> type) {
+			created.incrementAndGet();
+			return new Object();
+		}
+	}
+
+	@Test
+	public void testValueIsCached() {
+		CountingCache cache = new CountingCache(4);
+
+		Object value = cache.get(String.class);
+
+		Assert.assertSame(value, cache.get(String.class));
+		Assert.assertEquals(1, cache.created.get());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() {
+		CountingCache cache = new CountingCache(2);
+
+		Object string = cache.get(String.class);
+		Object integer = cache.get(Integer.class);
+		cache.get(String.class);
+		cache.get(Long.class);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertSame(string, cache.get(String.class));
+		Assert.assertNotSame(integer, cache.get(Integer.class));
+		Assert.assertEquals(4, cache.created.get());
+	}
+
+	@Test
+	public void testRemove() {
+		CountingCache cache = new CountingCache(4);
+
+		Object value = cache.get(String.class);
+		cache.remove(String.class);
+
+		Assert.assertEquals(0, cache.size());
+		Assert.assertNotSame(value, cache.get(String.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new CountingCache(0);
+	}
+}
@@ -0,0 +1,47 @@
+package br.mikhas.reflector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NameTableTest {
+
+	@Test
+	public void testLookup() {
+		String[] names = new String[100];
+		Integer[] values = new Integer[names.length];
+
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "field" + i;
+			values[i] = i;
+		}
+
+		NameTable<Integer> table = new NameTable<Integer>(names, values);
+
+		Assert.assertEquals(names.length, table.size());
+		for (int i = 0; i < names.length; i++) {
+			// A copy, so the lookup can not rely on identity
+			Assert.assertEquals(values[i], table.get(new String(names[i])));
+		}
+		Assert.assertNull(table.get("field100"));
+		Assert.assertNull(table.get(""));
+	}
+
+	@Test
+	public void testCollidingNames() {
+		// "Aa" and "BB" have the same hash code
+		NameTable<String> table = new NameTable<String>(new String[] { "Aa",
+				"BB" }, new String[] { "first", "second" });
+
+		Assert.assertEquals("first", table.get("Aa"));
+		Assert.assertEquals("second", table.get("BB"));
+		Assert.assertNull(table.get("AaAa"));
+	}
+
+	@Test
+	public void testEmpty() {
+		NameTable<String> table = new NameTable<String>(new String[0],
+				new String[0]);
+
+		Assert.assertNull(table.get("any"));
+	}
+}
@@ -2,7 +2,10 @@ package br.mikhas.reflector;
 
 import static br.mikhas.reflector.ReflectionUtils.getArgumentsTypes;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -32,6 +35,58 @@ public class ReflectionUtilsTest {
 		Assert.assertEquals("testMethod3", method3.getName());
 	}
 
+	@Test
+	public void testMemberIndex() throws Exception {
+		Assert.assertNull(ReflectionUtils.lookupMethod(TestBean.class,
+				"missing", new Class<?>[] { String.class }));
+		Assert.assertNull(ReflectionUtils.lookupMethod(TestBean.class,
+				"missing", new Class<?>[] { String.class }));
+
+		Assert.assertEquals(TestBean.class.getMethod("publicMethod",
+				Object.class), ReflectionUtils.lookupMethod(TestBean.class,
+				"publicMethod", new Class<?>[] { String.class }));
+		Assert.assertEquals(TestBean.class.getMethod("testMethod2",
+				int.class, Object.class), ReflectionUtils.lookupMethod(
+				TestBean.class, "testMethod2", new Class<?>[] { Integer.class,
+						String.class }));
+
+		Assert.assertEquals(TestBean.class.getConstructor(String.class),
+				ReflectionUtils.lookupConstructor(TestBean.class,
+						new Class<?>[] { null }));
+		Assert.assertEquals(TestBean.class.getConstructor(),
+				ReflectionUtils.lookupConstructor(TestBean.class, null));
+		Assert.assertNull(ReflectionUtils.lookupConstructor(TestBean.class,
+				new Class<?>[] { Integer.class }));
+	}
+
+	@Test
+	public void testMemberIndexDoesNotPinForeignLoaders() throws Exception {
+		WeakReference<ClassLoader> loader = lookupWithForeignType();
+
+		for (int attempt = 0; attempt < 50 && loader.get() != null; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		Assert.assertNull("The foreign class loader was not collected", loader
+				.get());
+	}
+
+	private static WeakReference<ClassLoader> lookupWithForeignType()
+			throws Exception {
+		URL classes = TestBean.class.getProtectionDomain().getCodeSource()
+				.getLocation();
+		URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+		Class<?> foreign = loader.loadClass(TestBean.class.getName());
+
+		Assert.assertNotSame(TestBean.class, foreign);
+		Assert.assertNull(ReflectionUtils.lookupMethod(TestBean.class,
+				"publicMethod", new Class<?>[] { foreign, foreign }));
+
+		loader.close();
+		return new WeakReference<ClassLoader>(loader);
+	}
+
 	@Test
 	public void testGetTypes() {
 		Class<?>[] types = getArgumentsTypes("asd");
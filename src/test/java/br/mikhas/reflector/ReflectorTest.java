@@ -0,0 +1,238 @@
+package br.mikhas.reflector;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import br.mikhas.reflector.ReflectorStats.Cache;
+import br.mikhas.reflector.config.FallbackReason;
+import br.mikhas.reflector.config.GenerationStats;
+import br.mikhas.reflector.config.JavassistReflectionFactory;
+import br.mikhas.reflector.config.JdkReflectionFactory;
+
+public class ReflectorTest {
+
+	@Test
+	public void testClassProxyIsShared() {
+		Reflector reflector = new Reflector();
+
+		ClassProxy<TestBean> proxy = reflector.on(TestBean.class);
+
+		Assert.assertSame(proxy, reflector.on(TestBean.class));
+		Assert.assertSame(proxy, reflector.on(TestBean.class.getName()));
+	}
+
+	@Test
+	public void testClassProxyPerReflector() {
+		Reflector reflector = new Reflector();
+		Reflector other = new Reflector(new JdkReflectionFactory());
+
+		Assert.assertNotSame(reflector.on(TestBean.class), other
+				.on(TestBean.class));
+	}
+
+	@Test
+	public void testMemberProxiesPerReflector() {
+		Reflector reflector = new Reflector();
+		Reflector other = new Reflector(new JdkReflectionFactory());
+
+		Assert.assertSame(reflector.on(TestBean.class).field("publicAttribute"),
+				reflector.on(TestBean.class).field("publicAttribute"));
+		Assert.assertSame(reflector.on(TestBean.class).method("publicMethod",
+				Object.class), reflector.on(TestBean.class).method(
+				"publicMethod", Object.class));
+		Assert.assertNotSame(reflector.on(TestBean.class).field(
+				"publicAttribute"), other.on(TestBean.class).field(
+				"publicAttribute"));
+	}
+
+	@Test
+	public void testConstructorProxyIsShared() {
+		Reflector reflector = new Reflector();
+		ClassProxy<TestBean> proxy = reflector.on(TestBean.class);
+
+		ConstructorProxy<TestBean> constructor = proxy
+				.constructor(String.class);
+		Assert.assertSame(constructor, proxy.constructor(String.class));
+		Assert.assertSame(constructor, reflector.on(new TestBean())
+				.constructor(String.class));
+		Assert.assertEquals("value", constructor.invoke("value")
+				.constructorParameter);
+
+		ConstructorProxy<TestBean>[] constructors = proxy.constructors();
+		Assert.assertNotSame(constructors, proxy.constructors());
+		Assert.assertSame(constructors[0], proxy.constructors()[0]);
+		Assert.assertTrue(Arrays.asList(constructors).contains(constructor));
+	}
+
+	@Test
+	public void testMembersByName() {
+		Reflector reflector = new Reflector();
+		ClassProxy<TestBean> proxy = reflector.on(TestBean.class);
+
+		Assert.assertSame(proxy.field("publicAttribute"), proxy
+				.field(new String("publicAttribute")));
+		Assert.assertEquals(2, proxy.methods("publicMethod").length);
+		Assert.assertEquals(0, proxy.methods("missing").length);
+		Assert.assertEquals("publicMethod", reflector.on(new TestBean())
+				.method("publicMethod", new Class<?>[0]).invoke());
+
+		try {
+			proxy.field("missing");
+			Assert.fail();
+		} catch (ReflectionException e) {
+			Assert.assertTrue(e.getMessage().contains("missing"));
+		}
+	}
+
+	@Test
+	public void testFieldSlots() {
+		Reflector reflector = new Reflector();
+		ClassProxy<TestBean> proxy = reflector.on(TestBean.class);
+		FieldSlots slots = proxy.fieldSlots();
+		TestBean bean = new TestBean();
+
+		int publicAttribute = proxy.fieldIndex("publicAttribute");
+		int performanceTest = slots.index("performanceTest");
+		Assert.assertEquals("publicAttribute", slots.name(publicAttribute));
+		Assert.assertEquals(-1, slots.index("missing"));
+		Assert.assertSame(slots, reflector.on(bean).fieldSlots());
+
+		slots.set(bean, publicAttribute, "value");
+		Assert.assertEquals("value", slots.get(bean, publicAttribute));
+		slots.setInt(bean, performanceTest, 7);
+		Assert.assertEquals(7L, slots.getLong(bean, performanceTest));
+
+		ObjectProxy<TestBean> object = reflector.on(bean);
+		object.set(publicAttribute, "other");
+		Assert.assertEquals("other", object.<String> get(publicAttribute));
+
+		try {
+			proxy.fieldIndex("missing");
+			Assert.fail();
+		} catch (ReflectionException e) {
+			Assert.assertTrue(e.getMessage().contains("missing"));
+		}
+	}
+
+	@Test
+	public void testBoundedReflector() {
+		Reflector reflector = new Reflector(new JdkReflectionFactory(), 1);
+
+		ClassProxy<TestBean> proxy = reflector.on(TestBean.class);
+		reflector.on(String.class);
+
+		Assert.assertNotSame(proxy, reflector.on(TestBean.class));
+		Assert.assertEquals("publicAttribute", reflector.on(TestBean.class)
+				.field("publicAttribute").name());
+	}
+
+	@Test
+	public void testStats() {
+		Reflector reflector = new Reflector(new JdkReflectionFactory(), 1);
+		ReflectorStats stats = reflector.stats();
+
+		reflector.on(TestBean.class).field("publicAttribute");
+		reflector.on(TestBean.class).field("publicAttribute");
+		reflector.on(String.class);
+
+		Assert.assertEquals(1, stats.misses(Cache.FIELD_PROXIES));
+		Assert.assertEquals(1, stats.hits(Cache.FIELD_PROXIES));
+		Assert.assertEquals(2, stats.misses(Cache.CLASSES));
+		Assert.assertEquals(1, stats.evictions());
+	}
+
+	@Test
+	public void testObjectFieldLookupSkipsClassProxies() {
+		Reflector reflector = new Reflector(new JdkReflectionFactory());
+		ReflectorStats stats = reflector.stats();
+
+		Assert.assertEquals("publicAttribute", reflector.on(new TestBean())
+				.field("publicAttribute").name());
+		Assert.assertEquals(0, stats.misses(Cache.FIELD_PROXIES));
+	}
+
+	@Test
+	public void testFallbackStats() throws Exception {
+		GenerationStats generation = new Reflector().stats().generation();
+		long fallbacks = generation.fallbacks(FallbackReason.UNSUPPORTED_MEMBER);
+
+		new JavassistReflectionFactory().getFieldAcessor(TestBean.class
+				.getDeclaredField("privateAttribute"));
+
+		Assert.assertEquals(fallbacks + 1, generation
+				.fallbacks(FallbackReason.UNSUPPORTED_MEMBER));
+	}
+
+	@Test
+	public void testPreload() {
+		Reflector reflector = new Reflector(new JdkReflectionFactory());
+		final AtomicInteger notified = new AtomicInteger();
+
+		PreloadReport report = reflector.preload(Arrays
+				.<Class<?>> asList(TestBean.class), ForkJoinPool.commonPool(),
+				new PreloadListener() {
+					@Override
+					public void preloaded(Class<?> type, int completed,
+							int total, long nanos) {
+						notified.incrementAndGet();
+					}
+				});
+
+		Assert.assertEquals(1, report.classes());
+		Assert.assertEquals(1, notified.get());
+		Assert.assertTrue(report.fieldAccessors() > 0);
+		Assert.assertTrue(report.methodInvokers() > 0);
+		Assert.assertTrue(report.times().containsKey(TestBean.class));
+
+		ReflectorStats stats = reflector.stats();
+		long misses = stats.misses(Cache.FIELD_ACCESSORS);
+		reflector.on(new TestBean()).field("publicAttribute").get();
+		Assert.assertEquals(misses, stats.misses(Cache.FIELD_ACCESSORS));
+	}
+
+	@Test
+	public void testPreloadPackage() {
+		Reflector reflector = new Reflector(new JdkReflectionFactory());
+
+		PreloadReport report = reflector
+				.preload("br.mikhas.reflector.annotation");
+
+		Assert.assertTrue(report.times().containsKey(
+				br.mikhas.reflector.annotation.CoreAnnotationProxy.class));
+		Assert.assertEquals(report.classes(), report.times().size());
+	}
+
+	@Test
+	public void testDroppedReflectorIsCollected() throws Exception {
+		List<WeakReference<ClassProxy<TestBean>>> proxies = new ArrayList<WeakReference<ClassProxy<TestBean>>>();
+
+		for (int i = 0; i < 50; i++) {
+			ClassProxy<TestBean> proxy = new Reflector().on(TestBean.class);
+			proxy.field("publicAttribute").get(new TestBean());
+			proxies.add(new WeakReference<ClassProxy<TestBean>>(proxy));
+		}
+
+		int collected = 0;
+		for (int attempt = 0; attempt < 50 && collected == 0; attempt++) {
+			System.gc();
+			Thread.sleep(10);
+			// Stale class values are expunged as the class gets new ones
+			new Reflector().on(TestBean.class);
+
+			collected = 0;
+			for (WeakReference<ClassProxy<TestBean>> proxy : proxies) {
+				if (proxy.get() == null)
+					collected++;
+			}
+		}
+
+		Assert.assertTrue("No dropped Reflector was collected", collected > 0);
+	}
+}
@@ -0,0 +1,136 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveReflectionFactoryTest {
+
+	public static class Bean {
+		public int value() {
+			return 42;
+		}
+	}
+
+	private static class CountingFactory extends MethodHandleReflectionFactory {
+
+		int invokers;
+
+		@Override
+		public MethodInvoker getMethodInvoker(Method method) {
+			invokers++;
+			return super.getMethodInvoker(method);
+		}
+	}
+
+	private static class FailingFactory extends MethodHandleReflectionFactory {
+
+		@Override
+		public MethodInvoker getMethodInvoker(Method method) {
+			throw new NativeInvokerCreationException("Could not generate: "
+					+ method);
+		}
+	}
+
+	@Test
+	public void testPromotion() throws Exception {
+		CountingFactory optimized = new CountingFactory();
+		MethodInvoker invoker = new AdaptiveReflectionFactory(optimized, 3)
+				.getMethodInvoker(Bean.class.getMethod("value"));
+		Bean bean = new Bean();
+
+		for (int i = 0; i < 3; i++)
+			Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(0, optimized.invokers);
+
+		for (int i = 0; i < 3; i++)
+			Assert.assertEquals(42, invoker.invoke0(bean));
+		Assert.assertEquals(1, optimized.invokers);
+	}
+
+	@Test
+	public void testBackgroundPromotion() throws Exception {
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				tasks.add(command);
+			}
+		};
+		CountingFactory optimized = new CountingFactory();
+		MethodInvoker invoker = new AdaptiveReflectionFactory(optimized, 0,
+				executor).getMethodInvoker(Bean.class.getMethod("value"));
+		Bean bean = new Bean();
+
+		Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(1, tasks.size());
+		Assert.assertEquals(0, optimized.invokers);
+
+		tasks.get(0).run();
+		Assert.assertEquals(1, optimized.invokers);
+		Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(1, tasks.size());
+	}
+
+	@Test
+	public void testFailedPromotion() throws Exception {
+		MethodInvoker invoker = new AdaptiveReflectionFactory(
+				new FailingFactory(), 1).getMethodInvoker(Bean.class
+				.getMethod("value"));
+		Bean bean = new Bean();
+		long fallbacks = GenerationStats.getDefault().fallbacks(
+				FallbackReason.GENERATION_FAILED);
+
+		for (int i = 0; i < 5; i++)
+			Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(fallbacks + 1, GenerationStats.getDefault()
+				.fallbacks(FallbackReason.GENERATION_FAILED));
+	}
+
+	@Test
+	public void testFailedBackgroundPromotion() throws Exception {
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				tasks.add(command);
+			}
+		};
+		MethodInvoker invoker = new AdaptiveReflectionFactory(
+				new FailingFactory(), 0, executor).getMethodInvoker(Bean.class
+				.getMethod("value"));
+		Bean bean = new Bean();
+		long fallbacks = GenerationStats.getDefault().fallbacks(
+				FallbackReason.GENERATION_FAILED);
+
+		Assert.assertEquals(42, invoker.invokeInt(bean));
+		tasks.get(0).run();
+		Assert.assertEquals(fallbacks + 1, GenerationStats.getDefault()
+				.fallbacks(FallbackReason.GENERATION_FAILED));
+
+		for (int i = 0; i < 3; i++)
+			Assert.assertEquals(42, invoker.invokeInt(bean));
+		Assert.assertEquals(1, tasks.size());
+	}
+
+	@Test
+	public void testBackgroundExecutor() throws Exception {
+		MethodInvoker invoker = new AdaptiveReflectionFactory(
+				new JavassistReflectionFactory(), 0, AdaptiveReflectionFactory
+						.getBackgroundExecutor()).getMethodInvoker(Bean.class
+				.getMethod("value"));
+
+		for (int i = 0; i < 100; i++)
+			Assert.assertEquals(42, invoker.invoke0(new Bean()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeThreshold() {
+		new AdaptiveReflectionFactory(new JdkReflectionFactory(), -1);
+	}
+}
@@ -0,0 +1,130 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import br.mikhas.reflector.ReflectionException;
+
+@RunWith(Parameterized.class)
+public class ConstructorInvokerTest {
+
+	public static class Bean {
+		public final String name;
+		public final long counter;
+
+		public Bean() {
+			this("default", 0L);
+		}
+
+		public Bean(String name, long counter) {
+			this.name = name;
+			this.counter = counter;
+		}
+
+		private Bean(String name) {
+			this(name, -1L);
+		}
+
+		public Bean(int fail) {
+			throw new IllegalStateException("fail");
+		}
+
+		public Bean(long... values) {
+			long counter = 0L;
+			for (long value : values)
+				counter += value;
+			this.name = "sum";
+			this.counter = counter;
+		}
+	}
+
+	@Parameters
+	public static Collection<Object[]> factories() {
+		return Arrays.asList(new Object[][] {
+				{ new JdkReflectionFactory() },
+				{ new JavassistReflectionFactory() },
+				{ new MethodHandleReflectionFactory() },
+				{ new LambdaReflectionFactory() },
+				{ new AdaptiveReflectionFactory(
+						new JavassistReflectionFactory(), 1) },
+				{ new MembersOnlyFactory() } });
+	}
+
+	/**
+	 * A factory which leaves constructors to the default implementation
+	 */
+	static class MembersOnlyFactory implements ReflectionFactory {
+
+		@Override
+		public FieldAccessor getFieldAcessor(Field field) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public MethodInvoker getMethodInvoker(Method method) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private final ReflectionFactory factory;
+
+	public ConstructorInvokerTest(ReflectionFactory factory) {
+		this.factory = factory;
+	}
+
+	private ConstructorInvoker invoker(Class<?>... types) throws Exception {
+		Constructor<?> constructor = Bean.class.getDeclaredConstructor(types);
+		return factory.getConstructorInvoker(constructor);
+	}
+
+	@Test
+	public void testNoArgConstructor() throws Exception {
+		Bean bean = (Bean) invoker().newInstance();
+
+		Assert.assertEquals("default", bean.name);
+	}
+
+	@Test
+	public void testConstructorArguments() throws Exception {
+		Bean bean = (Bean) invoker(String.class, long.class).newInstance(
+				"bean", 3L);
+
+		Assert.assertEquals("bean", bean.name);
+		Assert.assertEquals(3L, bean.counter);
+	}
+
+	@Test
+	public void testPrivateConstructor() throws Exception {
+		Bean bean = (Bean) invoker(String.class).newInstance("secret");
+
+		Assert.assertEquals(-1L, bean.counter);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testFailingConstructor() throws Exception {
+		invoker(int.class).newInstance(1);
+	}
+
+	@Test(expected = ReflectionException.class)
+	public void testWrongArity() throws Exception {
+		invoker(String.class, long.class).newInstance("bean");
+	}
+
+	@Test
+	public void testVarargsConstructor() throws Exception {
+		Bean bean = (Bean) invoker(long[].class).newInstance(
+				new long[] { 1L, 2L, 3L });
+
+		Assert.assertEquals("sum", bean.name);
+		Assert.assertEquals(6L, bean.counter);
+	}
+}
@@ -0,0 +1,182 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import br.mikhas.reflector.field.AccessMode;
+import br.mikhas.reflector.field.FieldReflectionException;
+
+@RunWith(Parameterized.class)
+public class FieldAccessorTest {
+
+	public static class Bean {
+		public boolean booleanField;
+		public byte byteField;
+		public char charField;
+		public short shortField;
+		public int intField;
+		public long longField;
+		public float floatField;
+		public double doubleField;
+		public String stringField;
+
+		// Names with the same hash code
+		public int Aa;
+		public int BB;
+
+		public static long staticLong;
+	}
+
+	@Parameters
+	public static Collection<Object[]> factories() {
+		return Arrays.asList(new Object[][] {
+				{ new JdkReflectionFactory() },
+				{ new UnsafeReflectionFactory() },
+				{ new ForwardingUnsafeReflectionFactory() },
+				{ new JavassistReflectionFactory() },
+				{ new MethodHandleReflectionFactory() },
+				{ new VarHandleReflectionFactory() },
+				{ new AdaptiveReflectionFactory(
+						new JavassistReflectionFactory(), 1) } });
+	}
+
+	/**
+	 * Creates accessors through the deprecated constructor, which forwards to
+	 * the specialized accessor
+	 */
+	static class ForwardingUnsafeReflectionFactory extends
+			UnsafeReflectionFactory {
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public FieldAccessor getFieldAcessor(Field field) {
+			return new UnsafeFieldAccessor(field);
+		}
+	}
+
+	private final ReflectionFactory factory;
+
+	public FieldAccessorTest(ReflectionFactory factory) {
+		this.factory = factory;
+	}
+
+	private FieldAccessor accessor(String name) throws Exception {
+		Field field = Bean.class.getDeclaredField(name);
+		return factory.getFieldAcessor(field);
+	}
+
+	@Test
+	public void testTypedAccess() throws Exception {
+		Bean bean = new Bean();
+
+		accessor("booleanField").setBoolean(bean, true);
+		accessor("byteField").setByte(bean, (byte) 1);
+		accessor("charField").setChar(bean, 'c');
+		accessor("shortField").setShort(bean, (short) 2);
+		accessor("intField").setInt(bean, 3);
+		accessor("longField").setLong(bean, 4L);
+		accessor("floatField").setFloat(bean, 5.5f);
+		accessor("doubleField").setDouble(bean, 6.5);
+		accessor("stringField").setObject(bean, "string");
+
+		Assert.assertTrue(accessor("booleanField").getBoolean(bean));
+		Assert.assertEquals(1, accessor("byteField").getByte(bean));
+		Assert.assertEquals('c', accessor("charField").getChar(bean));
+		Assert.assertEquals(2, accessor("shortField").getShort(bean));
+		Assert.assertEquals(3, accessor("intField").getInt(bean));
+		Assert.assertEquals(4L, accessor("longField").getLong(bean));
+		Assert.assertEquals(5.5f, accessor("floatField").getFloat(bean), 0);
+		Assert.assertEquals(6.5, accessor("doubleField").getDouble(bean), 0);
+		Assert.assertEquals("string", accessor("stringField").getObject(bean));
+	}
+
+	@Test
+	public void testWidening() throws Exception {
+		Bean bean = new Bean();
+
+		accessor("longField").setInt(bean, 7);
+		Assert.assertEquals(7L, bean.longField);
+
+		bean.intField = 8;
+		Assert.assertEquals(8L, accessor("intField").getLong(bean));
+		Assert.assertEquals(8.0, accessor("intField").getDouble(bean), 0);
+
+		bean.charField = 'a';
+		Assert.assertEquals('a', accessor("charField").getInt(bean));
+	}
+
+	@Test(expected = FieldReflectionException.class)
+	public void testNarrowingRead() throws Exception {
+		accessor("longField").getInt(new Bean());
+	}
+
+	@Test(expected = FieldReflectionException.class)
+	public void testNarrowingWrite() throws Exception {
+		accessor("intField").setLong(new Bean(), 1L);
+	}
+
+	@Test(expected = FieldReflectionException.class)
+	public void testIllegalReference() throws Exception {
+		accessor("stringField").set(new Bean(), Integer.valueOf(1));
+	}
+
+	@Test
+	public void testBoxedAccess() throws Exception {
+		Bean bean = new Bean();
+
+		accessor("longField").set(bean, 9L);
+		Assert.assertEquals(9L, accessor("longField").get(bean));
+		Assert.assertEquals(9L, accessor("longField").getObject(bean));
+	}
+
+	@Test
+	public void testStaticField() throws Exception {
+		accessor("staticLong").setLong(Bean.class, 10L);
+		Assert.assertEquals(10L, Bean.staticLong);
+		Assert.assertEquals(10L, accessor("staticLong").getLong(null));
+	}
+
+	@Test
+	public void testCollidingFieldNames() throws Exception {
+		Bean bean = new Bean();
+
+		accessor("Aa").setInt(bean, 1);
+		accessor("BB").setInt(bean, 2);
+
+		Assert.assertEquals(1, bean.Aa);
+		Assert.assertEquals(2, bean.BB);
+		Assert.assertEquals(2, accessor("BB").getInt(bean));
+	}
+
+	@Test
+	public void testAccessModes() throws Exception {
+		Bean bean = new Bean();
+		FieldAccessor accessor = accessor("intField");
+
+		for (AccessMode mode : AccessMode.values()) {
+			accessor.set(bean, mode.ordinal(), mode);
+			Assert.assertEquals(mode.ordinal(), bean.intField);
+			Assert.assertEquals(mode.ordinal(), accessor.get(bean, mode));
+		}
+	}
+
+	@Test
+	public void testInaccessibleField() throws Exception {
+		// java.lang is not opened to this library
+		Field field = String.class.getDeclaredField("hash");
+		FieldAccessor accessor = factory.getFieldAcessor(field);
+
+		try {
+			accessor.get("reflector");
+		} catch (FieldReflectionException e) {
+			// Backends which honour the module system can only deny it
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import br.mikhas.reflector.method.MethodInvocationException;
+@RunWith(Parameterized.class)
+public class MethodInvokerTest {
+
+	public static class Bean {
+		public long counter;
+
+		public long getCounter() {
+			return counter;
+		}
+
+		public void setCounter(long counter) {
+			this.counter = counter;
+		}
+
+		public String concat(String a, int b, Object c) {
+			return a + b + c;
+		}
+
+		public static int twice(int value) {
+			return value * 2;
+		}
+
+		@SuppressWarnings("unused")
+		private String secret() {
+			return "secret";
+		}
+
+		public void fail() {
+			throw new IllegalStateException("fail");
+		}
+
+		public String join(String separator, Object... parts) {
+			StringBuilder joined = new StringBuilder();
+			for (Object part : parts) {
+				if (joined.length() > 0)
+					joined.append(separator);
+				joined.append(part);
+			}
+			return joined.toString();
+		}
+
+		public String over(int value) {
+			return "int" + value;
+		}
+
+		public String over(String value) {
+			return "String" + value;
+		}
+
+		public static int sum(int... values) {
+			int sum = 0;
+			for (int value : values)
+				sum += value;
+			return sum;
+		}
+	}
+
+	@Parameters
+	public static Collection<Object[]> factories() {
+		return Arrays.asList(new Object[][] {
+				{ new JdkReflectionFactory() },
+				{ new JavassistReflectionFactory() },
+				{ new JavassistReflectionFactory(InvokerLayout.PER_CLASS) },
+				{ new MethodHandleReflectionFactory() },
+				{ new LambdaReflectionFactory() },
+				{ new AdaptiveReflectionFactory(
+						new JavassistReflectionFactory(), 1) } });
+	}
+
+	private final ReflectionFactory factory;
+
+	public MethodInvokerTest(ReflectionFactory factory) {
+		this.factory = factory;
+	}
+
+	private MethodInvoker invoker(String name, Class<?>... types)
+			throws Exception {
+		Method method = Bean.class.getDeclaredMethod(name, types);
+		return factory.getMethodInvoker(method);
+	}
+
+	@Test
+	public void testInstanceMethods() throws Exception {
+		Bean bean = new Bean();
+
+		Assert.assertNull(invoker("setCounter", long.class).invoke(bean, 5L));
+		Assert.assertEquals(5L, invoker("getCounter").invoke(bean));
+		Assert.assertEquals("a1null", invoker("concat", String.class,
+				int.class, Object.class).invoke(bean, "a", 1, null));
+	}
+
+	@Test
+	public void testStaticMethod() throws Exception {
+		Assert.assertEquals(4, invoker("twice", int.class).invoke(null, 2));
+	}
+
+	@Test
+	public void testPrivateMethod() throws Exception {
+		Assert.assertEquals("secret", invoker("secret").invoke(new Bean()));
+	}
+
+	@Test
+	public void testLambdaInvoker() throws Exception {
+		Method method = Bean.class.getDeclaredMethod("concat", String.class,
+				int.class, Object.class);
+
+		MethodInvoker invoker = LambdaInvokers.create(method);
+
+		Assert.assertEquals("b2c", invoker.invoke(new Bean(), "b", 2, 'c'));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testFailingMethod() throws Exception {
+		invoker("fail").invoke(new Bean());
+	}
+
+	@Test
+	public void testArityEntryPoints() throws Exception {
+		Bean bean = new Bean();
+
+		Assert.assertNull(invoker("setCounter", long.class).invoke1(bean, 6L));
+		Assert.assertEquals(6L, invoker("getCounter").invoke0(bean));
+		Assert.assertEquals("a1b", invoker("concat", String.class, int.class,
+				Object.class).invoke3(bean, "a", 1, "b"));
+		Assert.assertEquals(6, invoker("twice", int.class).invoke1(null, 3));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testWrongArity() throws Exception {
+		invoker("getCounter").invoke1(new Bean(), 1L);
+	}
+
+	@Test
+	public void testTypedResults() throws Exception {
+		Bean bean = new Bean();
+		bean.counter = 7L;
+
+		Assert.assertEquals(7L, invoker("getCounter").invokeLong(bean));
+		Assert.assertEquals(7.0, invoker("getCounter").invokeDouble(bean), 0);
+		Assert.assertEquals(8, invoker("twice", int.class).invokeInt(null, 4));
+		Assert.assertEquals(8L, invoker("twice", int.class).invokeLong(null, 4));
+	}
+
+	@Test
+	public void testTypedResultsOfArgumentArray() throws Exception {
+		Bean bean = new Bean();
+		bean.counter = 7L;
+
+		Assert.assertEquals(7L, invoker("getCounter").invokeLong(bean,
+				new Object[0]));
+		Assert.assertEquals(8, invoker("twice", int.class).invokeInt(null,
+				new Object[] { 4 }));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testTypedWrongArity() throws Exception {
+		invoker("twice", int.class).invokeInt(null);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testNarrowingResult() throws Exception {
+		invoker("getCounter").invokeInt(new Bean());
+	}
+
+	@Test
+	public void testVarargsMethods() throws Exception {
+		Bean bean = new Bean();
+		MethodInvoker join = invoker("join", String.class, Object[].class);
+		MethodInvoker sum = invoker("sum", int[].class);
+
+		Assert.assertEquals("x-1-2", join.invoke(bean, "-", new Object[] {
+				"x", 1, 2 }));
+		Assert.assertEquals("x-1-2", join.invoke2(bean, "-", new Object[] {
+				"x", 1, 2 }));
+		Assert.assertEquals(6, sum.invoke(null, new int[] { 1, 2, 3 }));
+		Assert.assertEquals(6, sum.invokeInt(null, new int[] { 1, 2, 3 }));
+	}
+
+	@Test
+	public void testOverloads() throws Exception {
+		Bean bean = new Bean();
+
+		Assert.assertEquals("int1", invoker("over", int.class).invoke(bean, 1));
+		Assert.assertEquals("Stringa", invoker("over", String.class).invoke(
+				bean, "a"));
+	}
+
+	@Test
+	public void testInaccessibleMethod() throws Exception {
+		// java.lang is not opened to this library
+		Method method = String.class.getDeclaredMethod("isLatin1");
+		MethodInvoker invoker = factory.getMethodInvoker(method);
+
+		try {
+			invoker.invoke("reflector");
+		} catch (MethodInvocationException e) {
+			// Backends which honour the module system can only deny it
+		}
+	}
+}
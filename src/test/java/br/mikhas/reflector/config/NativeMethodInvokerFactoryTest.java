@@ -0,0 +1,150 @@
+package br.mikhas.reflector.config;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.mikhas.reflector.config.NativeMethodInvokerFactory.ClassGenerator;
+
+public class NativeMethodInvokerFactoryTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	public static class Bean {
+		public int one() {
+			return 1;
+		}
+
+		public int two() {
+			return 2;
+		}
+
+		public static String name(String prefix) {
+			return prefix + "Bean";
+		}
+	}
+
+	public static class ArrayBean {
+		public int length(Object[] values) {
+			return values.length;
+		}
+
+		public static String first(String... values) {
+			return values[0];
+		}
+
+		public int[][] pair(int a, int b) {
+			return new int[][] { { a, b } };
+		}
+	}
+
+	@Test
+	public void testDispatcherIsShared() throws Exception {
+		NativeMethodInvokerFactory factory = NativeMethodInvokerFactory
+				.getDefault();
+
+		DispatchedMethodInvoker one = (DispatchedMethodInvoker) factory
+				.getDispatchedFor(Bean.class.getMethod("one"));
+		DispatchedMethodInvoker two = (DispatchedMethodInvoker) factory
+				.getDispatchedFor(Bean.class.getMethod("two"));
+		MethodInvoker name = factory.getDispatchedFor(Bean.class.getMethod(
+				"name", String.class));
+
+		Assert.assertSame(one.dispatcher, two.dispatcher);
+		Assert.assertNotEquals(one.index, two.index);
+		Assert.assertEquals(1, one.invoke(new Bean()));
+		Assert.assertEquals(2, two.invokeInt(new Bean()));
+		Assert.assertEquals("aBean", name.invoke1(null, "a"));
+	}
+
+	@Test
+	public void testDispatcherWithArrays() throws Exception {
+		NativeMethodInvokerFactory factory = NativeMethodInvokerFactory
+				.getDefault();
+		ArrayBean bean = new ArrayBean();
+
+		MethodInvoker length = factory.getDispatchedFor(ArrayBean.class
+				.getMethod("length", Object[].class));
+		MethodInvoker first = factory.getDispatchedFor(ArrayBean.class
+				.getMethod("first", String[].class));
+		MethodInvoker pair = factory.getDispatchedFor(ArrayBean.class
+				.getMethod("pair", int.class, int.class));
+
+		Assert.assertTrue(length instanceof DispatchedMethodInvoker);
+		Assert.assertEquals(2, length.invoke1(bean, new Object[] { 1, 2 }));
+		Assert.assertEquals("a", first.invoke1(null, new String[] { "a" }));
+		Assert.assertArrayEquals(new int[][] { { 3, 4 } }, (int[][]) pair
+				.invoke2(bean, 3, 4));
+	}
+
+	@Test
+	public void testGeneratedClassNameCollision() throws Exception {
+		NativeMethodInvokerFactory factory = NativeMethodInvokerFactory
+				.getDefault();
+		Method one = Bean.class.getMethod("one");
+		Method two = Bean.class.getMethod("two");
+		Class<?> invokerClass = factory.getFor(one).getClass();
+		final List<String> generated = new ArrayList<String>();
+
+		ClassGenerator generator = new ClassGenerator() {
+			@Override
+			public byte[] generate(String name) {
+				generated.add(name);
+				throw new NativeInvokerCreationException(name);
+			}
+		};
+
+		Assert.assertEquals(one.toString(), NativeMethodInvokerFactory
+				.signatureOf(invokerClass));
+		Assert.assertSame(invokerClass, factory.getGeneratedClass(Bean.class,
+				invokerClass.getName(), one.toString(), generator));
+
+		// Another signature under the same name is generated under the next
+		try {
+			factory.getGeneratedClass(Bean.class, invokerClass.getName(), two
+					.toString(), generator);
+			Assert.fail();
+		} catch (NativeInvokerCreationException e) {
+			Assert.assertEquals(Arrays.asList(invokerClass.getName() + 1),
+					generated);
+		}
+	}
+
+	@Test
+	public void testBytecodeCache() throws Exception {
+		File directory = folder.newFolder();
+		BytecodeCache cache = new BytecodeCache(directory,
+				NativeMethodInvokerFactory.class);
+		byte[] bytecode = { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA,
+				(byte) 0xBE };
+
+		Assert.assertNull(cache.load(Bean.class, "Generated", "one()"));
+
+		cache.store(Bean.class, "Generated", "one()", bytecode);
+
+		Assert.assertArrayEquals(bytecode, cache.load(Bean.class,
+				"Generated", "one()"));
+		Assert.assertNull(cache.load(Bean.class, "Generated", "two()"));
+		Assert.assertNull(cache.load(NativeMethodInvokerFactoryTest.class,
+				"Generated", "one()"));
+
+		// A corrupted entry is ignored
+		File[] entries = directory.listFiles();
+		Assert.assertEquals(1, entries.length);
+		RandomAccessFile file = new RandomAccessFile(entries[0], "rw");
+		file.seek(file.length() - 1);
+		file.write(0);
+		file.close();
+
+		Assert.assertNull(cache.load(Bean.class, "Generated", "one()"));
+	}
+}
@@ -0,0 +1,22 @@
+package br.mikhas.reflector.config;
+
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import br.mikhas.reflector.TestBean;
+
+public class PrecompiledReflectionFactoryTest {
+
+	@Test
+	public void testSkipsBrokenProviders() throws Exception {
+		// The test services file names a class which does not exist
+		ReflectionFactory factory = new PrecompiledReflectionFactory(
+				new JdkReflectionFactory());
+		Method method = TestBean.class.getMethod("publicMethod", Object.class);
+
+		Assert.assertTrue(factory.getMethodInvoker(method) instanceof
+				JdkMethodInvoker);
+	}
+}
@@ -0,0 +1,98 @@
+package br.mikhas.reflector.method;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import br.mikhas.reflector.ReflectionException;
+import br.mikhas.reflector.config.JdkReflectionFactory;
+
+public class OverloadCacheTest {
+
+	public static class Bean {
+		public String describe() {
+			return "none";
+		}
+
+		public String describe(Object value) {
+			return "object";
+		}
+
+		public String describe(String value) {
+			return "string";
+		}
+	}
+
+	@Test
+	public void testResolvesOncePerTuple() {
+		OverloadCache overloads = new OverloadCache(new JdkReflectionFactory(),
+				Bean.class, "describe");
+		AmbiguousMethodProxy proxy = new AmbiguousMethodProxyImpl(overloads,
+				new Bean());
+
+		Assert.assertEquals("string", proxy.invoke("a"));
+		Assert.assertEquals("string", proxy.invoke("b"));
+		Assert.assertEquals(1, overloads.size());
+
+		Assert.assertEquals("object", proxy.invoke(1));
+		Assert.assertEquals("object", proxy.invoke(new Object()));
+		Assert.assertEquals("none", proxy.invoke());
+		Assert.assertEquals(4, overloads.size());
+
+		Assert.assertSame(overloads.resolve(new Object[] { "c" }), overloads
+				.resolve(new Class<?>[] { String.class }));
+	}
+
+	@Test
+	public void testMegamorphicCallsAreNotCached() {
+		OverloadCache overloads = new OverloadCache(new JdkReflectionFactory(),
+				Bean.class, "describe");
+		Object[] values = { "a", 1, 1L, 1.0, 1f, 'c', (short) 1, (byte) 1,
+				true, new Object() };
+
+		for (Object value : values)
+			Assert.assertNotNull(overloads.resolve(new Object[] { value }));
+
+		Assert.assertEquals(OverloadCache.MAXIMUM_ENTRIES, overloads.size());
+	}
+
+	@Test
+	public void testForeignTuplesAreNotCached() throws Exception {
+		OverloadCache overloads = new OverloadCache(new JdkReflectionFactory(),
+				Bean.class, "describe");
+		URL classes = Bean.class.getProtectionDomain().getCodeSource()
+				.getLocation();
+		URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+
+		try {
+			Object foreign = loader.loadClass(Bean.class.getName())
+					.getConstructor().newInstance();
+
+			Assert.assertNotNull(overloads.resolve(new Object[] { foreign }));
+			Assert.assertEquals(0, overloads.size());
+		} finally {
+			loader.close();
+		}
+	}
+
+	@Test
+	public void testBoundProxyIsReused() {
+		AmbiguousMethodProxy proxy = new AmbiguousMethodProxyImpl(
+				new OverloadCache(new JdkReflectionFactory(), Bean.class,
+						"describe"), new Bean());
+
+		MethodProxy bound = proxy.withArgs(String.class);
+
+		Assert.assertSame(bound, proxy.withArgs(String.class));
+		Assert.assertEquals("string", bound.invoke("a"));
+		Assert.assertEquals("none", proxy.withoutArgs().invoke());
+	}
+
+	@Test(expected = ReflectionException.class)
+	public void testMethodNotFound() {
+		new AmbiguousMethodProxyImpl(new JdkReflectionFactory(), Bean.class,
+				"describe").invoke("a", "b");
+	}
+}